@@ -0,0 +1,144 @@
+package co.com.foodbank.user.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.mapper.UserMapperImpl;
+import co.com.foodbank.user.service.UserAssembler;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vehicule.dto.Vehicule;
+
+/**
+ * Throughput of the {@link UserAssembler} methods that build the users of
+ * the create and update requests, and of the ModelMapper conversion to
+ * {@code IUser} the responses had. The assembler is wired by spring with
+ * the UserMapper of the application.
+ *
+ * The main runs it with the GC profiler, to see the allocation rate next to
+ * the throughput:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     co.com.foodbank.user.benchmark.AssemblerBenchmark
+ * </pre>
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssemblerBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private UserAssembler assembler;
+    private ModelMapper modelMapper;
+
+    private VolunterDTO volunterDto;
+    private BeneficiaryDTO beneficiaryDto;
+    private ProviderDTO providerDto;
+
+    private Volunter volunter;
+    private Beneficiary beneficiary;
+    private Provider provider;
+
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(ModelMapper.class);
+        context.registerBean(UserMapperImpl.class);
+        context.registerBean(UserAssembler.class);
+        context.refresh();
+
+        assembler = context.getBean(UserAssembler.class);
+        modelMapper = context.getBean(ModelMapper.class);
+
+        volunterDto = Fixtures.read("volunter", VolunterDTO.class);
+        beneficiaryDto = Fixtures.read("beneficiary", BeneficiaryDTO.class);
+        providerDto = Fixtures.read("provider", ProviderDTO.class);
+
+        volunter = assembler.setVolunter(volunterDto);
+        beneficiary = assembler.setBeneficiary(beneficiaryDto);
+        provider = assembler.setProvider(providerDto);
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+
+    @Benchmark
+    public Volunter setVolunter() {
+        return assembler.setVolunter(volunterDto);
+    }
+
+    @Benchmark
+    public Beneficiary setBeneficiary() {
+        return assembler.setBeneficiary(beneficiaryDto);
+    }
+
+    @Benchmark
+    public Provider setProvider() {
+        return assembler.setProvider(providerDto);
+    }
+
+    @Benchmark
+    public Address setAddress() {
+        return assembler.setAddress(volunterDto.getAddress());
+    }
+
+    @Benchmark
+    public Vehicule setVehicule() {
+        return assembler.setVehicule(volunterDto);
+    }
+
+    @Benchmark
+    public IUser volunterToIUser() {
+        return modelMapper.map(volunter, IUser.class);
+    }
+
+    @Benchmark
+    public IUser beneficiaryToIUser() {
+        return modelMapper.map(beneficiary, IUser.class);
+    }
+
+    @Benchmark
+    public IUser providerToIUser() {
+        return modelMapper.map(provider, IUser.class);
+    }
+
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AssemblerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+}
@@ -0,0 +1,191 @@
+package co.com.foodbank.user.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.validation.Validator;
+import org.bson.types.ObjectId;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.user.config.CacheConfig;
+import co.com.foodbank.user.config.VaultClientProperties;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.mapper.UserMapperImpl;
+import co.com.foodbank.user.repository.BeneficiaryRepository;
+import co.com.foodbank.user.repository.ContributionStore;
+import co.com.foodbank.user.repository.ProviderRepository;
+import co.com.foodbank.user.repository.UserRepository;
+import co.com.foodbank.user.repository.VolunterRepository;
+import co.com.foodbank.user.service.OptimisticRetry;
+import co.com.foodbank.user.service.ResilientVaultService;
+import co.com.foodbank.user.service.UserAssembler;
+import co.com.foodbank.user.service.UserService;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link UserService#updateContribution} on a provider with many vaults and
+ * a vault with many contributions: the {@code Pending} state, the mapping of
+ * the data to a general and a detail contribution, the lookup of the vault
+ * and of the contribution and the save, on the {@link
+ * InMemoryContributionStore} instead of the database. The contribution
+ * replaced is the last one of the last vault, the other vaults are empty.
+ *
+ * The main runs it with the GC profiler:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     co.com.foodbank.user.benchmark.ContributionBenchmark
+ * </pre>
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContributionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int vaults;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int contributions;
+
+    private AnnotationConfigApplicationContext context;
+    private UserService userService;
+
+    private ContributionData data;
+    private String idVault;
+    private String idContribution;
+
+
+    @Setup
+    public void setup() {
+        InMemoryContributionStore store = new InMemoryContributionStore();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(ModelMapper.class);
+        context.registerBean(UserMapperImpl.class);
+        context.registerBean(UserAssembler.class);
+        context.registerBean(UserService.class);
+        context.registerBean(ContributionStore.class, () -> store);
+        context.registerBean(CacheManager.class,
+                () -> new CaffeineCacheManager(CacheConfig.USERS_BY_ID,
+                        CacheConfig.USERS_BY_DNI, CacheConfig.USERS_BY_CUIT));
+        context.registerBean(OptimisticRetry.class,
+                () -> new OptimisticRetry(new SimpleMeterRegistry(), 5));
+        context.registerBean(ResilientVaultService.class,
+                () -> new ResilientVaultService(null,
+                        new VaultClientProperties(),
+                        new SimpleMeterRegistry()));
+        context.registerBean(UserRepository.class,
+                () -> unused(UserRepository.class));
+        context.registerBean(ProviderRepository.class,
+                () -> unused(ProviderRepository.class));
+        context.registerBean(VolunterRepository.class,
+                () -> unused(VolunterRepository.class));
+        context.registerBean(BeneficiaryRepository.class,
+                () -> unused(BeneficiaryRepository.class));
+        context.registerBean(Validator.class, () -> unused(Validator.class));
+        context.refresh();
+
+        userService = context.getBean(UserService.class);
+        UserAssembler assembler = context.getBean(UserAssembler.class);
+
+        data = Fixtures.read("contribution", ContributionData.class);
+
+        Collection<IVault> sucursal = new ArrayList<>(vaults);
+        Vault last = null;
+        for (int i = 0; i < vaults; i++) {
+            last = new Vault();
+            last.setId(new ObjectId().toHexString());
+            last.setContribution(new ArrayList<>());
+            sucursal.add(last);
+        }
+
+        List<IContribution> list = new ArrayList<>(contributions);
+        for (int i = 0; i < contributions; i++) {
+            idContribution = new ObjectId().toHexString();
+            list.add(assembler.checkTypeOfContribution(data, idContribution));
+        }
+        last.setContribution(list);
+        idVault = last.getId();
+
+        Provider provider = assembler.setProvider(
+                Fixtures.read("provider", ProviderDTO.class));
+        provider.setId(new ObjectId().toHexString());
+        provider.setVersion(0L);
+        provider.setSucursal(sucursal);
+        store.save(provider);
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+
+    @Benchmark
+    public IProvider updateContribution() {
+        return userService.updateContribution(data, idVault, idContribution);
+    }
+
+
+    /**
+     * Collaborators the update does not use, they fail when they are called.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T unused(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] {type}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return type.getSimpleName();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(
+                                    method.getName());
+                    }
+                });
+    }
+
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContributionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+}
@@ -0,0 +1,39 @@
+package co.com.foodbank.user.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Realistic request bodies for the benchmarks, read from the json files in
+ * {@code fixtures/} the same way the rest controller receives them.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+public final class Fixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().configure(
+            DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private Fixtures() {}
+
+
+    /**
+     * Method to read a fixture.
+     *
+     * @param name
+     * @param type
+     * @return {@code T}
+     */
+    public static <T> T read(String name, Class<T> type) {
+        try (InputStream in = Fixtures.class
+                .getResourceAsStream("/fixtures/" + name + ".json")) {
+            return MAPPER.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
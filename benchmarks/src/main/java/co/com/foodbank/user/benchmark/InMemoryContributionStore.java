@@ -0,0 +1,93 @@
+package co.com.foodbank.user.benchmark;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.repository.ContributionStore;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.ProviderAggregate;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+
+/**
+ * Stand-in of the database for the contribution benchmarks, the providers
+ * are kept in maps. The upsert does in memory what the database does with
+ * the embedded storage: finds the provider by the id of the vault, finds the
+ * contribution in the vault, replaces or adds it and sets the next version.
+ *
+ * The vaults are indexed once when the provider is saved in the setup, each
+ * provider keeps its {@link ProviderAggregate} and an upsert only changes
+ * the vault it touches, so the measure is the one of the service.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+public class InMemoryContributionStore implements ContributionStore {
+
+    private final Map<String, ProviderAggregate> providers =
+            new ConcurrentHashMap<>();
+
+    private final Map<String, String> providerByVault =
+            new ConcurrentHashMap<>();
+
+
+    /**
+     * Method to save a provider and index its vaults.
+     *
+     * @param provider
+     */
+    public void save(Provider provider) {
+        providers.put(provider.getId(), ProviderAggregate.of(provider));
+        if (!Objects.isNull(provider.getSucursal())) {
+            for (IVault vault : provider.getSucursal()) {
+                providerByVault.put(vault.getId(), provider.getId());
+            }
+        }
+    }
+
+
+    @Override
+    public Provider upsert(String idVault, IContribution contribution) {
+
+        String id = providerByVault.get(idVault);
+        if (Objects.isNull(id)) {
+            return null;
+        }
+
+        ProviderAggregate aggregate = providers.get(id);
+        synchronized (aggregate) {
+            if (!aggregate.putContribution(idVault, contribution)) {
+                return null;
+            }
+            Provider provider = aggregate.getProvider();
+            provider.setVersion(Objects.isNull(provider.getVersion()) ? 0L
+                    : provider.getVersion() + 1);
+            return provider;
+        }
+    }
+
+
+    @Override
+    public Provider assemble(Provider provider) {
+        return provider;
+    }
+
+
+    @Override
+    public void assembleAll(Collection<Provider> providers) {
+        /** THE CONTRIBUTIONS ARE ALREADY IN THE VAULTS */
+    }
+
+
+    @Override
+    public List<VaultContribution> page(String idVault, String cursor,
+            int limit, ContributionType type) {
+        /** THE BENCHMARKS DO NOT READ THE PAGES */
+        return Collections.emptyList();
+    }
+
+}
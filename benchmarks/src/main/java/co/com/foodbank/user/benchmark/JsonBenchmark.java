@@ -0,0 +1,190 @@
+package co.com.foodbank.user.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.user.config.JacksonConfig;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IBeneficiary;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.dto.interfaces.IVolunter;
+import co.com.foodbank.user.mapper.UserMapperImpl;
+import co.com.foodbank.user.service.UserAssembler;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * Json of the responses with the reflective serializers of Jackson against
+ * the accessors of Afterburner, the mappers are built as the ones of the
+ * application, with the customizers of {@link JacksonConfig}, and write the
+ * declared interface of the controllers. The provider has {@code vaults}
+ * vaults of {@code contributions} contributions.
+ *
+ * The main runs it with the GC profiler:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     co.com.foodbank.user.benchmark.JsonBenchmark
+ * </pre>
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int vaults;
+
+    @Param({"10", "100"})
+    private int contributions;
+
+    private AnnotationConfigApplicationContext context;
+
+    private ObjectWriter reflectiveProvider;
+    private ObjectWriter afterburnerProvider;
+    private ObjectWriter reflectiveVolunter;
+    private ObjectWriter afterburnerVolunter;
+    private ObjectWriter reflectiveBeneficiary;
+    private ObjectWriter afterburnerBeneficiary;
+
+    private Provider provider;
+    private Volunter volunter;
+    private Beneficiary beneficiary;
+
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(ModelMapper.class);
+        context.registerBean(UserMapperImpl.class);
+        context.registerBean(UserAssembler.class);
+        context.refresh();
+        UserAssembler assembler = context.getBean(UserAssembler.class);
+
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder reflective =
+                Jackson2ObjectMapperBuilder.json();
+        config.sparseFieldsCustomizer().customize(reflective);
+        Jackson2ObjectMapperBuilder afterburner =
+                Jackson2ObjectMapperBuilder.json();
+        config.sparseFieldsCustomizer().customize(afterburner);
+        afterburner.modulesToInstall(config.afterburnerModule());
+
+        reflectiveProvider = reflective.build().writerFor(IProvider.class);
+        afterburnerProvider = afterburner.build().writerFor(IProvider.class);
+        reflectiveVolunter = reflective.build().writerFor(IVolunter.class);
+        afterburnerVolunter = afterburner.build().writerFor(IVolunter.class);
+        reflectiveBeneficiary =
+                reflective.build().writerFor(IBeneficiary.class);
+        afterburnerBeneficiary =
+                afterburner.build().writerFor(IBeneficiary.class);
+
+        volunter = assembler
+                .setVolunter(Fixtures.read("volunter", VolunterDTO.class));
+        beneficiary = assembler.setBeneficiary(
+                Fixtures.read("beneficiary", BeneficiaryDTO.class));
+        provider = assembler
+                .setProvider(Fixtures.read("provider", ProviderDTO.class));
+        provider.setId(new ObjectId().toHexString());
+        provider.setVersion(0L);
+
+        ContributionData data =
+                Fixtures.read("contribution", ContributionData.class);
+        Collection<IVault> sucursal = new ArrayList<>(vaults);
+        for (int i = 0; i < vaults; i++) {
+            List<IContribution> list = new ArrayList<>(contributions);
+            for (int j = 0; j < contributions; j++) {
+                list.add(assembler.checkTypeOfContribution(data,
+                        new ObjectId().toHexString()));
+            }
+            Vault vault = new Vault();
+            vault.setId(new ObjectId().toHexString());
+            vault.setContact(provider.getLegalRepresentation());
+            vault.setPhones(provider.getPhones());
+            vault.setAddress(provider.getAddress());
+            vault.setContribution(list);
+            sucursal.add(vault);
+        }
+        provider.setSucursal(sucursal);
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+
+    @Benchmark
+    public byte[] providerReflective() throws JsonProcessingException {
+        return reflectiveProvider.writeValueAsBytes(provider);
+    }
+
+    @Benchmark
+    public byte[] providerAfterburner() throws JsonProcessingException {
+        return afterburnerProvider.writeValueAsBytes(provider);
+    }
+
+    @Benchmark
+    public byte[] volunterReflective() throws JsonProcessingException {
+        return reflectiveVolunter.writeValueAsBytes(volunter);
+    }
+
+    @Benchmark
+    public byte[] volunterAfterburner() throws JsonProcessingException {
+        return afterburnerVolunter.writeValueAsBytes(volunter);
+    }
+
+    @Benchmark
+    public byte[] beneficiaryReflective() throws JsonProcessingException {
+        return reflectiveBeneficiary.writeValueAsBytes(beneficiary);
+    }
+
+    @Benchmark
+    public byte[] beneficiaryAfterburner() throws JsonProcessingException {
+        return afterburnerBeneficiary.writeValueAsBytes(beneficiary);
+    }
+
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+}
@@ -0,0 +1,105 @@
+package co.com.foodbank.user.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed loop load test to compare the blocking and the reactive API at high
+ * concurrency, each virtual client sends the next request when the previous
+ * one ends. Start the service with and without the profile reactive against
+ * the same database and run:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *     co.com.foodbank.user.benchmark.LoadTest \
+ *     http://localhost:8082/user/findById/{id} 2000 60
+ * </pre>
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+public final class LoadTest {
+
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final long deadline;
+    private final long[] samples = new long[MAX_SAMPLES];
+    private final AtomicLong sampled = new AtomicLong();
+    private final LongAdder errors = new LongAdder();
+
+
+    private LoadTest(URI uri, int seconds) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        this.request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30)).GET().build();
+        this.deadline = System.nanoTime() + Duration.ofSeconds(seconds)
+                .toNanos();
+    }
+
+
+    public static void main(String[] args) {
+
+        URI uri = URI.create(args[0]);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+
+        LoadTest test = new LoadTest(uri, seconds);
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            loops[i] = test.loop();
+        }
+        CompletableFuture.allOf(loops).join();
+        test.report(clients, seconds);
+    }
+
+
+    private CompletableFuture<Void> loop() {
+        if (System.nanoTime() > deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() >= 500) {
+                        errors.increment();
+                    } else {
+                        record(System.nanoTime() - start);
+                    }
+                    return null;
+                }).thenCompose(d -> loop());
+    }
+
+
+    private void record(long nanos) {
+        long i = sampled.getAndIncrement();
+        if (i < MAX_SAMPLES) {
+            samples[(int) i] = nanos;
+        }
+    }
+
+
+    private void report(int clients, int seconds) {
+        int n = (int) Math.min(sampled.get(), MAX_SAMPLES);
+        long[] sorted = Arrays.copyOf(samples, n);
+        Arrays.sort(sorted);
+
+        System.out.printf(
+                "clients=%d requests=%d errors=%d throughput=%.1f/s%n", clients, sampled.get(), errors.sum(),
+                sampled.get() / (double) seconds);
+        for (double p : new double[] {0.5, 0.9, 0.99, 0.999}) {
+            long value = n == 0 ? 0 : sorted[(int) Math.min(n - 1, p * n)];
+            System.out.printf("p%-5s %8.2f ms%n", p * 100, value / 1e6);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package co.com.foodbank.user.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.mapper.UserMapper;
+import co.com.foodbank.user.mapper.UserMapperImpl;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * ModelMapper against the generated {@link UserMapper}, run it with
+ * {@code -prof gc} to see the allocations per call.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+
+    private VolunterDTO volunterDto;
+    private BeneficiaryDTO beneficiaryDto;
+    private Volunter volunter;
+
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        userMapper = new UserMapperImpl();
+
+        volunterDto = Fixtures.read("volunter", VolunterDTO.class);
+        beneficiaryDto = Fixtures.read("beneficiary", BeneficiaryDTO.class);
+        volunter = userMapper.toVolunter(volunterDto);
+    }
+
+
+    @Benchmark
+    public Volunter volunterModelMapper() {
+        return modelMapper.map(volunterDto, Volunter.class);
+    }
+
+    @Benchmark
+    public Volunter volunterGenerated() {
+        return userMapper.toVolunter(volunterDto);
+    }
+
+    @Benchmark
+    public Beneficiary beneficiaryModelMapper() {
+        return modelMapper.map(beneficiaryDto, Beneficiary.class);
+    }
+
+    @Benchmark
+    public Beneficiary beneficiaryGenerated() {
+        return userMapper.toBeneficiary(beneficiaryDto);
+    }
+
+    @Benchmark
+    public Address addressModelMapper() {
+        return modelMapper.map(volunterDto.getAddress(), Address.class);
+    }
+
+    @Benchmark
+    public Address addressGenerated() {
+        return userMapper.toAddress(volunterDto.getAddress());
+    }
+
+    /**
+     * What the service and the controller did on every response.
+     */
+    @Benchmark
+    public IUser responseModelMapper() {
+        return modelMapper.map(modelMapper.map(volunter, IUser.class),
+                IUser.class);
+    }
+
+    /**
+     * The model already is the response.
+     */
+    @Benchmark
+    public IUser responseDirect() {
+        return volunter;
+    }
+
+}
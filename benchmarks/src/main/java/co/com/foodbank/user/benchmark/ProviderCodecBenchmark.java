@@ -0,0 +1,167 @@
+package co.com.foodbank.user.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.converter.UserConverters;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.mapper.UserMapper;
+import co.com.foodbank.user.mapper.UserMapperImpl;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * Decode and encode of a large Provider with the reflective
+ * MappingMongoConverter against the {@link UserCodec}, each one reads the
+ * documents it writes. Run it with {@code -prof gc} to see the allocations.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.benchmark 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderCodecBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int vaults;
+
+    @Param({"10", "100"})
+    private int contributions;
+
+    private MappingMongoConverter mapping;
+    private MappingMongoConverter codec;
+
+    private Provider provider;
+    private Document mappingDocument;
+    private Document codecDocument;
+
+
+    @Setup
+    public void setup() {
+        mapping = converter(
+                new MongoCustomConversions(Collections.emptyList()));
+        codec = converter(new MongoCustomConversions(
+                UserConverters.of(new UserCodec(() -> codec))));
+
+        provider = provider();
+        mappingDocument = encodeMapping();
+        codecDocument = encodeCodec();
+    }
+
+
+    @Benchmark
+    public Provider decodeMapping() {
+        return mapping.read(Provider.class, mappingDocument);
+    }
+
+    @Benchmark
+    public Provider decodeCodec() {
+        return codec.read(Provider.class, codecDocument);
+    }
+
+    @Benchmark
+    public Document encodeMapping() {
+        Document document = new Document();
+        mapping.write(provider, document);
+        return document;
+    }
+
+    @Benchmark
+    public Document encodeCodec() {
+        Document document = new Document();
+        codec.write(provider, document);
+        return document;
+    }
+
+
+    private static MappingMongoConverter converter(
+            MongoCustomConversions conversions) {
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+
+        MappingMongoConverter converter =
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+
+    /**
+     * The provider of the fixture with its vaults, the contributions are
+     * general and detail by turns.
+     */
+    private Provider provider() {
+        UserMapper userMapper = new UserMapperImpl();
+        ProviderDTO dto = Fixtures.read("provider", ProviderDTO.class);
+        Address address = userMapper.toAddress(dto.getAddress());
+        address.setCountry(userMapper.toCountry(dto.getAddress().getCountry()));
+
+        Collection<IVault> sucursal = new ArrayList<>(vaults);
+        for (int i = 0; i < vaults; i++) {
+            List<IContribution> list = new ArrayList<>(contributions);
+            for (int j = 0; j < contributions; j++) {
+                list.add(contribution(j));
+            }
+            Vault vault = new Vault();
+            vault.setId(new ObjectId().toHexString());
+            vault.setContact(dto.getLegalRepresentation());
+            vault.setPhones(dto.getPhones());
+            vault.setAddress(address);
+            vault.setContribution(list);
+            sucursal.add(vault);
+        }
+
+        Provider data = new Provider(dto.getName(), dto.getEmail(), address,
+                dto.getPassword(), dto.getPhones(), true,
+                Long.valueOf(dto.getCuil()), dto.getLegalRepresentation(),
+                sucursal);
+        data.setId(new ObjectId().toHexString());
+        data.setAddress(address);
+        data.setVersion(0L);
+        return data;
+    }
+
+
+    private IContribution contribution(int index) {
+        String id = new ObjectId().toHexString();
+        if (index % 2 == 0) {
+            GeneralContributionData general = new GeneralContributionData();
+            general.setId(id);
+            return general;
+        }
+        DetailContributionData detail = new DetailContributionData();
+        detail.setId(id);
+        return detail;
+    }
+
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import co.com.foodbank.user.config.VaultTimeouts;
 import co.com.foodbank.vault.sdk.config.EnableVaultSDK;
 
 
@@ -19,7 +20,10 @@ public class UserApplication {
 
 
     public static void main(String[] args) {
-        SpringApplication.run(UserApplication.class, args);
+        SpringApplication application =
+                new SpringApplication(UserApplication.class);
+        application.addListeners(new VaultTimeouts());
+        application.run(args);
     }
 
     @Bean
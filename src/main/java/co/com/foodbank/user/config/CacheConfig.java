@@ -0,0 +1,66 @@
+package co.com.foodbank.user.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.util.StringUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import co.com.foodbank.user.converter.UserCodec;
+
+/**
+ * Read-through caches of the users, backed by Caffeine. The size, the
+ * expiration and the stats are set with {@code spring.cache.caffeine.spec},
+ * the caches are created at startup so their metrics are published in
+ * {@code /actuator/metrics/cache.*}.
+ *
+ * The caches are {@link UserCache}, they keep the documents of the users and
+ * give a copy to every caller.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String USERS_BY_ID = "usersById";
+
+    public static final String USERS_BY_DNI = "usersByDni";
+
+    public static final String USERS_BY_CUIT = "usersByCuit";
+
+
+    /**
+     * The manager of spring boot for Caffeine, with the caches of the users.
+     *
+     * @param properties
+     * @param converter
+     * @return {@code CaffeineCacheManager}
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(CacheProperties properties,
+            ObjectProvider<MongoConverter> converter) {
+
+        UserCodec codec = new UserCodec(converter::getObject);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(
+                    String name, Cache<Object, Object> cache) {
+                return new UserCache(name, cache, isAllowNullValues(), codec);
+            }
+        };
+
+        String spec = properties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        cacheManager.setCacheNames(properties.getCacheNames());
+        return cacheManager;
+    }
+
+}
@@ -0,0 +1,47 @@
+package co.com.foodbank.user.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import co.com.foodbank.user.repository.InMemoryUserStore;
+
+/**
+ * Profile {@code in-memory}, the repositories of the users keep the
+ * documents in maps, see {@link InMemoryUserStore}, and the auto
+ * configuration of mongo is excluded in application-in-memory. The beans
+ * that need the database, the indexes and the idempotency store, are not
+ * created.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+@Profile("in-memory")
+public class InMemoryConfig {
+
+    /**
+     * The converter of the codec and of the projections, without a
+     * database.
+     *
+     * @param conversions
+     * @return {@code MappingMongoConverter}
+     */
+    @Bean
+    public MappingMongoConverter mappingMongoConverter(
+            MongoCustomConversions conversions) {
+
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+
+        MappingMongoConverter converter =
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+}
@@ -0,0 +1,49 @@
+package co.com.foodbank.user.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import co.com.foodbank.user.util.SparseFieldsFilter;
+
+/**
+ * Customization of the ObjectMapper of the application. Every bean declares
+ * the filter of the sparse fields, it is only applied by the writers that
+ * are given one, the others write all the properties.
+ *
+ * The serializers read the properties with accessors generated by
+ * Afterburner instead of calling the getters by reflection, the json is the
+ * same. It is registered in the ObjectMapper of the MVC and WebFlux message
+ * converters, {@code user.jackson.afterburner=false} turns it off.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String AFTERBURNER = "user.jackson.afterburner";
+
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return d -> d.mixIn(Object.class, SparseFieldsFilter.Sparse.class)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+
+    /**
+     * Spring boot installs the Module beans in the ObjectMapper.
+     *
+     * @return {@code Module}
+     */
+    @Bean
+    @ConditionalOnProperty(name = AFTERBURNER, havingValue = "true",
+            matchIfMissing = true)
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+
+}
@@ -0,0 +1,144 @@
+package co.com.foodbank.user.config;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.modelmapper.ModelMapper;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import co.com.foodbank.user.service.UserService;
+import co.com.foodbank.user.util.UserMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call to the {@link UserService}, to the blocking repositories
+ * and to the ModelMapper, in the timers {@code user.service},
+ * {@code user.repository} and {@code user.modelmapper}. The timers are
+ * tagged by bean, method, type of the user and outcome. The type found by
+ * the service is kept in the request for the tags of the endpoint.
+ *
+ * The beans that are already proxies, the transactions and caches of the
+ * service or the repositories of spring data, get one more interceptor
+ * before the others, so a call answered by the cache is timed too. It is
+ * not ordered so it runs after the creators of those proxies.
+ *
+ * The reactive repositories are not timed, their methods only assemble the
+ * query.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+public class MethodTimerPostProcessor implements BeanPostProcessor {
+
+    public static final String SERVICE = "user.service";
+
+    public static final String REPOSITORY = "user.repository";
+
+    public static final String MODEL_MAPPER = "user.modelmapper";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+
+    /**
+     * Constructor with the registry, it is read on the first call because
+     * the post processors are created before the registry.
+     *
+     * @param meterRegistry
+     */
+    public MethodTimerPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * Method to add the timer to the beans of the timed layers.
+     *
+     * @param bean
+     * @param beanName
+     * @return {@code Object} the bean or its proxy.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean,
+            String beanName) {
+
+        String name = timerOf(bean);
+        if (Objects.isNull(name)) {
+            return bean;
+        }
+
+        MethodInterceptor timer = d -> time(name, beanName, d);
+        if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+            ((Advised) bean).addAdvice(0, timer);
+            return bean;
+        }
+
+        ProxyFactory proxy = new ProxyFactory(bean);
+        proxy.setProxyTargetClass(!(bean instanceof Repository));
+        proxy.addAdvice(timer);
+        return proxy.getProxy();
+    }
+
+
+    private Object time(String name, String beanName,
+            MethodInvocation invocation) throws Throwable {
+
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        MeterRegistry registry = meterRegistry.getObject();
+        Timer.Sample sample = Timer.start(registry);
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            String type = UserMetrics.typeOf(result, invocation.getArguments());
+            sample.stop(registry.timer(name,
+                    Tags.of("class", beanName, "method", method.getName(),
+                            UserMetrics.TYPE, type)
+                            .and(UserMetrics.outcome(error))));
+            keepType(name, type);
+        }
+    }
+
+
+    private static void keepType(String name, String type) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (SERVICE.equals(name) && !Objects.isNull(request)
+                && !UserMetrics.NONE.equals(type)) {
+            request.setAttribute(UserMetrics.TYPE_ATTRIBUTE, type,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+
+    private static String timerOf(Object bean) {
+        if (bean instanceof UserService) {
+            return SERVICE;
+        }
+        if (bean instanceof Repository
+                && !(bean instanceof ReactiveCrudRepository)) {
+            return REPOSITORY;
+        }
+        if (bean instanceof ModelMapper) {
+            return MODEL_MAPPER;
+        }
+        return null;
+    }
+
+}
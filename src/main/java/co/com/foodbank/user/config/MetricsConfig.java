@@ -0,0 +1,111 @@
+package co.com.foodbank.user.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import co.com.foodbank.user.exception.ControllerAdvisor;
+import co.com.foodbank.user.util.UserMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Timers of the layers of the users. The endpoints are timed by spring boot
+ * in {@code http.server.requests}, they are tagged with the type of the user
+ * the endpoint returns and the handler of the {@link ControllerAdvisor} that
+ * answered the exception. The percentile histograms are published with
+ * {@code management.metrics.distribution.percentiles-histogram} and scraped
+ * in {@code /actuator/prometheus}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String HANDLER = "handler";
+
+
+    /**
+     * Static so it is created without the rest of the configuration, before
+     * the beans it times.
+     *
+     * @param meterRegistry
+     * @return {@code MethodTimerPostProcessor}
+     */
+    @Bean
+    public static MethodTimerPostProcessor methodTimerPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MethodTimerPostProcessor(meterRegistry);
+    }
+
+
+    @Bean
+    public WebMvcTagsContributor userTagsContributor() {
+        return new UserTagsContributor();
+    }
+
+
+    /**
+     * The type of the user is the one the service found, else the declared
+     * return of the endpoint, resolved once. The handler is the one of the
+     * exception the dispatcher resolved.
+     */
+    static class UserTagsContributor implements WebMvcTagsContributor {
+
+        private final ExceptionHandlerMethodResolver advisor =
+                new ExceptionHandlerMethodResolver(ControllerAdvisor.class);
+
+        private final Map<Method, String> types = new ConcurrentHashMap<>();
+
+
+        @Override
+        public Iterable<Tag> getTags(HttpServletRequest request,
+                HttpServletResponse response, Object handler,
+                Throwable exception) {
+
+            Object type = request.getAttribute(UserMetrics.TYPE_ATTRIBUTE);
+            if (Objects.isNull(type)) {
+                type = handler instanceof HandlerMethod
+                        ? types.computeIfAbsent(
+                                ((HandlerMethod) handler).getMethod(),
+                                UserTagsContributor::typeOf)
+                        : UserMetrics.NONE;
+            }
+
+            Method handled = Objects.isNull(exception) ? null
+                    : advisor.resolveMethodByThrowable(exception);
+
+            return Tags.of(UserMetrics.TYPE, type.toString(), HANDLER,
+                    Objects.isNull(handled) ? UserMetrics.NONE
+                            : handled.getName());
+        }
+
+
+        @Override
+        public Iterable<Tag> getLongRequestTags(HttpServletRequest request,
+                Object handler) {
+            return Tags.empty();
+        }
+
+
+        private static String typeOf(Method method) {
+            ResolvableType type = ResolvableType.forMethodReturnType(method);
+            if (ResponseEntity.class.equals(type.resolve())) {
+                type = type.getGeneric(0);
+            }
+            return UserMetrics.typeOf(type.toClass());
+        }
+    }
+
+}
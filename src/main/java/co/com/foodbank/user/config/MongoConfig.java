@@ -0,0 +1,34 @@
+package co.com.foodbank.user.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.converter.UserConverters;
+
+/**
+ * Conversions of the MongoConverter used by the blocking and the reactive
+ * templates, the User hierarchy is read and written by {@link UserCodec}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+public class MongoConfig {
+
+    /**
+     * The codec takes the converter the first time it converts, the
+     * converter is built with these conversions.
+     *
+     * @param converter
+     * @return {@code MongoCustomConversions}
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions(
+            ObjectProvider<MongoConverter> converter) {
+        return new MongoCustomConversions(
+                UserConverters.of(new UserCodec(converter::getObject)));
+    }
+
+}
@@ -0,0 +1,72 @@
+package co.com.foodbank.user.config;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * WebFlux configuration of the profile reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+
+    /**
+     * Run on Netty, the servlet container is in the classpath for the
+     * blocking API and it would be chosen first.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs()
+                .jackson2JsonEncoder(new DeclaredTypeEncoder(objectMapper));
+    }
+
+
+    /**
+     * Writes each value with the declared type of the handler, like the
+     * Spring MVC converter does, so a {@code Mono<IUser>} has the same
+     * properties as a {@code ResponseEntity<IUser>} in the blocking API.
+     */
+    static class DeclaredTypeEncoder extends Jackson2JsonEncoder {
+
+        DeclaredTypeEncoder(ObjectMapper mapper) {
+            super(mapper);
+        }
+
+
+        @Override
+        protected ObjectWriter customizeWriter(ObjectWriter writer,
+                MimeType mimeType, ResolvableType elementType,
+                Map<String, Object> hints) {
+
+            Class<?> type = elementType.resolve();
+            if (type == null || type == Object.class) {
+                return writer;
+            }
+            return writer.forType(getJavaType(elementType.getType(), null));
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package co.com.foodbank.user.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bson.Document;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * Cache of users that keeps the documents of the {@link UserCodec} and not
+ * the users, every read decodes a new user, so a caller that changes the
+ * user it got does not change the one of the other callers. The caller that
+ * loads the user gets the one it loaded.
+ *
+ * A load that read the user before a write can end after the eviction of
+ * that write, {@code sync} only makes the concurrent misses of a key wait
+ * for one load. Every eviction is kept for {@link #EVICTIONS} with the tick
+ * it happened, a load that overlaps an eviction of its key, or a clear,
+ * returns the user it read but does not keep it.
+ *
+ * It extends the {@link CaffeineCache} so its metrics are published as the
+ * ones of the other Caffeine caches.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+public class UserCache extends CaffeineCache {
+
+    /** LONGER THAN ANY LOAD, A LOAD IS BOUNDED BY THE MONGO TIMEOUTS */
+    public static final Duration EVICTIONS = Duration.ofMinutes(1);
+
+    private final UserCodec codec;
+
+    private final AtomicLong ticks = new AtomicLong();
+
+    private final Cache<Object, Long> evictions =
+            Caffeine.newBuilder().expireAfterWrite(EVICTIONS).build();
+
+    private volatile long cleared;
+
+
+    /**
+     * Constructor with the Caffeine cache of the documents.
+     *
+     * @param name
+     * @param cache
+     * @param allowNullValues
+     * @param codec
+     */
+    public UserCache(String name, Cache<Object, Object> cache,
+            boolean allowNullValues, UserCodec codec) {
+        super(name, cache, allowNullValues);
+        this.codec = Objects.requireNonNull(codec);
+    }
+
+
+    @Override
+    protected Object lookup(Object key) {
+        return decode(super.lookup(key));
+    }
+
+
+    /**
+     * Method to read a user or load it once for the concurrent misses. The
+     * loaded user is kept only if its key was not evicted while it was
+     * loaded, else it is removed again in case the eviction ran before it
+     * was kept.
+     *
+     * @param key
+     * @param valueLoader
+     * @return {@code T}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+
+        long start = ticks.get();
+        Object[] loaded = new Object[1];
+
+        Object stored = getNativeCache().get(key, d -> {
+            try {
+                loaded[0] = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(d, valueLoader, e);
+            }
+            return Objects.isNull(loaded[0]) || evictedSince(d, start) ? null
+                    : encode(loaded[0]);
+        });
+
+        if (Objects.isNull(loaded[0]) && !Objects.isNull(stored)) {
+            return (T) decode(stored);
+        }
+        if (!Objects.isNull(stored) && evictedSince(key, start)) {
+            getNativeCache().invalidate(key);
+        }
+        return (T) loaded[0];
+    }
+
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, encode(value));
+    }
+
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper previous = super.putIfAbsent(key, encode(value));
+        return Objects.isNull(previous) ? null
+                : new SimpleValueWrapper(decode(previous.get()));
+    }
+
+
+    @Override
+    public void evict(Object key) {
+        evicted(key);
+        super.evict(key);
+    }
+
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evicted(key);
+        return super.evictIfPresent(key);
+    }
+
+
+    @Override
+    public void clear() {
+        cleared = ticks.incrementAndGet();
+        super.clear();
+    }
+
+
+    @Override
+    public boolean invalidate() {
+        cleared = ticks.incrementAndGet();
+        return super.invalidate();
+    }
+
+
+    private void evicted(Object key) {
+        evictions.asMap().merge(key, ticks.incrementAndGet(), Math::max);
+    }
+
+
+    private boolean evictedSince(Object key, long start) {
+        Long evicted = evictions.getIfPresent(key);
+        return cleared > start || (!Objects.isNull(evicted) && evicted > start);
+    }
+
+
+    private Object encode(Object value) {
+        return value instanceof User ? codec.write((User) value) : value;
+    }
+
+
+    private Object decode(Object value) {
+        return value instanceof Document ? codec.read((Document) value) : value;
+    }
+
+}
@@ -0,0 +1,31 @@
+package co.com.foodbank.user.config;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.user.repository.UserIndexManager;
+
+/**
+ * Actuator endpoint {@code /actuator/userindexes} with the drift between the
+ * declared indexes and the ones in the database.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Component
+@Profile("!in-memory")
+@Endpoint(id = "userindexes")
+public class UserIndexEndpoint {
+
+    @Autowired
+    private UserIndexManager indexManager;
+
+
+    @ReadOperation
+    public Map<String, Object> indexes() {
+        return indexManager.report();
+    }
+
+}
@@ -0,0 +1,217 @@
+package co.com.foodbank.user.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits of the calls to the vault sdk, bound from {@code user.vault.*}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Component
+@ConfigurationProperties(prefix = "user.vault")
+public class VaultClientProperties {
+
+    /** time to open the connection, set once at startup, see VaultTimeouts */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /** time to wait for the response, set once at startup too */
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    /** time of the whole call, queue of the bulkhead included */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /** threads of the bulkhead, only these calls wait on the vault */
+    private int bulkheadCoreThreads = 4;
+
+    private int bulkheadMaxThreads = 8;
+
+    /** calls waiting for a thread, the next ones are rejected */
+    private int bulkheadQueueCapacity = 16;
+
+    /** attempts of the idempotent calls, the first one included */
+    private int retryMaxAttempts = 3;
+
+    private Duration retryInitialInterval = Duration.ofMillis(100);
+
+    private double retryMultiplier = 2.0;
+
+    /** the wait is picked in interval +- interval * factor */
+    private double retryRandomizationFactor = 0.5;
+
+    /** percentage of failed or slow calls that opens the circuit */
+    private float failureRateThreshold = 50;
+
+    private int slidingWindowSize = 20;
+
+    private int minimumNumberOfCalls = 10;
+
+    private Duration slowCallDuration = Duration.ofSeconds(2);
+
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+    private int permittedCallsInHalfOpenState = 3;
+
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+
+    public int getBulkheadCoreThreads() {
+        return bulkheadCoreThreads;
+    }
+
+
+    public void setBulkheadCoreThreads(int bulkheadCoreThreads) {
+        this.bulkheadCoreThreads = bulkheadCoreThreads;
+    }
+
+
+    public int getBulkheadMaxThreads() {
+        return bulkheadMaxThreads;
+    }
+
+
+    public void setBulkheadMaxThreads(int bulkheadMaxThreads) {
+        this.bulkheadMaxThreads = bulkheadMaxThreads;
+    }
+
+
+    public int getBulkheadQueueCapacity() {
+        return bulkheadQueueCapacity;
+    }
+
+
+    public void setBulkheadQueueCapacity(int bulkheadQueueCapacity) {
+        this.bulkheadQueueCapacity = bulkheadQueueCapacity;
+    }
+
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+
+    public void setRetryMaxAttempts(int retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+
+    public Duration getRetryInitialInterval() {
+        return retryInitialInterval;
+    }
+
+
+    public void setRetryInitialInterval(Duration retryInitialInterval) {
+        this.retryInitialInterval = retryInitialInterval;
+    }
+
+
+    public double getRetryMultiplier() {
+        return retryMultiplier;
+    }
+
+
+    public void setRetryMultiplier(double retryMultiplier) {
+        this.retryMultiplier = retryMultiplier;
+    }
+
+
+    public double getRetryRandomizationFactor() {
+        return retryRandomizationFactor;
+    }
+
+
+    public void setRetryRandomizationFactor(double retryRandomizationFactor) {
+        this.retryRandomizationFactor = retryRandomizationFactor;
+    }
+
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+
+    public void setFailureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+
+    public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+    }
+
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+
+    public void setPermittedCallsInHalfOpenState(
+            int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+}
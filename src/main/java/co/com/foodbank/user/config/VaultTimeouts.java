@@ -0,0 +1,54 @@
+package co.com.foodbank.user.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Connect and read timeouts of the vault sdk. The sdk opens its connections
+ * with {@code HttpURLConnection} and does not take a client or a request
+ * factory, so the timeouts are the JVM defaults
+ * {@code sun.net.client.defaultConnectTimeout} and
+ * {@code sun.net.client.defaultReadTimeout}. The JDK reads them once, with
+ * the first connection, and they apply to every connection of the JVM.
+ *
+ * They are set once at startup from {@code user.vault.connect-timeout} and
+ * {@code user.vault.read-timeout}, when the environment is ready and before
+ * the context opens a connection. The ones given with {@code -D} are kept.
+ * The listener is added by the main of the application, the tests and the
+ * benchmarks keep the defaults of the JVM.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+public class VaultTimeouts
+        implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    public static final String CONNECT_TIMEOUT =
+            "sun.net.client.defaultConnectTimeout";
+
+    public static final String READ_TIMEOUT =
+            "sun.net.client.defaultReadTimeout";
+
+    private static final String PREFIX = "user.vault";
+
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        VaultClientProperties properties = Binder.get(event.getEnvironment())
+                .bind(PREFIX, VaultClientProperties.class)
+                .orElseGet(VaultClientProperties::new);
+
+        setIfAbsent(CONNECT_TIMEOUT, properties.getConnectTimeout());
+        setIfAbsent(READ_TIMEOUT, properties.getReadTimeout());
+    }
+
+
+    private static void setIfAbsent(String property, Duration timeout) {
+        if (Objects.isNull(System.getProperty(property))) {
+            System.setProperty(property, String.valueOf(timeout.toMillis()));
+        }
+    }
+
+}
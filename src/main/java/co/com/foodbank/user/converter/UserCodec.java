@@ -0,0 +1,396 @@
+package co.com.foodbank.user.converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.address.dto.interfaces.IAddress;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+import co.com.foodbank.vehicule.dto.Vehicule;
+import co.com.foodbank.vehicule.dto.interfaces.IVehicule;
+
+/**
+ * Hand written mapping of the User hierarchy to the documents of the User
+ * collection. The fields of the users are read and written one by one,
+ * without the reflection and the type resolution of the
+ * MappingMongoConverter.
+ *
+ * Only the fields of the users are hand written. The nested value objects,
+ * the address, the vehicule, the vaults and their contributions, are still
+ * read and written by the reflective path of the MongoConverter and keep
+ * their {@code _class}; in a Provider they are most of the document, so the
+ * codec saves the reflection of the user fields only. They come from the
+ * dto libraries, whose fields unknown here are not lost, and the versions
+ * before this codec need their {@code _class} to read the fields declared
+ * with an interface. The vaults written for a while without the
+ * {@code _class} of their address are read field by field.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.converter 17/10/2026
+ */
+public class UserCodec {
+
+    public static final String CLASS = "_class";
+
+    public static final String PROVIDER = "Provider";
+
+    public static final String VOLUNTER = "Volunter";
+
+    public static final String BENEFICIARY = "Beneficiary";
+
+    private static final String ID = "_id";
+    private static final String NAME = "name";
+    private static final String EMAIL = "email";
+    private static final String EMAIL_LOWER = "emailLower";
+    private static final String PASSWORD = "password";
+    private static final String PHONES = "phones";
+    private static final String STATE = "state";
+    private static final String ADDRESS = "address";
+    private static final String VERSION = "version";
+    private static final String CUIL = "cuil";
+    private static final String LEGAL_REPRESENTATION = "legalRepresentation";
+    private static final String SUCURSAL = "sucursal";
+    private static final String CONTRIBUTION = "contribution";
+    private static final String VOLUME = "volume";
+    private static final String DNI = "dni";
+    private static final String VEHICULE = "vehicule";
+    private static final String SOCIAL_REASON = "socialReason";
+    private static final String CATEGORY = "category";
+    private static final String SIZE = "size";
+
+    private final Supplier<? extends MongoConverter> supplier;
+
+    private volatile MongoConverter converter;
+
+
+    /**
+     * Constructor with the MongoConverter of the nested value objects, it is
+     * taken the first time it is used because it is built with the
+     * converters of this codec.
+     *
+     * @param supplier
+     */
+    public UserCodec(Supplier<? extends MongoConverter> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+
+    /**
+     * Method to write a user with the {@code _class} of its type.
+     *
+     * @param user
+     * @return {@code Document}
+     */
+    public Document write(User user) {
+
+        Document document = new Document();
+        put(document, ID, toId(user.getId()));
+        document.put(CLASS, alias(user));
+        put(document, NAME, user.getName());
+        put(document, EMAIL, user.getEmail());
+        put(document, EMAIL_LOWER, User.normalizeEmail(user.getEmail()));
+        put(document, PASSWORD, user.getPassword());
+        put(document, PHONES, user.getPhones());
+        document.put(STATE, user.isState());
+        put(document, ADDRESS, writeValue(user.getAddress()));
+        put(document, VERSION, user.getVersion());
+
+        if (user instanceof Provider) {
+            Provider provider = (Provider) user;
+            put(document, CUIL, provider.getCuil());
+            put(document, LEGAL_REPRESENTATION,
+                    provider.getLegalRepresentation());
+            put(document, SUCURSAL, writeVaults(provider.getSucursal()));
+        } else if (user instanceof Volunter) {
+            Volunter volunter = (Volunter) user;
+            put(document, DNI, volunter.getDni());
+            put(document, VEHICULE, writeValue(volunter.getVehicule()));
+        } else if (user instanceof Beneficiary) {
+            Beneficiary beneficiary = (Beneficiary) user;
+            put(document, SOCIAL_REASON, beneficiary.getSocialReason());
+            put(document, CATEGORY, beneficiary.getCategory());
+            document.put(SIZE, beneficiary.getSize());
+        }
+        return document;
+    }
+
+
+    /**
+     * Method to read a user of the type given by its {@code _class}.
+     *
+     * @param document
+     * @return {@code User}
+     */
+    public User read(Document document) {
+        Object alias = document.get(CLASS);
+        if (PROVIDER.equals(alias)) {
+            return readProvider(document);
+        }
+        if (VOLUNTER.equals(alias)) {
+            return readVolunter(document);
+        }
+        if (BENEFICIARY.equals(alias)) {
+            return readBeneficiary(document);
+        }
+        return readUser(document, new User());
+    }
+
+
+    /**
+     * Method to read a Provider, the fields missing in a projection are
+     * null.
+     *
+     * @param document
+     * @return {@code Provider}
+     */
+    public Provider readProvider(Document document) {
+        Provider provider = readUser(document, new Provider());
+        provider.setCuil(toLong(document.get(CUIL)));
+        provider.setLegalRepresentation(
+                (String) document.get(LEGAL_REPRESENTATION));
+        provider.setSucursal(readVaults(document.get(SUCURSAL)));
+        return provider;
+    }
+
+
+    /**
+     * Method to read a Volunter, the fields missing in a projection are
+     * null.
+     *
+     * @param document
+     * @return {@code Volunter}
+     */
+    public Volunter readVolunter(Document document) {
+        Volunter volunter = readUser(document, new Volunter());
+        volunter.setDni(toLong(document.get(DNI)));
+        volunter.setVehicule(readVehicule(document.get(VEHICULE)));
+        return volunter;
+    }
+
+
+    /**
+     * Method to read a Beneficiary, the fields missing in a projection are
+     * null.
+     *
+     * @param document
+     * @return {@code Beneficiary}
+     */
+    public Beneficiary readBeneficiary(Document document) {
+        Beneficiary beneficiary = readUser(document, new Beneficiary());
+        beneficiary.setSocialReason((String) document.get(SOCIAL_REASON));
+        beneficiary.setCategory((String) document.get(CATEGORY));
+        Object size = document.get(SIZE);
+        beneficiary.setSize(
+                size instanceof Number ? ((Number) size).intValue() : 0);
+        return beneficiary;
+    }
+
+
+    /**
+     * Method to read an address, with or without {@code _class}.
+     *
+     * @param value
+     * @return {@code IAddress}
+     */
+    public IAddress readAddress(Object value) {
+        return value instanceof Document
+                ? converter().read(Address.class, (Document) value)
+                : null;
+    }
+
+
+    /**
+     * Method to read a vehicule, with or without {@code _class}.
+     *
+     * @param value
+     * @return {@code IVehicule}
+     */
+    public IVehicule readVehicule(Object value) {
+        return value instanceof Document
+                ? converter().read(Vehicule.class, (Document) value)
+                : null;
+    }
+
+
+    /**
+     * Method to read a vault with the MongoConverter. A vault without the
+     * {@code _class} of its address or contributions is copied and they are
+     * read here.
+     *
+     * @param document
+     * @return {@code IVault}
+     */
+    public IVault readVault(Document document) {
+
+        if (isTyped(document)) {
+            return converter().read(Vault.class, document);
+        }
+
+        Document fields = new Document(document);
+        Object address = fields.remove(ADDRESS);
+        Object contributions = fields.remove(CONTRIBUTION);
+
+        Vault vault = converter().read(Vault.class, fields);
+        vault.setAddress(readAddress(address));
+        if (contributions instanceof Collection) {
+            List<IContribution> list =
+                    new ArrayList<>(((Collection<?>) contributions).size());
+            for (Object contribution : (Collection<?>) contributions) {
+                list.add(readContribution((Document) contribution));
+            }
+            vault.setContribution(list);
+        }
+        return vault;
+    }
+
+
+    /**
+     * Method to read a contribution, without {@code _class} it is general
+     * when it has a volume.
+     *
+     * @param document
+     * @return {@code IContribution}
+     */
+    public IContribution readContribution(Document document) {
+        Class<? extends IContribution> type = document.containsKey(CLASS)
+                ? IContribution.class
+                : Objects.isNull(document.get(VOLUME))
+                        ? DetailContributionData.class
+                        : GeneralContributionData.class;
+        return converter().read(type, document);
+    }
+
+
+    private <T extends User> T readUser(Document document, T user) {
+        Object id = document.get(ID);
+        user.setId(Objects.isNull(id) ? null : id.toString());
+        user.setName((String) document.get(NAME));
+        user.setEmail((String) document.get(EMAIL));
+        user.setPassword((String) document.get(PASSWORD));
+        user.setPhones((String) document.get(PHONES));
+        user.setState(Boolean.TRUE.equals(document.get(STATE)));
+        user.setAddress(readAddress(document.get(ADDRESS)));
+        user.setVersion(toLong(document.get(VERSION)));
+        return user;
+    }
+
+
+    private Collection<IVault> readVaults(Object value) {
+        if (!(value instanceof Collection)) {
+            return null;
+        }
+        Collection<?> documents = (Collection<?>) value;
+        List<IVault> vaults = new ArrayList<>(documents.size());
+        for (Object document : documents) {
+            vaults.add(readVault((Document) document));
+        }
+        return vaults;
+    }
+
+
+    /**
+     * The address and the contributions of the vault have their
+     * {@code _class}, the MongoConverter resolves their type.
+     */
+    private static boolean isTyped(Document vault) {
+        Object address = vault.get(ADDRESS);
+        if (address instanceof Document
+                && !((Document) address).containsKey(CLASS)) {
+            return false;
+        }
+        Object contributions = vault.get(CONTRIBUTION);
+        if (contributions instanceof Collection) {
+            for (Object contribution : (Collection<?>) contributions) {
+                if (!((Document) contribution).containsKey(CLASS)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private List<Document> writeVaults(Collection<IVault> vaults) {
+        if (Objects.isNull(vaults)) {
+            return null;
+        }
+        List<Document> documents = new ArrayList<>(vaults.size());
+        for (IVault vault : vaults) {
+            documents.add(writeValue(vault));
+        }
+        return documents;
+    }
+
+
+    /**
+     * Write a value object with the MongoConverter, with the
+     * {@code _class} of the value and of its nested objects.
+     */
+    private Document writeValue(Object value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        Document document = new Document();
+        converter().write(value, document);
+        return document;
+    }
+
+
+    private MongoConverter converter() {
+        MongoConverter current = converter;
+        if (Objects.isNull(current)) {
+            current = supplier.get();
+            converter = current;
+        }
+        return current;
+    }
+
+
+    private static String alias(User user) {
+        if (user instanceof Provider) {
+            return PROVIDER;
+        }
+        if (user instanceof Volunter) {
+            return VOLUNTER;
+        }
+        if (user instanceof Beneficiary) {
+            return BENEFICIARY;
+        }
+        return User.class.getName();
+    }
+
+
+    /**
+     * The ids are stored as ObjectId when they are valid, like the
+     * MappingMongoConverter does.
+     */
+    private static Object toId(String id) {
+        return Objects.isNull(id) || !ObjectId.isValid(id) ? id
+                : new ObjectId(id);
+    }
+
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+
+    private static void put(Document document, String key, Object value) {
+        if (!Objects.isNull(value)) {
+            document.put(key, value);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package co.com.foodbank.user.converter;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import org.bson.Document;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * Converters of the User hierarchy over {@link UserCodec}, registered in the
+ * MongoCustomConversions. The MappingMongoConverter resolves the type of a
+ * user with its {@code _class} before it looks for the reading converter, so
+ * there is one by type. There are none for the nested value objects, a
+ * converter to an interface is taken for its implementations too.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.converter 17/10/2026
+ */
+public final class UserConverters {
+
+    private UserConverters() {}
+
+
+    /**
+     * Method to build the converters of a codec.
+     *
+     * @param codec
+     * @return {@code List<Object>}
+     */
+    public static List<Object> of(UserCodec codec) {
+        return List.of(new UserWritingConverter(codec),
+                new UserReadingConverter(codec));
+    }
+
+
+    @WritingConverter
+    static class UserWritingConverter implements Converter<User, Document> {
+
+        private final UserCodec codec;
+
+        UserWritingConverter(UserCodec codec) {
+            this.codec = codec;
+        }
+
+
+        @Override
+        public Document convert(User source) {
+            return codec.write(source);
+        }
+    }
+
+
+    @ReadingConverter
+    static class UserReadingConverter implements GenericConverter {
+
+        private final Map<Class<?>, Function<Document, Object>> readers =
+                new HashMap<>();
+
+        UserReadingConverter(UserCodec codec) {
+            readers.put(User.class, codec::read);
+            readers.put(Provider.class, codec::readProvider);
+            readers.put(Volunter.class, codec::readVolunter);
+            readers.put(Beneficiary.class, codec::readBeneficiary);
+        }
+
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            Set<ConvertiblePair> pairs = new HashSet<>();
+            for (Class<?> type : readers.keySet()) {
+                pairs.add(new ConvertiblePair(Document.class, type));
+            }
+            return pairs;
+        }
+
+
+        @Override
+        public Object convert(Object source, TypeDescriptor sourceType,
+                TypeDescriptor targetType) {
+            return Objects.isNull(source) ? null
+                    : readers.get(targetType.getType())
+                            .apply((Document) source);
+        }
+    }
+
+}
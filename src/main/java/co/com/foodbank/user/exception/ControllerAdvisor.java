@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.UnexpectedTypeException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -197,6 +198,22 @@ public class ControllerAdvisor {
     }
 
 
+    /**
+     * Method to handle the saves that kept failing by concurrent updates of
+     * the same user.
+     */
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+
+        ApiError apiError = new ApiError(HttpStatus.CONFLICT,
+                ex.getLocalizedMessage(), ex.getMessage());
+        return new ResponseEntity<Object>(apiError, new HttpHeaders(),
+                apiError.getStatus());
+
+    }
+
+
     /*
      * @ExceptionHandler(value = UserNotFoundException.class) public
      * ResponseEntity<Object> handleNotFoundException( UserNotFoundException ex)
@@ -0,0 +1,25 @@
+package co.com.foodbank.user.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Request with an {@code Idempotency-Key} that can not run nor be replayed,
+ * the key is running in other request or it was used by other operation.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.exception 17/10/2026
+ */
+public class IdempotencyKeyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(HttpStatus status, String err) {
+        super(err);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,151 @@
+package co.com.foodbank.user.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.address.dto.AddressDTO;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.country.dto.Country;
+import co.com.foodbank.country.dto.CountryDTO;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.VaultDTO;
+import co.com.foodbank.vault.sdk.model.ResponseVaultData;
+import co.com.foodbank.vault.v1.model.Vault;
+import co.com.foodbank.vehicule.dto.Vehicule;
+import co.com.foodbank.vehicule.dto.VehiculeDTO;
+import co.com.foodbank.vehicule.dto.Volume;
+import co.com.foodbank.vehicule.dto.VolumeDTO;
+
+/**
+ * Mapper from the request DTOs, the contributions sent by the vault service
+ * and the vaults created by the vault sdk to the model, the implementation
+ * is generated at compile time by MapStruct so the mapping uses plain
+ * getters and setters.
+ *
+ * The nested values typed by interface (address, country, vehicule and
+ * volume) are ignored here and set by the service, the same way it did with
+ * ModelMapper. The id and the version of a new user are set by the database
+ * or by the bulk create, never by the request.
+ *
+ * The model already implements the response interfaces ({@code IUser},
+ * {@code IProvider}, {@code IVolunter} and {@code IBeneficiary}), so no
+ * mapping is needed on the way out.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.mapper 17/10/2026
+ */
+@Mapper(componentModel = "spring")
+public interface UserMapper {
+
+    /**
+     * Method to map a Volunter.
+     *
+     * @param dto
+     * @return {@code Volunter}
+     */
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "vehicule", ignore = true)
+    @Mapping(target = "state", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Volunter toVolunter(VolunterDTO dto);
+
+
+    /**
+     * Method to map a Beneficiary.
+     *
+     * @param dto
+     * @return {@code Beneficiary}
+     */
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "state", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Beneficiary toBeneficiary(BeneficiaryDTO dto);
+
+
+    /**
+     * Method to map an Address.
+     *
+     * @param dto
+     * @return {@code Address}
+     */
+    @Mapping(target = "country", ignore = true)
+    Address toAddress(AddressDTO dto);
+
+
+    /**
+     * Method to map a Country.
+     *
+     * @param dto
+     * @return {@code Country}
+     */
+    Country toCountry(CountryDTO dto);
+
+
+    /**
+     * Method to map a Vehicule.
+     *
+     * @param dto
+     * @return {@code Vehicule}
+     */
+    @Mapping(target = "volume", ignore = true)
+    Vehicule toVehicule(VehiculeDTO dto);
+
+
+    /**
+     * Method to map a Volume.
+     *
+     * @param dto
+     * @return {@code Volume}
+     */
+    Volume toVolume(VolumeDTO dto);
+
+
+    /**
+     * Method to map a general contribution, the id is the one of the path.
+     *
+     * @param data
+     * @return {@code GeneralContributionData}
+     */
+    @Mapping(target = "id", ignore = true)
+    GeneralContributionData toGeneralContribution(ContributionData data);
+
+
+    /**
+     * Method to map a detail contribution, the id is the one of the path.
+     *
+     * @param data
+     * @return {@code DetailContributionData}
+     */
+    @Mapping(target = "id", ignore = true)
+    DetailContributionData toDetailContribution(ContributionData data);
+
+
+    /**
+     * Method to map the vault created by the vault sdk.
+     *
+     * @param data
+     * @return {@code Vault}
+     */
+    Vault toVault(ResponseVaultData data);
+
+
+    /**
+     * Method to update the contact and phones of a vault, its address is
+     * set by the service.
+     *
+     * @param dto
+     * @param vault
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "contribution", ignore = true)
+    void updateVault(VaultDTO dto, @MappingTarget Vault vault);
+
+}
@@ -0,0 +1,127 @@
+package co.com.foodbank.user.migration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+
+/**
+ * Migration to move the contributions embedded in the providers to the
+ * Contribution collection, only when
+ * {@code user.contribution.storage=collection}. The contributions are upserted
+ * in bulk by batches and the embedded ones of a provider are removed after all
+ * of them were written, running it again is harmless.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.migration 17/10/2026
+ */
+@Component
+@ConditionalOnExpression("${user.migration.contributions.enabled:false} "
+        + "and '${user.contribution.storage:embedded}' == 'collection'")
+public class ContributionMigration implements Migration {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ContributionMigration.class);
+
+    private static final String EMBEDDED = "sucursal.contribution";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${user.migration.contributions.batch-size:500}")
+    private int batchSize;
+
+    private final List<VaultContribution> pending = new ArrayList<>();
+
+    private final List<String> providers = new ArrayList<>();
+
+    private long moved;
+
+
+    @Override
+    public void migrate() {
+
+        Query query = new Query(Criteria.where(EMBEDDED + ".0").exists(true))
+                .cursorBatchSize(ParametersUser.CURSOR_BATCH_SIZE);
+
+        try (CloseableIterator<Provider> cursor =
+                mongoTemplate.stream(query, Provider.class)) {
+            while (cursor.hasNext()) {
+                collect(cursor.next());
+            }
+        }
+        flush();
+
+        LOG.info("{} contributions moved to the Contribution collection",
+                moved);
+    }
+
+
+    private void collect(Provider provider) {
+
+        for (IVault vault : provider.getSucursal()) {
+            if (Objects.isNull(vault.getContribution())) {
+                continue;
+            }
+            for (IContribution contribution : vault.getContribution()) {
+                pending.add(new VaultContribution(provider.getId(),
+                        vault.getId(), contribution));
+            }
+        }
+        providers.add(provider.getId());
+
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+
+    /**
+     * Method to write the pending contributions and then empty the embedded
+     * lists of the providers they came from.
+     */
+    private void flush() {
+
+        if (!pending.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(
+                    BulkOperations.BulkMode.UNORDERED, VaultContribution.class);
+            for (VaultContribution doc : pending) {
+                bulk.upsert(
+                        new Query(Criteria.where("vaultId").is(doc.getVaultId())
+                                .and("contributionId")
+                                .is(doc.getContributionId())),
+                        new Update().set("providerId", doc.getProviderId())
+                                .set("contribution", doc.getContribution()));
+            }
+            bulk.execute();
+            moved += pending.size();
+            pending.clear();
+        }
+
+        if (!providers.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    new Query(Criteria.where("_id").in(providers)),
+                    new Update().set("sucursal.$[].contribution",
+                            Collections.emptyList()),
+                    Provider.class);
+            providers.clear();
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package co.com.foodbank.user.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import com.mongodb.client.result.UpdateResult;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * Migration to fill the field emailLower in the users saved before it
+ * existed. The update runs in the server with a pipeline, so no document is
+ * read by the application, and it only touches the documents without the
+ * field, running it again is harmless.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.migration 17/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = "user.migration.email-lower.enabled",
+        havingValue = "true", matchIfMissing = true)
+public class EmailLowerMigration implements Migration {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(EmailLowerMigration.class);
+
+    private static final String EMAIL = "email";
+
+    private static final String EMAIL_LOWER = "emailLower";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+
+    @Override
+    public void migrate() {
+
+        Query query = new Query(Criteria.where(EMAIL).exists(true)
+                .and(EMAIL_LOWER).exists(false));
+
+        AggregationUpdate update =
+                AggregationUpdate.update().set(EMAIL_LOWER)
+                        .toValue(StringOperators
+                                .valueOf(StringOperators.valueOf(EMAIL)
+                                        .toLower())
+                                .trim());
+
+        UpdateResult result =
+                mongoTemplate.updateMulti(query, update, User.class);
+
+        LOG.info("emailLower filled in {} users", result.getModifiedCount());
+    }
+
+}
@@ -0,0 +1,17 @@
+package co.com.foodbank.user.migration;
+
+/**
+ * A change of the stored documents, run once the application is ready by the
+ * {@link MigrationRunner} in the order of its {@code @Order}. Running it
+ * again must be harmless.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.migration 17/10/2026
+ */
+public interface Migration {
+
+    /**
+     * Method to change the documents that still need it.
+     */
+    void migrate();
+
+}
@@ -0,0 +1,70 @@
+package co.com.foodbank.user.migration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the enabled migrations in background after the application is ready,
+ * so the startup is neither blocked nor failed by the database. They run one
+ * after the other in their order, a failure is logged and the next ones are
+ * left for the next start, they may depend on it.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.migration 17/10/2026
+ */
+@Component
+public class MigrationRunner {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(MigrationRunner.class);
+
+    private final List<Migration> migrations;
+
+
+    /**
+     * Constructor with the enabled migrations.
+     *
+     * @param migrations
+     */
+    public MigrationRunner(ObjectProvider<Migration> migrations) {
+        this.migrations =
+                migrations.orderedStream().collect(Collectors.toList());
+    }
+
+
+    /**
+     * Run the migrations without blocking the readiness.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrations.isEmpty()) {
+            return;
+        }
+        Thread runner = new Thread(this::migrate, "user-migration");
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+
+    /**
+     * Method to run the migrations in order, up to the first one that fails.
+     */
+    public void migrate() {
+        for (Migration migration : migrations) {
+            String name = migration.getClass().getSimpleName();
+            try {
+                migration.migrate();
+            } catch (RuntimeException e) {
+                LOG.error("{} failed, it and the next migrations run at the "
+                        + "next start", name, e);
+                return;
+            }
+        }
+    }
+
+}
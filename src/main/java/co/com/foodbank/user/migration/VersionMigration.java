@@ -0,0 +1,54 @@
+package co.com.foodbank.user.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import com.mongodb.client.result.UpdateResult;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * Migration to set the version 0 in the users saved before the field
+ * existed. A user loaded without version is taken as new by the save, which
+ * inserts it and fails with a duplicated key. It only touches the documents
+ * without the field or with a null one, running it again is harmless.
+ *
+ * It runs before the other migrations, the updates through {@code User} or
+ * {@code Provider} add one to the version and on a missing field that writes
+ * a null version.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.migration 17/10/2026
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "user.migration.version.enabled",
+        havingValue = "true", matchIfMissing = true)
+public class VersionMigration implements Migration {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(VersionMigration.class);
+
+    private static final String VERSION = "version";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+
+    @Override
+    public void migrate() {
+
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(Criteria.where(VERSION).is(null)),
+                new Update().set(VERSION, 0L), User.class);
+
+        LOG.info("version set in {} users", result.getModifiedCount());
+    }
+
+}
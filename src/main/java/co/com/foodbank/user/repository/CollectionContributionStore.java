@@ -0,0 +1,150 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.ProviderAggregate;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+
+/**
+ * Contributions stored in the Contribution collection, one small document by
+ * vault and contribution.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = ContributionStore.STORAGE,
+        havingValue = "collection")
+public class CollectionContributionStore implements ContributionStore {
+
+    private static final String VAULT_ID = "vaultId";
+
+    private static final String CONTRIBUTION_ID = "contributionId";
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+    @Autowired
+    private VaultContributionRepository contributionRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+
+    /**
+     * Method to upsert the contribution document of the vault, the version
+     * of the provider is increased so the copies of the clients are stale.
+     * Only the id of the provider is read before, and the provider returned
+     * does not have the contributions, its vaults are not assembled.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Provider}
+     */
+    @Override
+    public Provider upsert(String idVault, IContribution contribution) {
+
+        VersionData owner = providerRepository.findVersionBySucursal(idVault);
+        if (Objects.isNull(owner)) {
+            return null;
+        }
+
+        Query query = new Query(Criteria.where(VAULT_ID).is(idVault)
+                .and(CONTRIBUTION_ID).is(contribution.getId()));
+        Update update = new Update().set("providerId", owner.getId())
+                .set("contribution", contribution);
+
+        try {
+            mongoTemplate.upsert(query, update, VaultContribution.class);
+        } catch (DuplicateKeyException e) {
+            /** INSERTED BY OTHER REQUEST, NOW IT IS AN UPDATE */
+            mongoTemplate.upsert(query, update, VaultContribution.class);
+        }
+
+        /** THE ETAG OF THE PROVIDER COVERS ITS CONTRIBUTIONS */
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(owner.getId())),
+                new Update().inc("version", 1), UserQueries.returnNew(),
+                Provider.class);
+    }
+
+
+    /**
+     * Method to add the contributions of the collection in the vaults, with a
+     * single query for all the vaults of the provider.
+     *
+     * @param provider
+     * @return {@code Provider}
+     */
+    @Override
+    public Provider assemble(Provider provider) {
+        assembleAll(List.of(provider));
+        return provider;
+    }
+
+
+    /**
+     * Method to add the contributions of the collection in the vaults of
+     * many providers, with a single query for all their vaults.
+     *
+     * @param providers
+     */
+    @Override
+    public void assembleAll(Collection<Provider> providers) {
+
+        Map<String, ProviderAggregate> byVault = new HashMap<>();
+        for (Provider provider : providers) {
+            Collection<IVault> vaults = provider.getSucursal();
+            if (Objects.isNull(vaults)) {
+                continue;
+            }
+            ProviderAggregate aggregate = ProviderAggregate.of(provider);
+            vaults.forEach(d -> byVault.put(d.getId(), aggregate));
+        }
+        if (byVault.isEmpty()) {
+            return;
+        }
+
+        contributionRepository
+                .findByVaults(byVault.keySet(),
+                        Sort.by(Sort.Direction.ASC, "_id"))
+                .forEach(d -> byVault.get(d.getVaultId())
+                        .putContribution(d.getVaultId(), d.getContribution()));
+    }
+
+
+    /**
+     * Method to read the page of the Contribution collection, the cursor is
+     * the id of the last contribution read.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code List<VaultContribution>}
+     */
+    @Override
+    public List<VaultContribution> page(String idVault, String cursor,
+            int limit, ContributionType type) {
+        return mongoTemplate.find(
+                UserQueries.vaultContributions(idVault, cursor, limit, type),
+                VaultContribution.class);
+    }
+
+}
@@ -0,0 +1,67 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collection;
+import java.util.List;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * Where the contributions of the provider vaults are stored, selected with
+ * the property {@code user.contribution.storage}: {@code embedded} (default)
+ * keeps them inside the Provider document, {@code collection} keeps them in
+ * the Contribution collection.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public interface ContributionStore {
+
+    String STORAGE = "user.contribution.storage";
+
+    /**
+     * Method to add or replace a contribution in a vault.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Provider} with its new version, null when no provider
+     *         has the vault. The contributions of a store that keeps them
+     *         apart are not assembled, they are read with page.
+     */
+    Provider upsert(String idVault, IContribution contribution);
+
+
+    /**
+     * Method to fill the contributions of the provider vaults, the provider
+     * returned must not be saved again.
+     *
+     * @param provider
+     * @return {@code Provider}
+     */
+    Provider assemble(Provider provider);
+
+
+    /**
+     * Method to fill the contributions of the vaults of many providers, the
+     * providers must not be saved again.
+     *
+     * @param providers
+     */
+    void assembleAll(Collection<Provider> providers);
+
+
+    /**
+     * Method to read a page of the contributions of a vault, the page is cut
+     * in the database and the id of each result is the cursor that the next
+     * page starts after.
+     *
+     * @param idVault
+     * @param cursor null for the first page.
+     * @param limit
+     * @param type null for all the types.
+     * @return {@code List<VaultContribution>}
+     */
+    List<VaultContribution> page(String idVault, String cursor, int limit,
+            ContributionType type);
+
+}
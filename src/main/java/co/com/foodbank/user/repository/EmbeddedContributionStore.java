@@ -0,0 +1,62 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * Contributions embedded in {@code Provider.sucursal[*].contribution}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = ContributionStore.STORAGE,
+        havingValue = "embedded", matchIfMissing = true)
+public class EmbeddedContributionStore implements ContributionStore {
+
+    @Autowired
+    private ProviderRepository providerRepository;
+
+
+    @Override
+    public Provider upsert(String idVault, IContribution contribution) {
+        return providerRepository.upsertContribution(idVault, contribution);
+    }
+
+
+    @Override
+    public Provider assemble(Provider provider) {
+        return provider;
+    }
+
+
+    @Override
+    public void assembleAll(Collection<Provider> providers) {
+        /** THE CONTRIBUTIONS ARE ALREADY IN THE VAULTS */
+    }
+
+
+    /**
+     * Method to read the page with an aggregation over the Provider, the
+     * cursor is the position of the contribution in the vault.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code List<VaultContribution>}
+     */
+    @Override
+    public List<VaultContribution> page(String idVault, String cursor,
+            int limit, ContributionType type) {
+        return providerRepository.findContributions(idVault, cursor, limit,
+                type);
+    }
+
+}
@@ -0,0 +1,336 @@
+package co.com.foodbank.user.repository;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import co.com.foodbank.user.exception.IdempotencyKeyException;
+import co.com.foodbank.user.v1.model.IdempotencyRecord;
+
+/**
+ * Responses of the requests with an {@code Idempotency-Key}, stored in the
+ * Idempotency collection with a Caffeine cache in front.
+ *
+ * The first request of a key inserts a locked record and runs, the
+ * duplicates of the same instance wait on its future and the ones of other
+ * instances poll the record until it has the response. A locked record whose
+ * lock expired, because its instance stopped, is taken by the next request.
+ *
+ * The locks of the requests running in this instance are extended every
+ * third of the lease while they run, so a request slower than the lease,
+ * waiting on the retries of the vault service, is not run again by other
+ * instance. The lease only bounds the time a key stays locked after its
+ * instance stopped.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Component
+@Profile("!in-memory")
+public class IdempotencyStore {
+
+    public static final String TTL = "user.idempotency.ttl";
+
+    private static final String ID = "_id";
+
+    private static final String STATUS = "status";
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String LOCKED_UNTIL = "lockedUntil";
+
+    private static final long POLL_INTERVAL = 50;
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Duration wait;
+
+    private final Duration lease;
+
+    private final Cache<String, IdempotencyRecord> completed;
+
+    private final Map<String, CompletableFuture<IdempotencyRecord>> running;
+
+    private final Set<String> leased;
+
+    private final ScheduledExecutorService renewer;
+
+
+    /**
+     * Constructor with the template and the times of the records.
+     *
+     * @param mongoTemplate
+     * @param ttl time the responses are kept.
+     * @param wait time a duplicate waits for the first request.
+     * @param lease time the key of a running request stays locked after
+     *        its last renewal.
+     * @param cacheSize responses kept in memory.
+     */
+    public IdempotencyStore(MongoTemplate mongoTemplate,
+            @Value("${" + TTL + ":24h}") Duration ttl,
+            @Value("${user.idempotency.wait:10s}") Duration wait,
+            @Value("${user.idempotency.lease:30s}") Duration lease,
+            @Value("${user.idempotency.cache-size:10000}") long cacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.wait = wait;
+        this.lease = lease;
+        this.completed = Caffeine.newBuilder().maximumSize(cacheSize)
+                .expireAfterWrite(ttl).build();
+        this.running = new ConcurrentHashMap<>();
+        this.leased = ConcurrentHashMap.newKeySet();
+        this.renewer = Executors.newSingleThreadScheduledExecutor(d -> {
+            Thread thread = new Thread(d, "idempotency-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, lease.toMillis() / 3);
+        renewer.scheduleAtFixedRate(this::renew, period, period,
+                TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Method to take a key before running its request.
+     *
+     * @param key
+     * @param fingerprint method, path and hash of the body of the request.
+     * @return {@code IdempotencyRecord} the stored response to replay, or
+     *         null when the caller runs the request and must call
+     *         {@link #complete} or {@link #release}.
+     * @throws IdempotencyKeyException when the key is of other request or it
+     *         is still running after the wait.
+     */
+    public IdempotencyRecord acquire(String key, String fingerprint) {
+
+        long deadline = System.nanoTime() + wait.toNanos();
+
+        while (true) {
+            IdempotencyRecord done = completed.getIfPresent(key);
+            if (!Objects.isNull(done)) {
+                return check(done, fingerprint);
+            }
+
+            CompletableFuture<IdempotencyRecord> mine =
+                    new CompletableFuture<>();
+            CompletableFuture<IdempotencyRecord> first =
+                    running.putIfAbsent(key, mine);
+
+            /** A DUPLICATE OF THIS INSTANCE WAITS ON THE FIRST ONE */
+            if (!Objects.isNull(first)) {
+                IdempotencyRecord result = await(key, first, deadline);
+                if (!Objects.isNull(result)) {
+                    return check(result, fingerprint);
+                }
+                continue;
+            }
+
+            boolean owner = false;
+            IdempotencyRecord result = null;
+            try {
+                owner = lock(key, fingerprint);
+                if (owner) {
+                    return null;
+                }
+                /** THE FIRST REQUEST RUNS IN OTHER INSTANCE */
+                result = poll(key, fingerprint, deadline);
+            } finally {
+                if (!owner) {
+                    finish(key, result);
+                }
+            }
+
+            if (!Objects.isNull(result)) {
+                completed.put(key, result);
+                return check(result, fingerprint);
+            }
+        }
+    }
+
+
+    /**
+     * Method to store the response of the request that took the key.
+     *
+     * @param key
+     * @param fingerprint
+     * @param status
+     * @param contentType
+     * @param body
+     */
+    public void complete(String key, String fingerprint, int status,
+            String contentType, byte[] body) {
+        IdempotencyRecord record = IdempotencyRecord.completed(key,
+                fingerprint, status, contentType, body);
+        try {
+            mongoTemplate.save(record);
+            completed.put(key, record);
+        } finally {
+            finish(key, record);
+        }
+    }
+
+
+    /**
+     * Method to free the key of a request that failed, so a retry runs it.
+     *
+     * @param key
+     */
+    public void release(String key) {
+        try {
+            mongoTemplate.remove(
+                    new Query(Criteria.where(ID).is(key).and(STATUS).is(null)),
+                    IdempotencyRecord.class);
+        } finally {
+            finish(key, null);
+        }
+    }
+
+
+    @PreDestroy
+    public void close() {
+        renewer.shutdownNow();
+    }
+
+
+    /**
+     * Insert the locked record, or take it when its lock expired.
+     */
+    private boolean lock(String key, String fingerprint) {
+
+        Date now = new Date();
+        Date until = new Date(now.getTime() + lease.toMillis());
+        boolean locked;
+        try {
+            mongoTemplate
+                    .insert(IdempotencyRecord.pending(key, fingerprint, until));
+            locked = true;
+        } catch (DuplicateKeyException e) {
+            Query expired = new Query(Criteria.where(ID).is(key)
+                    .and(FINGERPRINT).is(fingerprint).and(STATUS).is(null)
+                    .and(LOCKED_UNTIL).lt(now));
+            locked = !Objects.isNull(mongoTemplate.findAndModify(expired,
+                    new Update().set(LOCKED_UNTIL, until),
+                    IdempotencyRecord.class));
+        }
+        if (locked) {
+            leased.add(key);
+        }
+        return locked;
+    }
+
+
+    /**
+     * Extend the locks of the requests of this instance with one update. A
+     * failed renewal is tried again in the next period, the lock is lost
+     * only when the database fails for the whole lease.
+     */
+    private void renew() {
+        if (leased.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.updateMulti(
+                    new Query(Criteria.where(ID).in(leased).and(STATUS)
+                            .is(null)),
+                    new Update().set(LOCKED_UNTIL,
+                            new Date(System.currentTimeMillis()
+                                    + lease.toMillis())),
+                    IdempotencyRecord.class);
+        } catch (DataAccessException e) {
+            LOG.warn("The idempotency keys {} were not renewed", leased, e);
+        }
+    }
+
+
+    /**
+     * Read the record of other instance until it has the response, null when
+     * it was released.
+     */
+    private IdempotencyRecord poll(String key, String fingerprint,
+            long deadline) {
+        while (true) {
+            IdempotencyRecord record =
+                    mongoTemplate.findById(key, IdempotencyRecord.class);
+            if (Objects.isNull(record) || record.isCompleted()) {
+                return record;
+            }
+            check(record, fingerprint);
+            if (record.getLockedUntil().before(new Date())) {
+                return null;
+            }
+            if (System.nanoTime() > deadline) {
+                throw inProgress();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw inProgress();
+            }
+        }
+    }
+
+
+    private IdempotencyRecord await(String key,
+            CompletableFuture<IdempotencyRecord> first, long deadline) {
+        try {
+            return first.get(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        } catch (TimeoutException | ExecutionException e) {
+            throw inProgress();
+        }
+    }
+
+
+    private void finish(String key, IdempotencyRecord result) {
+        leased.remove(key);
+        CompletableFuture<IdempotencyRecord> future = running.remove(key);
+        if (!Objects.isNull(future)) {
+            future.complete(result);
+        }
+    }
+
+
+    private IdempotencyRecord check(IdempotencyRecord record,
+            String fingerprint) {
+        if (!Objects.equals(record.getFingerprint(), fingerprint)) {
+            throw new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was used by other request");
+        }
+        return record;
+    }
+
+
+    private IdempotencyKeyException inProgress() {
+        return new IdempotencyKeyException(HttpStatus.CONFLICT,
+                "Idempotency-Key is still running");
+    }
+
+}
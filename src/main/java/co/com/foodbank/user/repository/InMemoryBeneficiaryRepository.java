@@ -0,0 +1,28 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.Beneficiary;
+
+/**
+ * {@link BeneficiaryRepository} of the profile {@code in-memory}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryBeneficiaryRepository
+        extends InMemoryRepository<Beneficiary>
+        implements BeneficiaryRepository {
+
+    public InMemoryBeneficiaryRepository(InMemoryUserStore store) {
+        super(store, Beneficiary.class);
+    }
+
+
+    @Override
+    public Beneficiary findBeneficiary(String id, String socialReason) {
+        return read(store.findById(id, "socialReason", socialReason));
+    }
+
+}
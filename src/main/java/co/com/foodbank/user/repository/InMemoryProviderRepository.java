@@ -0,0 +1,150 @@
+package co.com.foodbank.user.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * {@link ProviderRepository} of the profile {@code in-memory}, the provider
+ * of a vault is found with the index by vault id of the
+ * {@link InMemoryUserStore}. The summary and the pages of contributions are
+ * built as the documents the aggregations of {@link UserQueries} return and
+ * read with the converter.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryProviderRepository extends InMemoryRepository<Provider>
+        implements ProviderRepository {
+
+    private static final String ID = "_id";
+
+
+    public InMemoryProviderRepository(InMemoryUserStore store) {
+        super(store, Provider.class);
+    }
+
+
+    @Override
+    public Provider findBySucursal(String id) {
+        return read(store.findBySucursal(id));
+    }
+
+
+    @Override
+    public Provider upsertContribution(String idVault,
+            IContribution contribution) {
+        return store.upsertContribution(idVault, contribution);
+    }
+
+
+    /**
+     * Method to read the provider that owns a vault with only its name, its
+     * cuil and the header fields of that vault.
+     *
+     * @param idVault
+     * @return {@code ProviderSummaryData}
+     */
+    @Override
+    public ProviderSummaryData findSummaryBySucursal(String idVault) {
+
+        Document provider = store.findBySucursal(idVault);
+        Document vault = InMemoryUserStore.vault(provider, idVault);
+        if (Objects.isNull(vault)) {
+            return null;
+        }
+
+        Document summary = new Document(ID, provider.get(ID));
+        copy(provider, summary, "name", "cuil");
+        Document header = new Document(ID, vault.get(ID));
+        copy(vault, header, "contact", "phones", "address");
+        summary.put("vault", header);
+        return store.read(ProviderSummaryData.class, summary);
+    }
+
+
+    @Override
+    public Provider findBySucursal(String idVault, SparseFields fields) {
+        return store.read(store.findBySucursal(idVault), Provider.class,
+                fields);
+    }
+
+
+    @Override
+    public VersionData findVersionBySucursal(String idVault) {
+        return store.version(store.findBySucursal(idVault));
+    }
+
+
+    /**
+     * Method to read a page of the contributions of a vault, the cursor is
+     * the position of the contribution in the vault.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code List<VaultContribution>}
+     */
+    @Override
+    public List<VaultContribution> findContributions(String idVault,
+            String cursor, int limit, ContributionType type) {
+
+        int position = UserQueries.position(cursor);
+        Document vault = InMemoryUserStore
+                .vault(store.findBySucursal(idVault), idVault);
+        if (position < 0 || Objects.isNull(vault)
+                || !(vault.get("contribution") instanceof List)) {
+            return Collections.emptyList();
+        }
+
+        List<?> contributions = (List<?>) vault.get("contribution");
+        List<VaultContribution> page = new ArrayList<>();
+        for (int i = position; i < contributions.size()
+                && page.size() < limit; i++) {
+            Document contribution = (Document) contributions.get(i);
+            if (!Objects.isNull(type) && type != typeOf(contribution)) {
+                continue;
+            }
+            page.add(store.read(VaultContribution.class,
+                    new Document(ID, String.valueOf(i))
+                            .append("vaultId", idVault)
+                            .append("contributionId", contribution.get(ID))
+                            .append("contribution", contribution)));
+        }
+        return page;
+    }
+
+
+    /**
+     * A general contribution carries its volume and a detail one does not.
+     */
+    private static ContributionType typeOf(Document contribution) {
+        return Objects.isNull(contribution.get("volume"))
+                ? ContributionType.DETAIL
+                : ContributionType.GENERAL;
+    }
+
+
+    private static void copy(Document source, Document target,
+            String... fields) {
+        for (String field : fields) {
+            if (source.containsKey(field)) {
+                target.put(field, source.get(field));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,357 @@
+package co.com.foodbank.user.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.bson.Document;
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * The operations of the MongoRepository over the {@link InMemoryUserStore},
+ * for the users of one type. The users of the other types are skipped, the
+ * type is the {@code _class} of the document.
+ *
+ * The queries by example scan the documents, the probe is written as the
+ * documents are and each of its fields is matched with the string matcher,
+ * the case and the transformer of its path. The null properties of the probe
+ * are never matched, as with {@link ExampleMatcher.NullHandler#IGNORE}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+abstract class InMemoryRepository<T extends User>
+        implements MongoRepository<T, String> {
+
+    private static final String ID = "_id";
+
+    private static final String EMAIL_LOWER = "emailLower";
+
+    protected final InMemoryUserStore store;
+
+    private final Class<T> type;
+
+
+    InMemoryRepository(InMemoryUserStore store, Class<T> type) {
+        this.store = store;
+        this.type = type;
+    }
+
+
+    @Override
+    public <S extends T> S save(S entity) {
+        return store.save(entity);
+    }
+
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> result = new ArrayList<>();
+        entities.forEach(d -> result.add(store.save(d)));
+        return result;
+    }
+
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        return store.insert(entity);
+    }
+
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> result = new ArrayList<>();
+        entities.forEach(d -> result.add(store.insert(d)));
+        return result;
+    }
+
+
+    @Override
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(read(store.findById(id)));
+    }
+
+
+    @Override
+    public boolean existsById(String id) {
+        Document document = store.findById(id);
+        return !Objects.isNull(document) && store.isA(document, type);
+    }
+
+
+    @Override
+    public List<T> findAll() {
+        List<T> result = new ArrayList<>();
+        for (Document document : store.findAll()) {
+            T user = read(document);
+            if (!Objects.isNull(user)) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Method to read all the users ordered by the properties of the sort.
+     *
+     * @param sort
+     * @return {@code List<T>}
+     */
+    @Override
+    public List<T> findAll(Sort sort) {
+        return sort(findAll(), sort);
+    }
+
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(findAll(pageable.getSort()), pageable);
+    }
+
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> result = new ArrayList<>();
+        for (String id : ids) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+
+    @Override
+    public long count() {
+        return store.findAll().stream().filter(d -> store.isA(d, type))
+                .count();
+    }
+
+
+    @Override
+    public void deleteById(String id) {
+        if (existsById(id)) {
+            store.delete(id);
+        }
+    }
+
+
+    @Override
+    public void delete(T entity) {
+        deleteById(entity.getId());
+    }
+
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+
+    @Override
+    public void deleteAll() {
+        for (Document document : store.findAll()) {
+            if (store.isA(document, type)) {
+                store.delete(document.get("_id").toString());
+            }
+        }
+    }
+
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        List<S> result = findAll(example);
+        return result.isEmpty() ? Optional.empty()
+                : Optional.of(result.get(0));
+    }
+
+
+    /**
+     * Method to read the users of the type of the probe that match it.
+     *
+     * @param example
+     * @return {@code List<S>}
+     */
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        ExampleMatcherAccessor matcher =
+                new ExampleMatcherAccessor(example.getMatcher());
+        Map<String, Object> criteria = new LinkedHashMap<>();
+        criteria(store.write(example.getProbe()), "", matcher, criteria);
+
+        List<S> result = new ArrayList<>();
+        for (Document document : store.findAll()) {
+            if (store.isA(document, example.getProbeType())
+                    && matches(document, criteria, matcher,
+                            example.getMatcher().isAllMatching())) {
+                result.add(example.getProbeType().cast(read(document)));
+            }
+        }
+        return result;
+    }
+
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return sort(findAll(example), sort);
+    }
+
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example,
+            Pageable pageable) {
+        return page(findAll(example, pageable.getSort()), pageable);
+    }
+
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return findAll(example).size();
+    }
+
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return findOne(example).isPresent();
+    }
+
+
+    protected T read(Document document) {
+        return store.read(document, type, SparseFields.ALL);
+    }
+
+
+    /**
+     * Sorts the users by the properties of the sort.
+     */
+    private static <S> List<S> sort(List<S> users, Sort sort) {
+        Comparator<S> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<S> next = new PropertyComparator<>(order.getProperty(),
+                    order.isIgnoreCase(), order.isAscending());
+            comparator = Objects.isNull(comparator) ? next
+                    : comparator.thenComparing(next);
+        }
+        if (!Objects.isNull(comparator)) {
+            users.sort(comparator);
+        }
+        return users;
+    }
+
+
+    private static <S> Page<S> page(List<S> users, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(users);
+        }
+        int from = (int) Math.min(pageable.getOffset(), users.size());
+        int to = Math.min(from + pageable.getPageSize(), users.size());
+        return new PageImpl<>(new ArrayList<>(users.subList(from, to)),
+                pageable, users.size());
+    }
+
+
+    /**
+     * Collects the values of the probe by their property path, the nested
+     * documents are walked. The type and the emailLower, written from the
+     * email, are not criteria.
+     */
+    private static void criteria(Document probe, String prefix,
+            ExampleMatcherAccessor matcher, Map<String, Object> criteria) {
+        for (Map.Entry<String, Object> d : probe.entrySet()) {
+            if (UserCodec.CLASS.equals(d.getKey())
+                    || EMAIL_LOWER.equals(d.getKey())) {
+                continue;
+            }
+            String path = prefix + (ID.equals(d.getKey()) ? "id" : d.getKey());
+            if (matcher.isIgnoredPath(path)) {
+                continue;
+            }
+            if (d.getValue() instanceof Document) {
+                criteria((Document) d.getValue(), path + ".", matcher,
+                        criteria);
+            } else {
+                matcher.getValueTransformerForPath(path)
+                        .apply(Optional.of(d.getValue()))
+                        .ifPresent(value -> criteria.put(path, value));
+            }
+        }
+    }
+
+
+    private static boolean matches(Document document,
+            Map<String, Object> criteria, ExampleMatcherAccessor matcher,
+            boolean all) {
+        for (Map.Entry<String, Object> d : criteria.entrySet()) {
+            boolean match = matches(value(document, d.getKey()), d.getValue(),
+                    matcher.getStringMatcherForPath(d.getKey()),
+                    matcher.isIgnoreCaseForPath(d.getKey()));
+            if (match != all) {
+                return match;
+            }
+        }
+        return all || criteria.isEmpty();
+    }
+
+
+    private static boolean matches(Object value, Object probe,
+            ExampleMatcher.StringMatcher matcher, boolean ignoreCase) {
+        if (!(value instanceof String) || !(probe instanceof String)) {
+            return Objects.equals(value, probe);
+        }
+        String text = (String) value;
+        String pattern = (String) probe;
+        if (matcher == ExampleMatcher.StringMatcher.REGEX) {
+            return Pattern.compile(pattern,
+                    ignoreCase ? Pattern.CASE_INSENSITIVE : 0).matcher(text)
+                    .find();
+        }
+        if (ignoreCase) {
+            text = text.toLowerCase(Locale.ROOT);
+            pattern = pattern.toLowerCase(Locale.ROOT);
+        }
+        switch (matcher) {
+        case STARTING:
+            return text.startsWith(pattern);
+        case ENDING:
+            return text.endsWith(pattern);
+        case CONTAINING:
+            return text.contains(pattern);
+        default:
+            return text.equals(pattern);
+        }
+    }
+
+
+    /**
+     * The value of a property path in a document, the ids are stored as
+     * {@code _id}.
+     */
+    private static Object value(Document document, String path) {
+        Object value = document;
+        for (String property : path.split("\\.")) {
+            if (!(value instanceof Document)) {
+                return null;
+            }
+            Document node = (Document) value;
+            value = "id".equals(property) && node.containsKey(ID)
+                    ? node.get(ID)
+                    : node.get(property);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,214 @@
+package co.com.foodbank.user.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * {@link UserRepository} of the profile {@code in-memory}, the queries are
+ * answered with the indexes of the {@link InMemoryUserStore} and the
+ * projections are applied to the documents before they are read.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryUserRepository extends InMemoryRepository<User>
+        implements UserRepository {
+
+    private static final String DNI = "dni";
+
+    private static final String SOCIAL_REASON = "socialReason";
+
+
+    public InMemoryUserRepository(InMemoryUserStore store) {
+        super(store, User.class);
+    }
+
+
+    @Override
+    public Collection<User> findByEmailLower(String email) {
+        return findByEmailLower(email, SparseFields.ALL);
+    }
+
+
+    @Override
+    public User finByCuit(Long cuit) {
+        return read(store.findByCuil(cuit));
+    }
+
+
+    @Override
+    public User finByDni(Long dni) {
+        return read(store.findByDni(dni));
+    }
+
+
+    @Override
+    public List<User> findByCuits(Collection<Long> cuits) {
+        return findIn(cuits, store::findByCuil);
+    }
+
+
+    @Override
+    public List<User> findByDnis(Collection<Long> dnis) {
+        return findIn(dnis, store::findByDni);
+    }
+
+
+    @Override
+    public User findByUser(String name, String email, String phones) {
+        return findByUser(name, email, phones, SparseFields.ALL);
+    }
+
+
+    /**
+     * Method to walk the users in the order of their ids, the users saved
+     * meanwhile may be walked or not.
+     *
+     * @param fields
+     * @param consumer
+     */
+    @Override
+    public void streamAll(SparseFields fields, Consumer<User> consumer) {
+        for (Document document : store.findAll()) {
+            consumer.accept(store.read(document, User.class, fields));
+        }
+    }
+
+
+    @Override
+    public List<User> findPage(String after, int limit, SparseFields fields) {
+        List<User> result = new ArrayList<>();
+        for (Document document : store.findAfter(after)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(store.read(document, User.class, fields));
+        }
+        return result;
+    }
+
+
+    @Override
+    public List<User> findByEmailPrefix(String prefix, int limit,
+            SparseFields fields) {
+        return read(store.findByEmailPrefix(User.normalizeEmail(prefix),
+                limit), fields);
+    }
+
+
+    @Override
+    public User findById(String id, SparseFields fields) {
+        return store.read(store.findById(id), User.class, fields);
+    }
+
+
+    @Override
+    public User findByDni(Long dni, SparseFields fields) {
+        return store.read(store.findByDni(dni), User.class, fields);
+    }
+
+
+    @Override
+    public User findByCuil(Long cuil, SparseFields fields) {
+        return store.read(store.findByCuil(cuil), User.class, fields);
+    }
+
+
+    @Override
+    public List<User> findByEmailLower(String email, SparseFields fields) {
+        return read(store.findByEmailLower(email), fields);
+    }
+
+
+    /**
+     * Method to find an user by name, email and phones among the users of
+     * the email.
+     *
+     * @param name
+     * @param email
+     * @param phones
+     * @param fields
+     * @return {@code User}
+     */
+    @Override
+    public User findByUser(String name, String email, String phones,
+            SparseFields fields) {
+        for (Document document : store
+                .findByEmailLower(User.normalizeEmail(email))) {
+            if (Objects.equals(name, document.get("name"))
+                    && Objects.equals(email, document.get("email"))
+                    && Objects.equals(phones, document.get("phones"))) {
+                return store.read(document, User.class, fields);
+            }
+        }
+        return null;
+    }
+
+
+    @Override
+    public Beneficiary findBeneficiary(String id, String socialReason,
+            SparseFields fields) {
+        return store.read(store.findById(id, SOCIAL_REASON, socialReason),
+                Beneficiary.class, fields);
+    }
+
+
+    @Override
+    public Volunter findVolunteer(String id, Long dni, SparseFields fields) {
+        return store.read(store.findById(id, DNI, dni), Volunter.class,
+                fields);
+    }
+
+
+    @Override
+    public VersionData findVersionById(String id) {
+        return store.version(store.findById(id));
+    }
+
+
+    @Override
+    public Map<Integer, String> insertAll(List<? extends User> users) {
+        return store.insertAll(users);
+    }
+
+
+    /**
+     * The users of the values, each one once like an {@code $in}.
+     */
+    private List<User> findIn(Collection<Long> values,
+            Function<Long, Document> index) {
+        List<User> result = new ArrayList<>();
+        for (Long value : new LinkedHashSet<>(values)) {
+            User user = read(index.apply(value));
+            if (!Objects.isNull(user)) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+
+    private List<User> read(List<Document> documents, SparseFields fields) {
+        List<User> result = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            result.add(store.read(document, User.class, fields));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,664 @@
+package co.com.foodbank.user.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * User collection of the profile {@code in-memory}. The users are kept as
+ * the documents the {@link UserCodec} writes in the database, so every read
+ * builds new objects and a save is checked against the version stored, as
+ * with mongo. A stored document is never changed, a write replaces it.
+ *
+ * The indexes of {@link UserIndexManager} used by the queries are maps by
+ * dni, cuil, emailLower and vault id, dni and cuil are unique. The reads do
+ * not lock and check the document they get from an index, the writes are
+ * serialized and encode the document before taking the lock.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryUserStore {
+
+    private static final String ID = "_id";
+    private static final String VERSION = "version";
+    private static final String DNI = "dni";
+    private static final String CUIL = "cuil";
+    private static final String EMAIL_LOWER = "emailLower";
+    private static final String SUCURSAL = "sucursal";
+    private static final String CONTRIBUTION = "contribution";
+
+    private static final Object ALL = new Object();
+
+    private static final Map<Class<?>, String> ALIASES =
+            Map.of(Provider.class, UserCodec.PROVIDER, Volunter.class,
+                    UserCodec.VOLUNTER, Beneficiary.class,
+                    UserCodec.BENEFICIARY);
+
+    private final MongoConverter converter;
+
+    private final UserCodec codec;
+
+    private final ConcurrentNavigableMap<String, Document> users =
+            new ConcurrentSkipListMap<>();
+
+    private final Map<Long, String> byDni = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> byCuil = new ConcurrentHashMap<>();
+
+    private final ConcurrentNavigableMap<String, Set<String>> byEmail =
+            new ConcurrentSkipListMap<>();
+
+    private final Map<String, String> bySucursal = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor with the converter of the nested value objects and of the
+     * projections.
+     *
+     * @param converter
+     */
+    public InMemoryUserStore(MongoConverter converter) {
+        this.converter = converter;
+        this.codec = new UserCodec(() -> converter);
+    }
+
+
+    /**
+     * Method to find the document of an user.
+     *
+     * @param id
+     * @return {@code Document} null when it does not exist.
+     */
+    public Document findById(String id) {
+        return Objects.isNull(id) ? null : users.get(id);
+    }
+
+
+    /**
+     * Method to find the document of an user when a field has the value.
+     *
+     * @param id
+     * @param field
+     * @param value
+     * @return {@code Document} null when it does not exist.
+     */
+    public Document findById(String id, String field, Object value) {
+        Document document = findById(id);
+        return !Objects.isNull(document)
+                && Objects.equals(value, document.get(field)) ? document
+                        : null;
+    }
+
+
+    /**
+     * Method to read all the documents ordered by id, the ones written while
+     * they are read may be seen or not, like a database cursor.
+     *
+     * @return {@code Collection<Document>}
+     */
+    public Collection<Document> findAll() {
+        return users.values();
+    }
+
+
+    /**
+     * Method to read the documents ordered by id starting after the given
+     * id.
+     *
+     * @param after null for the first one.
+     * @return {@code Collection<Document>}
+     */
+    public Collection<Document> findAfter(String after) {
+        return Objects.isNull(after) ? users.values()
+                : users.tailMap(after, false).values();
+    }
+
+
+    public Document findByDni(Long dni) {
+        return Objects.isNull(dni) ? null
+                : findById(byDni.get(dni), DNI, dni);
+    }
+
+
+    public Document findByCuil(Long cuil) {
+        return Objects.isNull(cuil) ? null
+                : findById(byCuil.get(cuil), CUIL, cuil);
+    }
+
+
+    /**
+     * Method to find the documents of a normalized email.
+     *
+     * @param email
+     * @return {@code List<Document>}
+     */
+    public List<Document> findByEmailLower(String email) {
+        if (Objects.isNull(email)) {
+            return Collections.emptyList();
+        }
+        return byEmail(email, byEmail.get(email), Integer.MAX_VALUE,
+                new ArrayList<>());
+    }
+
+
+    /**
+     * Method to find the documents whose normalized email starts with the
+     * prefix, ordered by the email.
+     *
+     * @param prefix normalized.
+     * @param limit
+     * @return {@code List<Document>}
+     */
+    public List<Document> findByEmailPrefix(String prefix, int limit) {
+        List<Document> result = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> d : byEmail.tailMap(prefix)
+                .entrySet()) {
+            if (!d.getKey().startsWith(prefix) || result.size() >= limit) {
+                break;
+            }
+            byEmail(d.getKey(), d.getValue(), limit, result);
+        }
+        return result;
+    }
+
+
+    /**
+     * Method to find the document of the provider that owns a vault.
+     *
+     * @param idVault
+     * @return {@code Document} null when no provider has the vault.
+     */
+    public Document findBySucursal(String idVault) {
+        Document document = Objects.isNull(idVault) ? null
+                : findById(bySucursal.get(idVault));
+        return Objects.isNull(vault(document, idVault)) ? null : document;
+    }
+
+
+    /**
+     * Method to know if a document is of an user type, by its
+     * {@code _class}.
+     *
+     * @param document
+     * @param type
+     * @return {@code boolean}
+     */
+    public boolean isA(Document document, Class<?> type) {
+        String alias = ALIASES.get(type);
+        return Objects.isNull(alias)
+                || alias.equals(document.get(UserCodec.CLASS));
+    }
+
+
+    /**
+     * Method to read a document as an user of the type, only with the
+     * fields asked.
+     *
+     * @param document
+     * @param type
+     * @param fields
+     * @return {@code T} null when the document is null or of other type.
+     */
+    public <T extends User> T read(Document document, Class<T> type,
+            SparseFields fields) {
+        if (Objects.isNull(document) || !isA(document, type)) {
+            return null;
+        }
+        return type.cast(codec.read(fields.isAll() ? document
+                : project(document, UserQueries.projection(fields))));
+    }
+
+
+    /**
+     * Method to read a document with the converter, as the projections and
+     * aggregations of the database are read.
+     *
+     * @param type
+     * @param document
+     * @return {@code T}
+     */
+    public <T> T read(Class<T> type, Document document) {
+        return converter.read(type, document);
+    }
+
+
+    /**
+     * Method to write an user as its stored document, without storing it.
+     *
+     * @param user
+     * @return {@code Document}
+     */
+    public Document write(User user) {
+        return codec.write(user);
+    }
+
+
+    /**
+     * Method to read only the id and the version of a document.
+     *
+     * @param document
+     * @return {@code VersionData} null when the document is null.
+     */
+    public VersionData version(Document document) {
+        return Objects.isNull(document) ? null
+                : read(VersionData.class, new Document(ID, document.get(ID))
+                        .append(VERSION, document.get(VERSION)));
+    }
+
+
+    /**
+     * Method to insert an user, the id and the version are assigned when
+     * they are null.
+     *
+     * @param user
+     * @return {@code T}
+     * @throws DuplicateKeyException when the id, the dni or the cuil are of
+     *         other user.
+     */
+    public <T extends User> T insert(T user) {
+
+        if (Objects.isNull(user.getId())) {
+            user.setId(new ObjectId().toHexString());
+        }
+        if (Objects.isNull(user.getVersion())) {
+            user.setVersion(0L);
+        }
+
+        Document document = codec.write(user);
+        synchronized (this) {
+            if (users.containsKey(user.getId())) {
+                throw duplicate("_id_", user.getId());
+            }
+            replace(user.getId(), null, document);
+        }
+        return user;
+    }
+
+
+    /**
+     * Method to save an user, it is inserted when its version is null and
+     * replaced when its version is the stored one, then the version is
+     * increased.
+     *
+     * @param user
+     * @return {@code T}
+     * @throws OptimisticLockingFailureException when the stored version is
+     *         other.
+     */
+    public <T extends User> T save(T user) {
+
+        Long version = user.getVersion();
+        if (Objects.isNull(version)) {
+            return insert(user);
+        }
+
+        user.setVersion(version + 1);
+        try {
+            Document document = codec.write(user);
+            synchronized (this) {
+                Document previous = findById(user.getId());
+                if (Objects.isNull(previous)
+                        || !version.equals(previous.get(VERSION))) {
+                    throw new OptimisticLockingFailureException(
+                            String.format("Cannot save entity %s with version"
+                                    + " %s. Has it been modified meanwhile?",
+                                    user.getId(), version));
+                }
+                replace(user.getId(), previous, document);
+            }
+        } catch (RuntimeException e) {
+            user.setVersion(version);
+            throw e;
+        }
+        return user;
+    }
+
+
+    /**
+     * Method to insert many users, a user that fails does not stop the
+     * others.
+     *
+     * @param users
+     * @return {@code Map<Integer, String>} the error by position of the users
+     *         not inserted.
+     */
+    public Map<Integer, String> insertAll(List<? extends User> users) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            try {
+                insert(users.get(i));
+            } catch (DuplicateKeyException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+
+    /**
+     * Method to add a contribution in a vault, or replace the one with the
+     * same id in its position, and increase the version of the provider.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Provider} updated, null when no provider has the vault.
+     */
+    public Provider upsertContribution(String idVault,
+            IContribution contribution) {
+
+        Document value = new Document();
+        converter.write(contribution, value);
+
+        /** OTHER WRITE REPLACED THE DOCUMENT, IT IS READ AGAIN */
+        while (true) {
+            Document previous = findBySucursal(idVault);
+            if (Objects.isNull(previous)) {
+                return null;
+            }
+            Document document = withContribution(previous, idVault, value);
+            String id = previous.get(ID).toString();
+            synchronized (this) {
+                if (users.get(id) == previous) {
+                    replace(id, previous, document);
+                    return codec.readProvider(document);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Method to delete an user.
+     *
+     * @param id
+     */
+    public synchronized void delete(String id) {
+        Document previous = findById(id);
+        if (!Objects.isNull(previous)) {
+            users.remove(id);
+            unindex(id, previous, new Document());
+        }
+    }
+
+
+    /**
+     * Method to find a vault in the document of a provider.
+     *
+     * @param document
+     * @param idVault
+     * @return {@code Document} null when the provider does not have it.
+     */
+    public static Document vault(Document document, String idVault) {
+        if (Objects.isNull(document)
+                || !(document.get(SUCURSAL) instanceof List)) {
+            return null;
+        }
+        for (Object vault : (List<?>) document.get(SUCURSAL)) {
+            if (vault instanceof Document && idVault.equals(id(vault))) {
+                return (Document) vault;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Store the document and update the indexes, the unique ones are checked
+     * before anything changes.
+     */
+    private void replace(String id, Document previous, Document document) {
+
+        Long dni = toLong(document.get(DNI));
+        Long cuil = toLong(document.get(CUIL));
+        unique(byDni, dni, id, "dni_1");
+        unique(byCuil, cuil, id, "cuil_1");
+
+        if (!Objects.isNull(dni)) {
+            byDni.put(dni, id);
+        }
+        if (!Objects.isNull(cuil)) {
+            byCuil.put(cuil, id);
+        }
+        Object email = document.get(EMAIL_LOWER);
+        if (!Objects.isNull(email)) {
+            byEmail.computeIfAbsent(email.toString(),
+                    d -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String idVault : vaults(document)) {
+            bySucursal.put(idVault, id);
+        }
+
+        users.put(id, document);
+        if (!Objects.isNull(previous)) {
+            unindex(id, previous, document);
+        }
+    }
+
+
+    /**
+     * Remove from the indexes the values of the previous document that the
+     * new one does not have.
+     */
+    private void unindex(String id, Document previous, Document document) {
+
+        Long dni = toLong(previous.get(DNI));
+        if (!Objects.isNull(dni) && !dni.equals(document.get(DNI))) {
+            byDni.remove(dni, id);
+        }
+        Long cuil = toLong(previous.get(CUIL));
+        if (!Objects.isNull(cuil) && !cuil.equals(document.get(CUIL))) {
+            byCuil.remove(cuil, id);
+        }
+        Object email = previous.get(EMAIL_LOWER);
+        if (!Objects.isNull(email)
+                && !email.equals(document.get(EMAIL_LOWER))) {
+            Set<String> ids = byEmail.get(email.toString());
+            if (!Objects.isNull(ids) && ids.remove(id) && ids.isEmpty()) {
+                byEmail.remove(email.toString(), ids);
+            }
+        }
+        Set<String> kept = vaults(document);
+        for (String idVault : vaults(previous)) {
+            if (!kept.contains(idVault)) {
+                bySucursal.remove(idVault, id);
+            }
+        }
+    }
+
+
+    private void unique(Map<Long, String> index, Long value, String id,
+            String name) {
+        String holder = Objects.isNull(value) ? null : index.get(value);
+        if (!Objects.isNull(holder) && !holder.equals(id)) {
+            throw duplicate(name, value);
+        }
+    }
+
+
+    private DuplicateKeyException duplicate(String index, Object value) {
+        return new DuplicateKeyException("E11000 duplicate key error"
+                + " collection: " + UserIndexManager.USER_COLLECTION
+                + " index: " + index + " dup key: " + value);
+    }
+
+
+    private List<Document> byEmail(String email, Set<String> ids, int limit,
+            List<Document> result) {
+        if (Objects.isNull(ids)) {
+            return result;
+        }
+        for (String id : ids) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Document document = findById(id, EMAIL_LOWER, email);
+            if (!Objects.isNull(document)) {
+                result.add(document);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Copy of the provider with the contribution in the vault, only the
+     * vault and its list are copied, the other values are shared.
+     */
+    private Document withContribution(Document previous, String idVault,
+            Document contribution) {
+
+        List<Object> sucursal =
+                new ArrayList<>((List<?>) previous.get(SUCURSAL));
+        for (int i = 0; i < sucursal.size(); i++) {
+            if (!(sucursal.get(i) instanceof Document)
+                    || !idVault.equals(id(sucursal.get(i)))) {
+                continue;
+            }
+            Document vault = new Document((Document) sucursal.get(i));
+            List<Object> contributions = vault.get(CONTRIBUTION) instanceof List
+                    ? new ArrayList<>((List<?>) vault.get(CONTRIBUTION))
+                    : new ArrayList<>();
+            int position = indexOf(contributions, id(contribution));
+            if (position < 0) {
+                contributions.add(contribution);
+            } else {
+                contributions.set(position, contribution);
+            }
+            vault.put(CONTRIBUTION, contributions);
+            sucursal.set(i, vault);
+            break;
+        }
+
+        Long version = toLong(previous.get(VERSION));
+        Document document = new Document(previous);
+        document.put(SUCURSAL, sucursal);
+        document.put(VERSION, Objects.isNull(version) ? 1L : version + 1);
+        return document;
+    }
+
+
+    private static int indexOf(List<Object> contributions, String id) {
+        for (int i = 0; !Objects.isNull(id) && i < contributions.size(); i++) {
+            if (id.equals(id(contributions.get(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    private static Set<String> vaults(Document document) {
+        if (!(document.get(SUCURSAL) instanceof List)) {
+            return Collections.emptySet();
+        }
+        Set<String> ids = new HashSet<>();
+        for (Object vault : (List<?>) document.get(SUCURSAL)) {
+            String id = id(vault);
+            if (!Objects.isNull(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+
+    /**
+     * The embedded ids are ObjectId or String.
+     */
+    private static String id(Object value) {
+        Object id = value instanceof Document ? ((Document) value).get(ID)
+                : null;
+        return Objects.isNull(id) ? null : id.toString();
+    }
+
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+
+    /**
+     * Copy of the document with only the fields of the projection, as the
+     * database does. The arrays are projected element by element.
+     */
+    @SuppressWarnings("unchecked")
+    private static Document project(Document document, List<String> fields) {
+
+        Map<String, Object> include = new HashMap<>();
+        include.put(ID, ALL);
+        for (String field : fields) {
+            Map<String, Object> node = include;
+            String[] names = field.split("\\.");
+            for (int i = 0; i < names.length - 1 && !Objects.isNull(node);
+                    i++) {
+                Object child =
+                        node.computeIfAbsent(names[i], d -> new HashMap<>());
+                node = child == ALL ? null : (Map<String, Object>) child;
+            }
+            if (!Objects.isNull(node)) {
+                node.put(names[names.length - 1], ALL);
+            }
+        }
+        return project(document, include);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static Document project(Document document,
+            Map<String, Object> include) {
+        Document projected = new Document();
+        for (Map.Entry<String, Object> d : document.entrySet()) {
+            Object nested = include.get(d.getKey());
+            if (nested == ALL) {
+                projected.put(d.getKey(), d.getValue());
+            } else if (!Objects.isNull(nested)
+                    && (d.getValue() instanceof Document
+                            || d.getValue() instanceof List)) {
+                projected.put(d.getKey(), project(d.getValue(),
+                        (Map<String, Object>) nested));
+            }
+        }
+        return projected;
+    }
+
+
+    private static Object project(Object value, Map<String, Object> include) {
+        if (value instanceof Document) {
+            return project((Document) value, include);
+        }
+        List<Object> projected = new ArrayList<>();
+        for (Object element : (List<?>) value) {
+            if (element instanceof Document || element instanceof List) {
+                projected.add(project(element, include));
+            }
+        }
+        return projected;
+    }
+
+}
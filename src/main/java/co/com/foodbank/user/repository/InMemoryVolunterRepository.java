@@ -0,0 +1,27 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * {@link VolunterRepository} of the profile {@code in-memory}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryVolunterRepository extends InMemoryRepository<Volunter>
+        implements VolunterRepository {
+
+    public InMemoryVolunterRepository(InMemoryUserStore store) {
+        super(store, Volunter.class);
+    }
+
+
+    @Override
+    public Volunter findVolunteer(String id, Long valueOf) {
+        return read(store.findById(id, "dni", valueOf));
+    }
+
+}
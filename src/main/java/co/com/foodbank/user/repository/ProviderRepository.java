@@ -10,7 +10,8 @@ import co.com.foodbank.user.v1.model.Provider;
  * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 18/05/2021
  */
 @Repository
-public interface ProviderRepository extends MongoRepository<Provider, String> {
+public interface ProviderRepository
+        extends MongoRepository<Provider, String>, ProviderRepositoryCustom {
 
     @Query("{'sucursal.id': ?0 }")
     Provider findBySucursal(String id) throws UserNotFoundException;
@@ -0,0 +1,78 @@
+package co.com.foodbank.user.repository;
+
+import java.util.List;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * Custom operations over the Providers that can not be expressed with a
+ * {@code @Query}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public interface ProviderRepositoryCustom {
+
+    /**
+     * Method to add a contribution in a vault of the provider, or replace it
+     * when the vault already has a contribution with the same id. It is
+     * applied in the server as a single atomic update.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Provider} updated, null when no provider has the vault.
+     */
+    Provider upsertContribution(String idVault, IContribution contribution);
+
+
+    /**
+     * Method to find the provider that owns a vault, with only its id, name
+     * and cuil and the header fields of that vault.
+     *
+     * @param idVault
+     * @return {@code ProviderSummaryData} null when no provider has the vault.
+     */
+    ProviderSummaryData findSummaryBySucursal(String idVault);
+
+
+    /**
+     * Method to find the provider that owns a vault reading only the fields
+     * asked.
+     *
+     * @param idVault
+     * @param fields
+     * @return {@code Provider} null when no provider has the vault.
+     */
+    Provider findBySucursal(String idVault, SparseFields fields);
+
+
+    /**
+     * Method to read only the id and the version of the provider that owns a
+     * vault.
+     *
+     * @param idVault
+     * @return {@code VersionData} null when no provider has the vault.
+     */
+    VersionData findVersionBySucursal(String idVault);
+
+
+    /**
+     * Method to read a page of the contributions embedded in a vault, the
+     * page is cut in the database.
+     *
+     * @param idVault
+     * @param cursor position of the first contribution, null for the first
+     *        page.
+     * @param limit
+     * @param type null for all the types.
+     * @return {@code List<VaultContribution>} with the position as id, empty
+     *         when no provider has the vault.
+     */
+    List<VaultContribution> findContributions(String idVault, String cursor,
+            int limit, ContributionType type);
+
+}
@@ -0,0 +1,152 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public class ProviderRepositoryImpl implements ProviderRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+
+
+    /**
+     * Method to upsert a contribution with positional updates, the vault and
+     * the contribution are matched with array filters so only that element
+     * is written.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Provider}
+     */
+    @Override
+    public Provider upsertContribution(String idVault,
+            IContribution contribution) {
+
+        Provider result = replaceContribution(idVault, contribution);
+
+        if (Objects.isNull(result)) {
+            result = pushContribution(idVault, contribution);
+        }
+
+        /** ADDED BY OTHER REQUEST BETWEEN BOTH UPDATES */
+        if (Objects.isNull(result)) {
+            result = replaceContribution(idVault, contribution);
+        }
+        return result;
+    }
+
+
+    /**
+     * Method to find the provider that owns a vault, projected in the
+     * database.
+     *
+     * @param idVault
+     * @return {@code ProviderSummaryData}
+     */
+    @Override
+    public ProviderSummaryData findSummaryBySucursal(String idVault) {
+        return mongoTemplate
+                .aggregate(UserQueries.providerSummary(idVault),
+                        UserIndexManager.USER_COLLECTION,
+                        ProviderSummaryData.class)
+                .getUniqueMappedResult();
+    }
+
+
+    /**
+     * Method to find the provider that owns a vault with a projection.
+     *
+     * @param idVault
+     * @param fields
+     * @return {@code Provider}
+     */
+    @Override
+    public Provider findBySucursal(String idVault, SparseFields fields) {
+        return mongoTemplate.findOne(UserQueries.sparse(
+                new Query(UserQueries.bySucursal(idVault)), fields),
+                Provider.class);
+    }
+
+
+    /**
+     * Method to read the version of the provider that owns a vault, the
+     * query is covered by the index on the vault ids but the version.
+     *
+     * @param idVault
+     * @return {@code VersionData}
+     */
+    @Override
+    public VersionData findVersionBySucursal(String idVault) {
+        return mongoTemplate.findOne(
+                UserQueries.version(UserQueries.bySucursal(idVault)),
+                VersionData.class, UserIndexManager.USER_COLLECTION);
+    }
+
+
+    /**
+     * Method to read a page of the contributions of a vault with an
+     * aggregation, only the page leaves the database.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code List<VaultContribution>}
+     */
+    @Override
+    public List<VaultContribution> findContributions(String idVault,
+            String cursor, int limit, ContributionType type) {
+
+        int position = UserQueries.position(cursor);
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+        return mongoTemplate
+                .aggregate(
+                        UserQueries.contributions(idVault, position, limit,
+                                type),
+                        UserIndexManager.USER_COLLECTION,
+                        VaultContribution.class)
+                .getMappedResults();
+    }
+
+
+    /**
+     * Replace the contribution when the vault already has it.
+     */
+    private Provider replaceContribution(String idVault,
+            IContribution contribution) {
+        return mongoTemplate.findAndModify(
+                UserQueries.withContribution(idVault, contribution.getId()),
+                UserQueries.replaceContribution(idVault, contribution),
+                UserQueries.returnNew(), Provider.class);
+    }
+
+
+    /**
+     * Add the contribution when the vault does not have it.
+     */
+    private Provider pushContribution(String idVault,
+            IContribution contribution) {
+        return mongoTemplate.findAndModify(
+                UserQueries.withoutContribution(idVault, contribution.getId()),
+                UserQueries.pushContribution(idVault, contribution),
+                UserQueries.returnNew(), Provider.class);
+    }
+
+}
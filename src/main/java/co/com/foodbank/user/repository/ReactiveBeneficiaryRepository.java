@@ -0,0 +1,22 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive version of {@link BeneficiaryRepository}, used with the profile
+ * reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+public interface ReactiveBeneficiaryRepository
+        extends ReactiveMongoRepository<Beneficiary, String> {
+
+    @Query("{$and: [{'id': ?0}, {'socialReason': ?1}]}")
+    Mono<Beneficiary> findBeneficiary(String id, String socialReason);
+
+}
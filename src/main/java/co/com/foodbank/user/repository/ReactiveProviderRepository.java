@@ -0,0 +1,23 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.Provider;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive version of {@link ProviderRepository}, used with the profile
+ * reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+public interface ReactiveProviderRepository
+        extends ReactiveMongoRepository<Provider, String>,
+        ReactiveProviderRepositoryCustom {
+
+    @Query("{'sucursal.id': ?0 }")
+    Mono<Provider> findBySucursal(String id);
+
+}
@@ -0,0 +1,66 @@
+package co.com.foodbank.user.repository;
+
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom reactive operations over the providers.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public interface ReactiveProviderRepositoryCustom {
+
+    /**
+     * Method to add or replace a contribution in a vault of the provider
+     * with a single atomic update.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Mono<Provider>} empty when no provider has the vault.
+     */
+    Mono<Provider> upsertContribution(String idVault,
+            IContribution contribution);
+
+
+    /**
+     * Method to find the provider that owns a vault, with only its id, name
+     * and cuil and the header fields of that vault.
+     *
+     * @param idVault
+     * @return {@code Mono<ProviderSummaryData>} empty when no provider has
+     *         the vault.
+     */
+    Mono<ProviderSummaryData> findSummaryBySucursal(String idVault);
+
+
+    /**
+     * Method to read only the id and the version of the provider that owns a
+     * vault.
+     *
+     * @param idVault
+     * @return {@code Mono<VersionData>} empty when no provider has the vault.
+     */
+    Mono<VersionData> findVersionBySucursal(String idVault);
+
+
+    /**
+     * Method to read a page of the contributions embedded in a vault.
+     *
+     * @param idVault
+     * @param cursor position of the first contribution, null for the first
+     *        page.
+     * @param limit
+     * @param type null for all the types.
+     * @return {@code Flux<VaultContribution>} with the position as id, empty
+     *         when no provider has the vault.
+     */
+    Flux<VaultContribution> findContributions(String idVault, String cursor,
+            int limit, ContributionType type);
+
+}
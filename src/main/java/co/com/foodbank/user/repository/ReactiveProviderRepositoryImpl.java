@@ -0,0 +1,118 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public class ReactiveProviderRepositoryImpl
+        implements ReactiveProviderRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+
+    /**
+     * Method to upsert a contribution, the same updates of
+     * {@link ProviderRepositoryImpl#upsertContribution}.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code Mono<Provider>}
+     */
+    @Override
+    public Mono<Provider> upsertContribution(String idVault,
+            IContribution contribution) {
+
+        /** ADDED BY OTHER REQUEST BETWEEN BOTH UPDATES, REPLACE AGAIN */
+        return replaceContribution(idVault, contribution)
+                .switchIfEmpty(Mono
+                        .defer(() -> pushContribution(idVault, contribution)))
+                .switchIfEmpty(Mono.defer(
+                        () -> replaceContribution(idVault, contribution)));
+    }
+
+
+    /**
+     * Method to find the provider that owns a vault, the same projection of
+     * {@link ProviderRepositoryImpl#findSummaryBySucursal}.
+     *
+     * @param idVault
+     * @return {@code Mono<ProviderSummaryData>}
+     */
+    @Override
+    public Mono<ProviderSummaryData> findSummaryBySucursal(String idVault) {
+        return reactiveMongoTemplate
+                .aggregate(UserQueries.providerSummary(idVault),
+                        UserIndexManager.USER_COLLECTION,
+                        ProviderSummaryData.class)
+                .next();
+    }
+
+
+    /**
+     * Method to read the version of the provider that owns a vault, the same
+     * projection of {@link ProviderRepositoryImpl#findVersionBySucursal}.
+     *
+     * @param idVault
+     * @return {@code Mono<VersionData>}
+     */
+    @Override
+    public Mono<VersionData> findVersionBySucursal(String idVault) {
+        return reactiveMongoTemplate.findOne(
+                UserQueries.version(UserQueries.bySucursal(idVault)),
+                VersionData.class, UserIndexManager.USER_COLLECTION);
+    }
+
+
+    /**
+     * Method to read a page of the contributions of a vault, the same
+     * aggregation of {@link ProviderRepositoryImpl#findContributions}.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code Flux<VaultContribution>}
+     */
+    @Override
+    public Flux<VaultContribution> findContributions(String idVault,
+            String cursor, int limit, ContributionType type) {
+
+        int position = UserQueries.position(cursor);
+        if (position < 0) {
+            return Flux.empty();
+        }
+        return reactiveMongoTemplate.aggregate(
+                UserQueries.contributions(idVault, position, limit, type),
+                UserIndexManager.USER_COLLECTION, VaultContribution.class);
+    }
+
+
+    private Mono<Provider> replaceContribution(String idVault,
+            IContribution contribution) {
+        return reactiveMongoTemplate.findAndModify(
+                UserQueries.withContribution(idVault, contribution.getId()),
+                UserQueries.replaceContribution(idVault, contribution),
+                UserQueries.returnNew(), Provider.class);
+    }
+
+
+    private Mono<Provider> pushContribution(String idVault,
+            IContribution contribution) {
+        return reactiveMongoTemplate.findAndModify(
+                UserQueries.withoutContribution(idVault, contribution.getId()),
+                UserQueries.pushContribution(idVault, contribution),
+                UserQueries.returnNew(), Provider.class);
+    }
+
+}
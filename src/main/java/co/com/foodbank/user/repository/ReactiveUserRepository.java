@@ -0,0 +1,38 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collection;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive version of {@link UserRepository}, used with the profile reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+public interface ReactiveUserRepository extends
+        ReactiveMongoRepository<User, String>, ReactiveUserRepositoryCustom {
+
+    @Query("{'emailLower': ?0}")
+    Flux<User> findByEmailLower(String email);
+
+    @Query("{'cuil': ?0}")
+    Mono<User> finByCuit(Long cuit);
+
+    @Query("{'dni': ?0}")
+    Mono<User> finByDni(Long dni);
+
+    @Query("{'cuil': {$in: ?0}}")
+    Flux<User> findByCuits(Collection<Long> cuits);
+
+    @Query("{'dni': {$in: ?0}}")
+    Flux<User> findByDnis(Collection<Long> dnis);
+
+    @Query("{$and: [{'name': ?0}, {'email': ?1}, {'phones': ?2}]}")
+    Mono<User> findByUser(String name, String email, String phones);
+
+}
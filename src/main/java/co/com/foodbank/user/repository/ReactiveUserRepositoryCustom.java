@@ -0,0 +1,54 @@
+package co.com.foodbank.user.repository;
+
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom reactive operations over the User collection.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public interface ReactiveUserRepositoryCustom {
+
+    /**
+     * Method to walk all users, the documents are emitted as they are read
+     * from the database cursor.
+     *
+     * @return {@code Flux<User>}
+     */
+    Flux<User> streamAll();
+
+
+    /**
+     * Method to read a page of users ordered by id, starting after the given
+     * id.
+     *
+     * @param after
+     * @param limit
+     * @return {@code Flux<User>}
+     */
+    Flux<User> findPage(String after, int limit);
+
+
+    /**
+     * Method to find the users whose normalized email starts with the given
+     * prefix.
+     *
+     * @param prefix
+     * @param limit
+     * @return {@code Flux<User>}
+     */
+    Flux<User> findByEmailPrefix(String prefix, int limit);
+
+
+    /**
+     * Method to read only the id and the version of an user.
+     *
+     * @param id
+     * @return {@code Mono<VersionData>} empty when it does not exist.
+     */
+    Mono<VersionData> findVersionById(String id);
+
+}
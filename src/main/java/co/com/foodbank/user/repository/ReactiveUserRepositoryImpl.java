@@ -0,0 +1,53 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public class ReactiveUserRepositoryImpl
+        implements ReactiveUserRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+
+    @Override
+    public Flux<User> streamAll() {
+        return reactiveMongoTemplate.find(
+                new Query().cursorBatchSize(ParametersUser.CURSOR_BATCH_SIZE),
+                User.class);
+    }
+
+
+    @Override
+    public Flux<User> findPage(String after, int limit) {
+        return reactiveMongoTemplate.find(UserQueries.page(after, limit),
+                User.class);
+    }
+
+
+    @Override
+    public Flux<User> findByEmailPrefix(String prefix, int limit) {
+        return reactiveMongoTemplate
+                .find(UserQueries.emailPrefix(prefix, limit), User.class);
+    }
+
+
+    @Override
+    public Mono<VersionData> findVersionById(String id) {
+        return reactiveMongoTemplate.findOne(
+                UserQueries.version(
+                        Criteria.where("_id").is(UserQueries.toId(id))),
+                VersionData.class, UserIndexManager.USER_COLLECTION);
+    }
+
+}
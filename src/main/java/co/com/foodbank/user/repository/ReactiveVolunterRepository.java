@@ -0,0 +1,22 @@
+package co.com.foodbank.user.repository;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.Volunter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive version of {@link VolunterRepository}, used with the profile
+ * reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+public interface ReactiveVolunterRepository
+        extends ReactiveMongoRepository<Volunter, String> {
+
+    @Query("{$and: [{'id': ?0}, {'dni': ?1}]}")
+    Mono<Volunter> findVolunteer(String id, Long dni);
+
+}
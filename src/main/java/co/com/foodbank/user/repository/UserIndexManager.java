@@ -0,0 +1,304 @@
+package co.com.foodbank.user.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+/**
+ * Declares every index the repositories need and builds the missing ones in
+ * background after the application is ready, so the startup is not blocked
+ * by a long index build.
+ *
+ * The indexes with a partial filter only hold the documents of the user type
+ * that has the field, the queries by equality on that field use them.
+ *
+ * A declared index is matched with the one of the database with the same
+ * fields and directions, whatever its name, and compared by its unique flag,
+ * its partial filter and its expiration. An index with the same keys is not
+ * created again, when its options differ it is reported as different.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Component
+@Profile("!in-memory")
+public class UserIndexManager {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(UserIndexManager.class);
+
+    public static final String USER_COLLECTION = "User";
+
+    public static final String CONTRIBUTION_COLLECTION = "Contribution";
+
+    public static final String IDEMPOTENCY_COLLECTION = "Idempotency";
+
+    private static final String ID_INDEX = "_id_";
+
+    private static final String NAME = "name";
+
+    private static final String KEY = "key";
+
+    private static final String UNIQUE = "unique";
+
+    private static final String PARTIAL = "partialFilterExpression";
+
+    private static final String EXPIRE = "expireAfterSeconds";
+
+    private static final String READY = "READY";
+
+    private static final String DIFFERENT = "DIFFERENT";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final Map<String, List<Index>> declared = new LinkedHashMap<>();
+
+    private final Map<String, String> status = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor with the indexes of the User, Contribution and Idempotency
+     * collections.
+     *
+     * @param idempotencyTtl time the responses of the idempotency keys are
+     *        kept.
+     */
+    public UserIndexManager(@Value("${" + IdempotencyStore.TTL
+            + ":24h}") Duration idempotencyTtl) {
+
+        /** UserRepository.findByEmailLower and findByEmailPrefix */
+        declare(USER_COLLECTION, new Index("emailLower", Sort.Direction.ASC)
+                .named("emailLower_1"));
+
+        /** UserRepository.finByCuit, one cuil per Provider */
+        declare(USER_COLLECTION,
+                new Index("cuil", Sort.Direction.ASC).named("cuil_1").unique()
+                        .partial(PartialIndexFilter
+                                .of(Criteria.where("cuil").exists(true))));
+
+        /** UserRepository.finByDni, one dni per Volunter */
+        declare(USER_COLLECTION,
+                new Index("dni", Sort.Direction.ASC).named("dni_1").unique()
+                        .partial(PartialIndexFilter
+                                .of(Criteria.where("dni").exists(true))));
+
+        /** ProviderRepository.findBySucursal */
+        declare(USER_COLLECTION, new Index("sucursal._id", Sort.Direction.ASC)
+                .named("sucursal_id_1").partial(PartialIndexFilter
+                        .of(Criteria.where("sucursal._id").exists(true))));
+
+        /** UserRepository.findByUser */
+        declare(USER_COLLECTION,
+                new Index().on("name", Sort.Direction.ASC)
+                        .on("email", Sort.Direction.ASC)
+                        .on("phones", Sort.Direction.ASC)
+                        .named("name_1_email_1_phones_1"));
+
+        /** BeneficiaryRepository.findBeneficiary */
+        declare(USER_COLLECTION,
+                new Index("socialReason", Sort.Direction.ASC)
+                        .named("socialReason_1")
+                        .partial(PartialIndexFilter.of(
+                                Criteria.where("socialReason").exists(true))));
+
+        /** queries restricted by user type */
+        declare(USER_COLLECTION,
+                new Index("_class", Sort.Direction.ASC).named("_class_1"));
+
+        /** CollectionContributionStore, one document by vault and contribution */
+        declare(CONTRIBUTION_COLLECTION,
+                new Index().on("vaultId", Sort.Direction.ASC)
+                        .on("contributionId", Sort.Direction.ASC)
+                        .named("vaultId_1_contributionId_1").unique());
+
+        /** pages of the contributions of a vault */
+        declare(CONTRIBUTION_COLLECTION,
+                new Index().on("vaultId", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .named("vaultId_1__id_1"));
+
+        /** IdempotencyStore, the responses expire after the ttl */
+        declare(IDEMPOTENCY_COLLECTION,
+                new Index("createdAt", Sort.Direction.ASC)
+                        .named("createdAt_ttl").expire(idempotencyTtl));
+    }
+
+
+    /**
+     * Method to declare an index.
+     *
+     * @param collection
+     * @param index
+     */
+    public void declare(String collection, Index index) {
+        declared.computeIfAbsent(collection, d -> new ArrayList<>())
+                .add(index.background());
+    }
+
+
+    /**
+     * Build the declared indexes without blocking the readiness.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread builder = new Thread(this::ensureIndexes, "user-index-manager");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+
+    /**
+     * Method to create the declared indexes that do not exist yet.
+     */
+    public void ensureIndexes() {
+        declared.forEach((collection, indexes) -> indexes.forEach(index -> {
+            String name = name(index);
+            status.put(name, "BUILDING");
+            try {
+                Document existing = find(index, indexesOf(collection));
+                if (Objects.isNull(existing)) {
+                    mongoTemplate.indexOps(collection).ensureIndex(index);
+                    status.put(name, READY);
+                } else if (sameDefinition(index, existing)) {
+                    status.put(name, READY);
+                } else {
+                    LOG.warn("index {} on {} differs from {}", name,
+                            collection, existing);
+                    status.put(name, DIFFERENT);
+                }
+            } catch (RuntimeException e) {
+                LOG.error("index {} on {} not created", name, collection, e);
+                status.put(name, "FAILED: " + e.getMessage());
+            }
+        }));
+    }
+
+
+    /**
+     * Method to compare the declared indexes with the ones in the database.
+     *
+     * @return {@code Map<String, Object>} the report by collection.
+     */
+    public Map<String, Object> report() {
+
+        Map<String, Object> report = new LinkedHashMap<>();
+
+        declared.forEach((collection, indexes) -> {
+            List<Document> actual = indexesOf(collection);
+
+            List<String> missing = new ArrayList<>();
+            List<String> different = new ArrayList<>();
+            Map<String, String> renamed = new LinkedHashMap<>();
+            Map<String, String> state = new LinkedHashMap<>();
+
+            for (Index index : indexes) {
+                String name = name(index);
+                Document existing = find(index, actual);
+                if (Objects.isNull(existing)) {
+                    missing.add(name);
+                } else {
+                    actual.remove(existing);
+                    if (!sameDefinition(index, existing)) {
+                        different.add(name);
+                    }
+                    if (!name.equals(existing.getString(NAME))) {
+                        renamed.put(name, existing.getString(NAME));
+                    }
+                }
+                state.put(name, status.getOrDefault(name, "PENDING"));
+            }
+
+            List<String> undeclared = new ArrayList<>();
+            actual.forEach(d -> undeclared.add(d.getString(NAME)));
+            undeclared.remove(ID_INDEX);
+
+            Map<String, Object> drift = new LinkedHashMap<>();
+            drift.put("declared", state);
+            drift.put("missing", missing);
+            drift.put("different", different);
+            drift.put("renamed", renamed);
+            drift.put("undeclared", undeclared);
+            report.put(collection, drift);
+        });
+
+        return Collections.unmodifiableMap(report);
+    }
+
+
+    private List<Document> indexesOf(String collection) {
+        return mongoTemplate.getCollection(collection).listIndexes()
+                .into(new ArrayList<>());
+    }
+
+
+    /**
+     * The index of the database with the fields and directions of the
+     * declared one, in the same order.
+     */
+    private static Document find(Index index, List<Document> actual) {
+        List<Object> pattern = pattern(index.getIndexKeys());
+        for (Document existing : actual) {
+            if (pattern.equals(pattern((Document) existing.get(KEY)))) {
+                return existing;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * The fields with their direction, the server gives the directions as
+     * int, long or double. The special kinds, text or 2dsphere, are kept.
+     */
+    private static List<Object> pattern(Document keys) {
+        List<Object> pattern = new ArrayList<>();
+        keys.forEach((field, direction) -> {
+            pattern.add(field);
+            pattern.add(direction instanceof Number
+                    ? ((Number) direction).intValue()
+                    : direction);
+        });
+        return pattern;
+    }
+
+
+    private static boolean sameDefinition(Index index, Document actual) {
+        Document options = index.getIndexOptions();
+        return Boolean.TRUE.equals(options.get(UNIQUE)) == Boolean.TRUE
+                .equals(actual.get(UNIQUE))
+                && Objects.equals(options.get(PARTIAL), actual.get(PARTIAL))
+                && Objects.equals(seconds(options), seconds(actual));
+    }
+
+
+    private static Long seconds(Document options) {
+        Object seconds = options.get(EXPIRE);
+        return seconds instanceof Number ? ((Number) seconds).longValue()
+                : null;
+    }
+
+
+    private String name(Index index) {
+        return index.getIndexOptions().getString(NAME);
+    }
+
+}
@@ -0,0 +1,399 @@
+package co.com.foodbank.user.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * Queries and updates shared by the blocking and the reactive repositories.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+final class UserQueries {
+
+    private static final String ID = "_id";
+
+    private static final String EMAIL_LOWER = "emailLower";
+
+    private static final String REGEX_META = "\\^$.|?*+()[]{}";
+
+    private static final String CLASS = "_class";
+
+    private static final String VERSION = "version";
+
+    private static final String SUCURSAL = "sucursal";
+
+    private static final String CONTRIBUTION = "sucursal.$[v].contribution";
+
+    private static final String CONTRIBUTION_ID = "contribution._id";
+
+
+    private UserQueries() {}
+
+
+    /**
+     * Page of users ordered by id, starting after the given id.
+     */
+    static Query page(String after, int limit) {
+
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, ID))
+                .limit(limit);
+
+        if (!Objects.isNull(after)) {
+            query.addCriteria(Criteria.where(ID).gt(toId(after)));
+        }
+        return query;
+    }
+
+
+    /**
+     * Restrict the query to the fields asked, with the type of the user so
+     * the right class is read. The vaults keep their id so their
+     * contributions can be assembled.
+     */
+    static Query sparse(Query query, SparseFields fields) {
+
+        if (fields.isAll()) {
+            return query;
+        }
+
+        Field projection = query.fields();
+        for (String field : projection(fields)) {
+            projection.include(field);
+        }
+        return query;
+    }
+
+
+    /**
+     * Fields of the documents read for the fields asked, the {@code _id} is
+     * always read.
+     */
+    static List<String> projection(SparseFields fields) {
+
+        List<String> projection = new ArrayList<>();
+        projection.add(CLASS);
+        projection.add(VERSION);
+        for (String path : fields.getPaths()) {
+            projection.add(field(path));
+            if (path.startsWith(SUCURSAL + ".")) {
+                projection.add(SUCURSAL + "." + ID);
+            }
+        }
+        return projection;
+    }
+
+
+    /**
+     * Only the id and the version of the user.
+     */
+    static Query version(Criteria criteria) {
+        Query query = new Query(criteria);
+        query.fields().include(VERSION);
+        return query;
+    }
+
+
+    /**
+     * Provider that owns the vault.
+     */
+    static Criteria bySucursal(String idVault) {
+        return Criteria.where(SUCURSAL)
+                .elemMatch(Criteria.where(ID).in(ids(idVault)));
+    }
+
+
+    /**
+     * Users by email prefix, the regex is anchored and the prefix is escaped
+     * so the index on emailLower is used.
+     */
+    static Query emailPrefix(String prefix, int limit) {
+        return new Query(Criteria.where(EMAIL_LOWER)
+                .regex("^" + escape(User.normalizeEmail(prefix))))
+                        .with(Sort.by(Sort.Direction.ASC, EMAIL_LOWER))
+                        .limit(limit);
+    }
+
+
+    /**
+     * Provider whose vault already has the contribution.
+     */
+    static Query withContribution(String idVault, String idContribution) {
+        return new Query(Criteria.where(SUCURSAL)
+                .elemMatch(Criteria.where(ID).in(ids(idVault))
+                        .and(CONTRIBUTION_ID).in(ids(idContribution))));
+    }
+
+
+    /**
+     * Replace the contribution, the vault and the contribution are matched
+     * with array filters so only that element is written.
+     */
+    static Update replaceContribution(String idVault,
+            IContribution contribution) {
+        return new Update().set(CONTRIBUTION + ".$[c]", contribution)
+                .filterArray(Criteria.where("v._id").in(ids(idVault)))
+                .filterArray(Criteria.where("c._id")
+                        .in(ids(contribution.getId())));
+    }
+
+
+    /**
+     * Provider whose vault does not have the contribution yet.
+     */
+    static Query withoutContribution(String idVault, String idContribution) {
+        return new Query(new Criteria().andOperator(
+                Criteria.where(SUCURSAL)
+                        .elemMatch(Criteria.where(ID).in(ids(idVault))),
+                Criteria.where(SUCURSAL).not()
+                        .elemMatch(Criteria.where(ID).in(ids(idVault))
+                                .and(CONTRIBUTION_ID)
+                                .in(ids(idContribution)))));
+    }
+
+
+    /**
+     * Add the contribution at the end of the vault contributions.
+     */
+    static Update pushContribution(String idVault,
+            IContribution contribution) {
+        return new Update().push(CONTRIBUTION, contribution)
+                .filterArray(Criteria.where("v._id").in(ids(idVault)));
+    }
+
+
+    /**
+     * Provider that owns the vault, with its name and cuil and only the header
+     * fields of that vault. The vault is picked with a $filter and its
+     * fields with an inclusion, so neither the contributions nor the other
+     * vaults leave the server.
+     */
+    static Aggregation providerSummary(String idVault) {
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(SUCURSAL)
+                        .elemMatch(Criteria.where(ID).in(ids(idVault)))),
+                Aggregation.limit(1),
+                d -> new Document("$project",
+                        new Document("name", 1).append("cuil", 1)
+                                .append("vault", vault(idVault))),
+                d -> new Document("$project",
+                        new Document("name", 1).append("cuil", 1)
+                                .append("vault._id", 1)
+                                .append("vault.contact", 1)
+                                .append("vault.phones", 1)
+                                .append("vault.address", 1)));
+    }
+
+
+    /**
+     * Page of the contributions of a vault, in the order they were added.
+     * The contributions after the cursor are filtered by type inside the
+     * projection, by the positions whose volume matches, then the page is
+     * sliced and only it is unwound, the rest of the vault never becomes
+     * documents. The cursor is the position of the contribution in the
+     * vault, that a replace keeps and a push does not move. Each result has
+     * the shape of a {@link co.com.foodbank.user.v1.model.VaultContribution}
+     * with its position as id.
+     */
+    static Aggregation contributions(String idVault, int position, int limit,
+            ContributionType type) {
+
+        /** WITHOUT A TYPE THE REST IS ONLY THE PAGE */
+        int size = Objects.isNull(type) ? limit : Integer.MAX_VALUE - position;
+        Document rest = new Document("$ifNull",
+                Arrays.asList(new Document("$slice",
+                        Arrays.asList("$v.contribution", position, size)),
+                        Collections.emptyList()));
+
+        /** THE POSITIONS IN THE REST OF THE CONTRIBUTIONS OF THE TYPE */
+        Object positions = new Document("$range",
+                Arrays.asList(0, new Document("$size", "$w")));
+        if (!Objects.isNull(type)) {
+            positions = new Document("$slice", Arrays.asList(
+                    new Document("$filter", new Document("input", positions)
+                            .append("as", "k").append("cond",
+                                    new Document("$arrayElemAt",
+                                            Arrays.asList("$t", "$$k")))),
+                    limit));
+        }
+
+        Document contributions = new Document("$map",
+                new Document("input", positions).append("as", "k").append(
+                        "in",
+                        new Document("i", new Document("$add",
+                                Arrays.asList("$$k", position))).append("c",
+                                        new Document("$arrayElemAt",
+                                                Arrays.asList("$w", "$$k")))));
+
+        Document page = new Document(ID, new Document("$toString", "$c.i"))
+                .append("vaultId", new Document("$literal", idVault))
+                .append("contributionId", "$c.c._id")
+                .append("contribution", "$c.c");
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(Criteria.where(SUCURSAL)
+                .elemMatch(Criteria.where(ID).in(ids(idVault)))));
+        stages.add(Aggregation.limit(1));
+        stages.add(d -> new Document("$project",
+                new Document(ID, 0).append("v", vault(idVault))));
+        stages.add(d -> new Document("$project", new Document("w", rest)));
+        if (!Objects.isNull(type)) {
+            stages.add(d -> new Document("$project", new Document("w", 1)
+                    .append("t", new Document("$map",
+                            new Document("input", "$w").append("as", "c")
+                                    .append("in", isOfType("$$c", type))))));
+        }
+        stages.add(d -> new Document("$project",
+                new Document("c", contributions)));
+        stages.add(d -> new Document("$unwind", "$c"));
+        stages.add(d -> new Document("$project", page));
+        return Aggregation.newAggregation(stages);
+    }
+
+
+    /**
+     * Page of the contributions of a vault in the Contribution collection,
+     * ordered by id and starting after the given id.
+     */
+    static Query vaultContributions(String idVault, String after, int limit,
+            ContributionType type) {
+
+        Query query = new Query(Criteria.where("vaultId").is(idVault))
+                .with(Sort.by(Sort.Direction.ASC, ID)).limit(limit);
+
+        if (!Objects.isNull(after)) {
+            query.addCriteria(Criteria.where(ID).gt(toId(after)));
+        }
+        if (!Objects.isNull(type)) {
+            query.addCriteria(ofType("contribution", type));
+        }
+        return query;
+    }
+
+
+    /**
+     * Position where the page of a contribution cursor starts, the one after
+     * the cursor, and 0 without cursor. -1 when it is not a position.
+     */
+    static int position(String cursor) {
+        if (Objects.isNull(cursor)) {
+            return 0;
+        }
+        try {
+            int position = Integer.parseInt(cursor);
+            return position < 0 || position == Integer.MAX_VALUE ? -1
+                    : position + 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+
+    static FindAndModifyOptions returnNew() {
+        return FindAndModifyOptions.options().returnNew(true);
+    }
+
+
+    /**
+     * The vault of the provider, picked from its sucursal with a $filter.
+     */
+    private static Document vault(String idVault) {
+        Document in = new Document("$in",
+                Arrays.asList("$$v." + ID, Arrays.asList(ids(idVault))));
+        return new Document("$arrayElemAt",
+                Arrays.asList(new Document("$filter",
+                        new Document("input", "$" + SUCURSAL).append("as", "v")
+                                .append("cond", in)),
+                        0));
+    }
+
+
+    /**
+     * A general contribution carries its volume and a detail one does not.
+     */
+    /**
+     * The expression of the type of a contribution by its volume. It is a
+     * detail when setting its volume to null changes nothing, the volume
+     * merged first keeps the field in the same place in both documents.
+     */
+    private static Document isOfType(String contribution,
+            ContributionType type) {
+        Document volume = new Document("volume", null);
+        return new Document(ContributionType.GENERAL == type ? "$ne" : "$eq",
+                Arrays.asList(
+                        new Document("$mergeObjects",
+                                Arrays.asList(volume, contribution)),
+                        new Document("$mergeObjects",
+                                Arrays.asList(volume, contribution, volume))));
+    }
+
+
+    private static Criteria ofType(String contribution,
+            ContributionType type) {
+        Criteria volume = Criteria.where(contribution + ".volume");
+        return ContributionType.GENERAL == type ? volume.ne(null)
+                : volume.is(null);
+    }
+
+
+    /**
+     * The ids are stored in {@code _id}, at any depth.
+     */
+    private static String field(String path) {
+        StringBuilder field = new StringBuilder(path.length() + 4);
+        for (String name : path.split("\\.")) {
+            if (field.length() > 0) {
+                field.append('.');
+            }
+            field.append("id".equals(name) ? ID : name);
+        }
+        return field.toString();
+    }
+
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (REGEX_META.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+
+    /**
+     * The ids generated by mongo are stored as ObjectId.
+     */
+    static Object toId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+
+    /**
+     * The embedded ids are stored as ObjectId when they are valid, or as
+     * String otherwise.
+     */
+    private static Object[] ids(String id) {
+        return ObjectId.isValid(id) ? new Object[] {id, new ObjectId(id)}
+                : new Object[] {id};
+    }
+
+}
@@ -1,6 +1,7 @@
 package co.com.foodbank.user.repository;
 
 import java.util.Collection;
+import java.util.List;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,10 +12,12 @@ import co.com.foodbank.user.v1.model.User;
  * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 15/05/2021
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository
+        extends MongoRepository<User, String>, UserRepositoryCustom {
 
-    @Query("{'email':{'$regex':'?0','$options':'i'}}")
-    Collection<User> findByEmail(String email) throws UserNotFoundException;
+    @Query("{'emailLower': ?0}")
+    Collection<User> findByEmailLower(String email)
+            throws UserNotFoundException;
 
     @Query("{'cuil': ?0}")
     User finByCuit(Long cuit) throws UserNotFoundException;
@@ -22,6 +25,12 @@ public interface UserRepository extends MongoRepository<User, String> {
     @Query("{'dni': ?0}")
     User finByDni(Long dni) throws UserNotFoundException;
 
+    @Query("{'cuil': {$in: ?0}}")
+    List<User> findByCuits(Collection<Long> cuits);
+
+    @Query("{'dni': {$in: ?0}}")
+    List<User> findByDnis(Collection<Long> dnis);
+
 
     @Query("{$and: [{'name': ?0}, {'email': ?1}, {'phones': ?2}]}")
     User findByUser(String name, String email, String phones)
@@ -0,0 +1,153 @@
+package co.com.foodbank.user.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * Custom operations over the User collection that can not be expressed with
+ * a {@code @Query}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Method to walk all users through a database cursor, one document at a
+     * time.
+     *
+     * @param fields
+     * @param consumer
+     */
+    void streamAll(SparseFields fields, Consumer<User> consumer);
+
+
+    /**
+     * Method to read a page of users ordered by id, starting after the given
+     * id.
+     *
+     * @param after
+     * @param limit
+     * @param fields
+     * @return {@code List<User>}
+     */
+    List<User> findPage(String after, int limit, SparseFields fields);
+
+
+    /**
+     * Method to find the users whose normalized email starts with the given
+     * prefix.
+     *
+     * @param prefix
+     * @param limit
+     * @param fields
+     * @return {@code List<User>}
+     */
+    List<User> findByEmailPrefix(String prefix, int limit,
+            SparseFields fields);
+
+
+    /**
+     * Method to find an user by id reading only the fields asked.
+     *
+     * @param id
+     * @param fields
+     * @return {@code User} null when it does not exist.
+     */
+    User findById(String id, SparseFields fields);
+
+
+    /**
+     * Method to find an user by dni reading only the fields asked.
+     *
+     * @param dni
+     * @param fields
+     * @return {@code User} null when it does not exist.
+     */
+    User findByDni(Long dni, SparseFields fields);
+
+
+    /**
+     * Method to find an user by cuil reading only the fields asked.
+     *
+     * @param cuil
+     * @param fields
+     * @return {@code User} null when it does not exist.
+     */
+    User findByCuil(Long cuil, SparseFields fields);
+
+
+    /**
+     * Method to find the users of a normalized email reading only the fields
+     * asked.
+     *
+     * @param email
+     * @param fields
+     * @return {@code List<User>}
+     */
+    List<User> findByEmailLower(String email, SparseFields fields);
+
+
+    /**
+     * Method to find an user by name, email and phones reading only the
+     * fields asked.
+     *
+     * @param name
+     * @param email
+     * @param phones
+     * @param fields
+     * @return {@code User} null when it does not exist.
+     */
+    User findByUser(String name, String email, String phones,
+            SparseFields fields);
+
+
+    /**
+     * Method to find a beneficiary by id and social reason reading only the
+     * fields asked.
+     *
+     * @param id
+     * @param socialReason
+     * @param fields
+     * @return {@code Beneficiary} null when it does not exist.
+     */
+    Beneficiary findBeneficiary(String id, String socialReason,
+            SparseFields fields);
+
+
+    /**
+     * Method to find a volunteer by id and dni reading only the fields asked.
+     *
+     * @param id
+     * @param dni
+     * @param fields
+     * @return {@code Volunter} null when it does not exist.
+     */
+    Volunter findVolunteer(String id, Long dni, SparseFields fields);
+
+
+    /**
+     * Method to read only the id and the version of an user.
+     *
+     * @param id
+     * @return {@code VersionData} null when it does not exist.
+     */
+    VersionData findVersionById(String id);
+
+
+    /**
+     * Method to insert many users in one unordered bulk write, a user that
+     * fails does not stop the others. The users must have the id assigned.
+     *
+     * @param users
+     * @return {@code Map<Integer, String>} the error by position of the users
+     *         not inserted.
+     */
+    Map<Integer, String> insertAll(List<? extends User> users);
+
+}
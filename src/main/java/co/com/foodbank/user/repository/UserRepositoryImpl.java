@@ -0,0 +1,192 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import com.mongodb.bulk.BulkWriteError;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String ID = "_id";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+
+
+    /**
+     * Method to walk all users through a database cursor, the documents are
+     * fetched in batches so the memory used does not depend on the size of
+     * the collection.
+     *
+     * @param fields
+     * @param consumer
+     */
+    @Override
+    public void streamAll(SparseFields fields, Consumer<User> consumer) {
+
+        Query query = UserQueries.sparse(new Query(), fields)
+                .cursorBatchSize(ParametersUser.CURSOR_BATCH_SIZE);
+
+        try (CloseableIterator<User> cursor =
+                mongoTemplate.stream(query, User.class)) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next());
+            }
+        }
+    }
+
+
+    /**
+     * Method to read a page of users with keyset pagination over the id.
+     *
+     * @param after
+     * @param limit
+     * @param fields
+     * @return {@code List<User>}
+     */
+    @Override
+    public List<User> findPage(String after, int limit, SparseFields fields) {
+
+        return mongoTemplate.find(
+                UserQueries.sparse(UserQueries.page(after, limit), fields),
+                User.class);
+    }
+
+
+    /**
+     * Method to find users by email prefix, the regex is anchored and the
+     * prefix is escaped so the index on emailLower is used.
+     *
+     * @param prefix
+     * @param limit
+     * @param fields
+     * @return {@code List<User>}
+     */
+    @Override
+    public List<User> findByEmailPrefix(String prefix, int limit,
+            SparseFields fields) {
+
+        return mongoTemplate.find(UserQueries
+                .sparse(UserQueries.emailPrefix(prefix, limit), fields),
+                User.class);
+    }
+
+
+    @Override
+    public User findById(String id, SparseFields fields) {
+        return findOne(Criteria.where(ID).is(UserQueries.toId(id)), fields,
+                User.class);
+    }
+
+
+    @Override
+    public User findByDni(Long dni, SparseFields fields) {
+        return findOne(Criteria.where("dni").is(dni), fields, User.class);
+    }
+
+
+    @Override
+    public User findByCuil(Long cuil, SparseFields fields) {
+        return findOne(Criteria.where("cuil").is(cuil), fields, User.class);
+    }
+
+
+    @Override
+    public List<User> findByEmailLower(String email, SparseFields fields) {
+        return mongoTemplate.find(UserQueries.sparse(
+                new Query(Criteria.where("emailLower").is(email)), fields),
+                User.class);
+    }
+
+
+    @Override
+    public User findByUser(String name, String email, String phones,
+            SparseFields fields) {
+        return findOne(Criteria.where("name").is(name).and("email").is(email)
+                .and("phones").is(phones), fields, User.class);
+    }
+
+
+    @Override
+    public Beneficiary findBeneficiary(String id, String socialReason,
+            SparseFields fields) {
+        return findOne(Criteria.where(ID).is(UserQueries.toId(id))
+                .and("socialReason").is(socialReason), fields,
+                Beneficiary.class);
+    }
+
+
+    @Override
+    public Volunter findVolunteer(String id, Long dni, SparseFields fields) {
+        return findOne(Criteria.where(ID).is(UserQueries.toId(id)).and("dni")
+                .is(dni), fields, Volunter.class);
+    }
+
+
+    /**
+     * Method to insert the users with an unordered bulk write, the errors of
+     * the write are reported by position instead of failing the batch. The
+     * duplicated dni or cuil are only rejected once the unique indexes of
+     * {@link UserIndexManager} are built.
+     *
+     * @param users
+     * @return {@code Map<Integer, String>}
+     */
+    @Override
+    public Map<Integer, String> insertAll(List<? extends User> users) {
+
+        if (users.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            mongoTemplate
+                    .bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)
+                    .insert(users).execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+            return errors;
+        }
+    }
+
+
+    @Override
+    public VersionData findVersionById(String id) {
+        return mongoTemplate.findOne(
+                UserQueries.version(
+                        Criteria.where(ID).is(UserQueries.toId(id))),
+                VersionData.class, UserIndexManager.USER_COLLECTION);
+    }
+
+
+    private <T extends User> T findOne(Criteria criteria, SparseFields fields,
+            Class<T> type) {
+        return mongoTemplate.findOne(
+                UserQueries.sparse(new Query(criteria), fields), type,
+                UserIndexManager.USER_COLLECTION);
+    }
+
+}
@@ -0,0 +1,22 @@
+package co.com.foodbank.user.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.repository 17/10/2026
+ */
+@Repository
+public interface VaultContributionRepository
+        extends MongoRepository<VaultContribution, String> {
+
+    @Query("{'vaultId': {$in: ?0}}")
+    List<VaultContribution> findByVaults(Collection<String> vaultIds,
+            Sort sort);
+
+}
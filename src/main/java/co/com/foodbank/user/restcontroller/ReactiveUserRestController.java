@@ -0,0 +1,377 @@
+package co.com.foodbank.user.restcontroller;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.validation.Valid;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IBeneficiary;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.dto.interfaces.IVolunter;
+import co.com.foodbank.user.dto.request.RequestBeneficiaryData;
+import co.com.foodbank.user.dto.request.RequestUserData;
+import co.com.foodbank.user.dto.request.RequestVolunterData;
+import co.com.foodbank.user.service.ReactiveUserService;
+import co.com.foodbank.user.util.ETags;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.validaton.ValidateEmail;
+import co.com.foodbank.vault.dto.VaultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non blocking version of {@link UserRestController}, with the same paths and
+ * validations, active with the profile reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.restcontroller
+ *         17/10/2026
+ */
+@RestController
+@Profile("reactive")
+@CrossOrigin(origins = "http://localhost:4200")
+@RequestMapping(value = "/user")
+@Tag(name = "User", description = "the User API")
+@Validated
+public class ReactiveUserRestController {
+
+    @Autowired
+    private ReactiveUserService service;
+
+
+
+    @Operation(summary = "Find Provider by Sucursal.")
+    @GetMapping(value = "/findBySucursal/{id-vault}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<IProvider>> findBySucursal(
+            @PathVariable("id-vault") @NotBlank @NotNull String id,
+            ServerWebExchange exchange) {
+
+        return notModified(exchange, () -> service.findVersionBySucursal(id))
+                .flatMap(d -> d ? Mono.just(ResponseEntity
+                        .status(HttpStatus.NOT_MODIFIED).<IProvider>build())
+                        : service.findBySucursal(id).map(p -> ResponseEntity
+                                .status(HttpStatus.OK)
+                                .eTag(ETags.of(p, SparseFields.ALL)).body(p)));
+    }
+
+
+    @Operation(summary = "Find the Provider of a Sucursal, without the "
+            + "contributions nor the other vaults.")
+    @GetMapping(value = "/findSummaryBySucursal/{id-vault}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ProviderSummaryData> findSummaryBySucursal(
+            @PathVariable("id-vault") @NotBlank @NotNull String id) {
+        return service.findSummaryBySucursal(id);
+    }
+
+
+    @Operation(summary = "Find a page of the contributions of a vault.")
+    @GetMapping(value = "/vault/{id-vault}/contributions",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<List<IContribution>>> findContributions(
+            @PathVariable("id-vault") @NotBlank @NotNull String id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "type", required = false) @Pattern(
+                    regexp = ContributionType.PATTERN) String type) {
+
+        return service
+                .findContributions(id, cursor, limit, ContributionType.of(type))
+                .map(page -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    if (!Objects.isNull(page.getNext())) {
+                        headers.add(ParametersUser.NEXT_AFTER_HEADER,
+                                page.getNext());
+                    }
+                    return ResponseEntity.status(HttpStatus.OK)
+                            .headers(headers).body(page.getContributions());
+                });
+    }
+
+
+    /**
+     * Method to findAll users, as a JSON array or as NDJSON when the client
+     * accepts {@code application/x-ndjson}.
+     *
+     * @return {@code Flux<IUser>}
+     */
+    @Operation(summary = "Find all users.")
+    @GetMapping(value = "/findAll", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<IUser> findAllUsers() {
+        return service.streamAll();
+    }
+
+
+    @Operation(summary = "Find a page of users.")
+    @GetMapping(value = "/findAll", params = "limit",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<List<IUser>>> findAllUsers(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit) {
+
+        return service.findAll(after, limit).collectList().map(page -> {
+            HttpHeaders headers = new HttpHeaders();
+            if (page.size() == limit) {
+                headers.add(ParametersUser.NEXT_AFTER_HEADER,
+                        page.get(page.size() - 1).getId());
+            }
+            return ResponseEntity.status(HttpStatus.OK).headers(headers)
+                    .body(page);
+        });
+    }
+
+
+    @Operation(summary = "Find user by dni.")
+    @GetMapping(value = "/findByDni/{dni}")
+    public Mono<IUser> findByDni(@PathVariable("dni") @Pattern(
+            regexp = "^[0-9]{8,8}$") @NotBlank @NotNull @Size(min = 8,
+                    max = 8) String dni) {
+        return service.findByDni(dni);
+    }
+
+
+    @Operation(summary = "Find users by ids, dnis and cuils.")
+    @PostMapping(value = "/lookup",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseLookupData> lookup(
+            @RequestBody @Valid RequestLookupData request) {
+        return service.lookup(request);
+    }
+
+
+    @Operation(summary = "Find user by cuit.")
+    @GetMapping(value = "/findByCuit/{cuit}")
+    public Mono<IUser> findByCuit(@PathVariable("cuit") @Pattern(
+            regexp = "^[0-9]{12,12}$") @NotBlank @NotNull @Size(min = 12,
+                    max = 12) String cuit) {
+        return service.findByCuit(cuit);
+    }
+
+
+    @Operation(summary = "Find user by email.")
+    @GetMapping(value = "/findByEmail/{email}")
+    public Mono<List<IUser>> findByEmail(
+            @PathVariable("email") @Email @ValidateEmail @NotBlank @NotNull String email) {
+        return service.findByEmail(email);
+    }
+
+
+    @Operation(summary = "Find users by the beginning of the email.")
+    @GetMapping(value = "/findByEmailPrefix/{prefix}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<List<IUser>> findByEmailPrefix(
+            @PathVariable("prefix") @NotBlank @NotNull @Size(min = 3,
+                    max = 254) String prefix,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit) {
+        return service.findByEmailPrefix(prefix, limit);
+    }
+
+
+    @Operation(summary = "Create  a Volunter", tags = {"Volunter"})
+    @PostMapping(value = "/createVolunter",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<IVolunter> createVolunter(
+            @RequestBody @Valid VolunterDTO dto) {
+        return service.createVolunter(dto);
+    }
+
+
+    @Operation(summary = "Update a Volunter", tags = {"Volunter"})
+    @PutMapping(value = "/updateVolunter/{id}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IVolunter> updateVolunter(@RequestBody @Valid VolunterDTO dto,
+            @PathVariable("id") @NotBlank @NotNull String id) {
+        return service.updateVolunter(dto, id);
+    }
+
+
+    @Operation(summary = "Create  a Provider", tags = {"Provider"})
+    @PostMapping(value = "/createProvider",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<IProvider> createProvider(@RequestBody @Valid ProviderDTO dto) {
+        return service.createProvider(dto);
+    }
+
+
+    @Operation(summary = "Update a Provider", tags = {"Provider"})
+    @PutMapping(value = "/updateProvider/{id}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IProvider> updateProvider(@RequestBody @Valid ProviderDTO dto,
+            @PathVariable("id") @NotBlank @NotNull String id) {
+        return service.updateprovider(dto, id);
+    }
+
+
+    @Operation(
+            summary = "Update Vault in Provider, Restricted by spring security, only used by rest vault.",
+            tags = {"Provider"})
+    @PutMapping(value = "/updateVaultInProvider/{id-vault}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IProvider> updateVaultProvider(@RequestBody @Valid VaultDTO dto,
+            @PathVariable("id-vault") @NotBlank @NotNull String id) {
+        return service.updateVaultProvider(dto, id);
+    }
+
+
+    @Operation(summary = "Add Vault in Provider ", tags = {"Provider"})
+    @PostMapping(value = "/createVaultInProvider/{id-provider}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IProvider> addVaultInProvider(
+            @RequestBody @Valid VaultDTO vaultDto,
+            @PathVariable("id-provider") @NotBlank @NotNull String idProvider) {
+        return service.addVaultInProvider(vaultDto, idProvider);
+    }
+
+
+    @Operation(summary = "Create  a Beneficiary", tags = {"Beneficiary"})
+    @PostMapping(value = "/createBeneficiary",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<IBeneficiary> createBeneficiary(
+            @RequestBody @Valid BeneficiaryDTO dto) {
+        return service.createBeneficiary(dto);
+    }
+
+
+    @Operation(summary = "Update  a Beneficiary base information",
+            tags = {"Beneficiary"})
+    @PutMapping(value = "/updateBeneficiary/{id}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IBeneficiary> updateBeneficiary(
+            @RequestBody @Valid BeneficiaryDTO dto,
+            @PathVariable("id") @NotBlank @NotNull String id) {
+        return service.updateBeneficiary(dto, id);
+    }
+
+
+    @Operation(summary = "Find user by Id.")
+    @GetMapping(value = "/findById/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<IUser>> findById(
+            @PathVariable("id") @NotBlank @NotNull String _id,
+            ServerWebExchange exchange) {
+
+        return notModified(exchange, () -> service.findVersionById(_id))
+                .flatMap(d -> d ? Mono.just(ResponseEntity
+                        .status(HttpStatus.NOT_MODIFIED).<IUser>build())
+                        : service.findById(_id).map(u -> ResponseEntity
+                                .status(HttpStatus.OK)
+                                .eTag(ETags.of(u, SparseFields.ALL))
+                                .body((IUser) u)));
+    }
+
+
+    /**
+     * With {@code If-None-Match} read the version alone, to answer 304
+     * without reading the document when it did not change.
+     */
+    private Mono<Boolean> notModified(ServerWebExchange exchange,
+            Supplier<Mono<VersionData>> version) {
+
+        if (exchange.getRequest().getHeaders().getIfNoneMatch().isEmpty()) {
+            return Mono.just(false);
+        }
+        return version.get().map(d -> exchange.checkNotModified(
+                ETags.of(d.getId(), d.getVersion(), SparseFields.ALL)));
+    }
+
+
+    @Operation(
+            summary = "Update Contributions in Beneficiary, Restricted by spring security, only used by rest vault. ",
+            tags = {"Contribution"})
+    @PutMapping(
+            value = "/updateContribution/vault/{idVault}/contribution/{idContribution}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IProvider> updateContribution(
+            @PathVariable("idVault") @NotBlank @NotNull String idVault,
+            @PathVariable("idContribution") @NotBlank @NotNull String idContribution,
+            @RequestBody @Valid ContributionData data) {
+        return service.updateContribution(data, idVault, idContribution);
+    }
+
+
+    @Operation(summary = "Find user by multiples variables.")
+    @GetMapping(value = "/findByUser",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IUser> findByUser(@RequestParam("name") @NotNull String name,
+            @RequestParam("email") @NotNull String email,
+            @RequestParam("phone") @NotNull String phone) {
+        return service.findByUser(new RequestUserData(name, email, phone));
+    }
+
+
+    @Operation(summary = "Find Beneficiary")
+    @GetMapping(value = "/findBeneficiary",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IBeneficiary> findBeneficiary(
+            @RequestParam("id") @NotNull String id,
+            @RequestParam("socialReason") @NotNull String socialReason) {
+        return service.findBeneficiary(
+                new RequestBeneficiaryData(id, socialReason));
+    }
+
+
+    @Operation(summary = "Find Volunteer")
+    @GetMapping(value = "/findVolunteer",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public Mono<IVolunter> findVolunteer(@RequestParam("id") @NotNull String id,
+            @RequestParam("dni") @NotNull String dni) {
+        return service.findVolunteer(new RequestVolunterData(id, dni));
+    }
+
+}
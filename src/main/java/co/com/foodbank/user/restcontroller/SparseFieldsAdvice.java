@@ -0,0 +1,46 @@
+package co.com.foodbank.user.restcontroller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.util.SparseFieldsFilter;
+
+/**
+ * Writes only the fields asked with the parameter {@code fields} in the
+ * responses of the reads of {@link UserRestController}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.restcontroller
+ *         17/10/2026
+ */
+@ControllerAdvice(assignableTypes = UserRestController.class)
+@Profile("!reactive")
+public class SparseFieldsAdvice
+        extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer,
+            MediaType contentType, MethodParameter returnType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+
+        if (request.getMethod() != HttpMethod.GET
+                || !(request instanceof ServletServerHttpRequest)) {
+            return;
+        }
+
+        SparseFields fields = SparseFields
+                .parse(((ServletServerHttpRequest) request).getServletRequest()
+                        .getParameter(SparseFields.PARAM));
+        if (!fields.isAll()) {
+            bodyContainer.setFilters(SparseFieldsFilter.provider(fields));
+        }
+    }
+
+}
@@ -1,13 +1,22 @@
 package co.com.foodbank.user.restcontroller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +27,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.webjars.NotFoundException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
 import co.com.foodbank.contribution.state.ContributionData;
 import co.com.foodbank.user.dto.BeneficiaryDTO;
 import co.com.foodbank.user.dto.ProviderDTO;
@@ -38,7 +55,18 @@ import co.com.foodbank.user.dto.request.RequestUserData;
 import co.com.foodbank.user.dto.request.RequestVolunterData;
 import co.com.foodbank.user.exception.UserErrorException;
 import co.com.foodbank.user.exception.UserNotFoundException;
+import co.com.foodbank.user.util.ETags;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.util.SparseFieldsFilter;
 import co.com.foodbank.user.v1.controller.UserController;
+import co.com.foodbank.user.v1.dto.ContributionPageData;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseBulkData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.dto.VersionData;
 import co.com.foodbank.user.v1.model.Beneficiary;
 import co.com.foodbank.user.v1.model.Provider;
 import co.com.foodbank.user.v1.model.Volunter;
@@ -62,6 +90,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  */
 
 @RestController
+@Profile("!reactive")
 @CrossOrigin(origins = "http://localhost:4200")
 @RequestMapping(value = "/user")
 @Tag(name = "User", description = "the User API")
@@ -73,10 +102,15 @@ public class UserRestController {
     @Autowired
     public UserController controller;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
 
 
     /**
-     * Method to find Provider by sucursal.
+     * Method to find Provider by sucursal. The response has the ETag of the
+     * provider version, with {@code If-None-Match} the version is read alone
+     * and the provider is not read when it did not change.
      * 
      * @return {@code ResponseEntity<IUser>}
      */
@@ -87,6 +121,8 @@ public class UserRestController {
                             description = "User found.",
                             content = {
                                     @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "304",
+                            description = "Not modified.", content = @Content),
                     @ApiResponse(responseCode = "500",
                             description = "Service not available.",
                             content = @Content),
@@ -95,18 +131,107 @@ public class UserRestController {
     @GetMapping(value = "/findBySucursal/{id-vault}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
     public ResponseEntity<IProvider> findBySucursal(
+            @PathVariable("id-vault") @NotBlank @NotNull String id,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields,
+            WebRequest request) throws UserNotFoundException {
+
+        SparseFields sparse = SparseFields.parse(fields);
+        if (!Objects.isNull(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            VersionData version = controller.findVersionBySucursal(id);
+            if (request.checkNotModified(ETags.of(version.getId(),
+                    version.getVersion(), sparse))) {
+                return null;
+            }
+        }
+
+        IProvider provider = controller.findBySucursal(id, sparse);
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(ETags.of(provider, sparse)).body(provider);
+    }
+
+
+
+    /**
+     * Method to find the Provider that owns a vault, with only the id, name
+     * and cuil of the provider and the header fields of the vault.
+     * 
+     * @return {@code ResponseEntity<ProviderSummaryData>}
+     */
+    @Operation(summary = "Find the Provider of a Sucursal, without the "
+            + "contributions nor the other vaults.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "User found.",
+                            content = {
+                                    @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "404",
+                            description = "User not found.",
+                            content = @Content),
+                    @ApiResponse(responseCode = "400",
+                            description = "Bad request.", content = @Content)})
+    @GetMapping(value = "/findSummaryBySucursal/{id-vault}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProviderSummaryData> findSummaryBySucursal(
             @PathVariable("id-vault") @NotBlank @NotNull String id)
             throws UserNotFoundException {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(controller.findBySucursal(id));
+                .body(controller.findSummaryBySucursal(id));
     }
 
 
 
     /**
-     * Method to findAll users.
+     * Method to find a page of the contributions of a vault, optionally of
+     * one type. The cursor of the next page is sent in the header
+     * {@code X-Next-After} when the page is full.
      * 
-     * @return {@code ResponseEntity<IUser>}
+     * @return {@code ResponseEntity<List<IContribution>>}
+     */
+    @Operation(summary = "Find a page of the contributions of a vault.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Contributions found.",
+                            content = {
+                                    @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "404",
+                            description = "User not found.",
+                            content = @Content),
+                    @ApiResponse(responseCode = "400",
+                            description = "Bad request.", content = @Content)})
+    @GetMapping(value = "/vault/{id-vault}/contributions",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<IContribution>> findContributions(
+            @PathVariable("id-vault") @NotBlank @NotNull String id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "type", required = false) @Pattern(
+                    regexp = ContributionType.PATTERN) String type)
+            throws UserNotFoundException {
+
+        ContributionPageData page = controller.findContributions(id, cursor,
+                limit, ContributionType.of(type));
+
+        HttpHeaders headers = new HttpHeaders();
+        if (!Objects.isNull(page.getNext())) {
+            headers.add(ParametersUser.NEXT_AFTER_HEADER, page.getNext());
+        }
+        return ResponseEntity.status(HttpStatus.OK).headers(headers)
+                .body(page.getContributions());
+    }
+
+
+
+    /**
+     * Method to findAll users. The users are written to the response while
+     * they are read from the database, as a JSON array or as NDJSON when the
+     * client accepts {@code application/x-ndjson}.
+     * 
+     * @return {@code ResponseEntity<StreamingResponseBody>}
      */
     @Operation(summary = "Find all users.")
     @ApiResponses(
@@ -114,16 +239,134 @@ public class UserRestController {
                     @ApiResponse(responseCode = "200",
                             description = "User found.",
                             content = {
-                                    @Content(mediaType = "application/json")}),
+                                    @Content(mediaType = "application/json"),
+                                    @Content(
+                                            mediaType = "application/x-ndjson")}),
                     @ApiResponse(responseCode = "500",
                             description = "Service not available.",
                             content = @Content),
                     @ApiResponse(responseCode = "400",
                             description = "Bad request.", content = @Content)})
     @GetMapping(value = "/findAll")
-    public ResponseEntity<Collection<IUser>> findAllUsers()
-            throws UserNotFoundException {
-        return ResponseEntity.status(HttpStatus.OK).body(controller.findAll());
+    public ResponseEntity<StreamingResponseBody> findAllUsers(
+            @RequestHeader(value = HttpHeaders.ACCEPT,
+                    required = false) String accept,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields) {
+
+        boolean ndjson = acceptNdjson(accept);
+        SparseFields sparse = SparseFields.parse(fields);
+        ObjectWriter writer = objectMapper.writerFor(IUser.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (!sparse.isAll()) {
+            writer = writer.with(SparseFieldsFilter.provider(sparse));
+        }
+        ObjectWriter userWriter = writer;
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator =
+                    objectMapper.getFactory().createGenerator(out)) {
+                if (ndjson) {
+                    writeNdjson(generator, userWriter, sparse);
+                } else {
+                    writeArray(generator, userWriter, sparse);
+                }
+            }
+        };
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON
+                        : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+
+
+    /**
+     * Method to find a page of users with keyset pagination, the id of the
+     * last user is returned in the header {@code X-Next-After} while there
+     * are more pages.
+     * 
+     * @param after
+     * @param limit
+     * @return {@code ResponseEntity<Collection<IUser>>}
+     */
+    @Operation(summary = "Find a page of users.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "User found.",
+                            content = {
+                                    @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "500",
+                            description = "Service not available.",
+                            content = @Content),
+                    @ApiResponse(responseCode = "400",
+                            description = "Bad request.", content = @Content)})
+    @GetMapping(value = "/findAll", params = "limit",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Collection<IUser>> findAllUsers(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields) {
+
+        List<IUser> page =
+                controller.findAll(after, limit, SparseFields.parse(fields));
+
+        HttpHeaders headers = new HttpHeaders();
+        if (page.size() == limit) {
+            headers.add(ParametersUser.NEXT_AFTER_HEADER,
+                    page.get(page.size() - 1).getId());
+        }
+        return ResponseEntity.status(HttpStatus.OK).headers(headers)
+                .body(page);
+    }
+
+
+    private boolean acceptNdjson(String accept) {
+        return !Objects.isNull(accept)
+                && MediaType.parseMediaTypes(accept).stream().anyMatch(
+                        MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+
+    private void writeArray(JsonGenerator generator, ObjectWriter writer,
+            SparseFields fields) throws IOException {
+        generator.writeStartArray();
+        controller.streamAll(fields, d -> write(generator, writer, d));
+        generator.writeEndArray();
+    }
+
+
+    private void writeNdjson(JsonGenerator generator, ObjectWriter writer,
+            SparseFields fields) {
+        controller.streamAll(fields, d -> {
+            write(generator, writer, d);
+            writeNewLine(generator);
+        });
+    }
+
+
+    private void write(JsonGenerator generator, ObjectWriter writer,
+            IUser user) {
+        try {
+            writer.writeValue(generator, user);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    private void writeNewLine(JsonGenerator generator) {
+        try {
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 
@@ -150,10 +393,39 @@ public class UserRestController {
     @GetMapping(value = "/findByDni/{dni}")
     public ResponseEntity<IUser> findByDni(@PathVariable("dni") @Pattern(
             regexp = "^[0-9]{8,8}$") @NotBlank @NotNull @Size(min = 8,
-                    max = 8) String dni)
+                    max = 8) String dni,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(controller.findByDni(dni));
+                .body(controller.findByDni(dni, SparseFields.parse(fields)));
+    }
+
+    /**
+     * Method to find many users by id, dni and cuit in one request.
+     * 
+     * @return {@code ResponseEntity<ResponseLookupData>}
+     */
+    @Operation(summary = "Find users by ids, dnis and cuils.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Users by key, null when not found.",
+                            content = {
+                                    @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "500",
+                            description = "Service not available.",
+                            content = @Content),
+                    @ApiResponse(responseCode = "400",
+                            description = "Bad request.", content = @Content)})
+    @PostMapping(value = "/lookup",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ResponseLookupData> lookup(
+            @RequestBody @Valid RequestLookupData request) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.lookup(request));
     }
 
     //
@@ -182,11 +454,14 @@ public class UserRestController {
     public ResponseEntity<IUser> findByCuit(
             @PathVariable("cuit") @Pattern(
                     regexp = "^[0-9]{12,12}$") @NotBlank @NotNull @Size(
-                            min = 12, max = 12) String cuit)
+                            min = 12, max = 12) String cuit,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
 
         return ResponseEntity.status(HttpStatus.OK)
-                .body(controller.findByCuit(cuit));
+                .body(controller.findByCuit(cuit, SparseFields.parse(fields)));
 
     }
 
@@ -213,10 +488,53 @@ public class UserRestController {
                             description = "Bad request.", content = @Content)})
     @GetMapping(value = "/findByEmail/{email}")
     public ResponseEntity<Collection<IUser>> findByEmail(
-            @PathVariable("email") @Email @ValidateEmail @NotBlank @NotNull String email)
+            @PathVariable("email") @Email @ValidateEmail @NotBlank @NotNull String email,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
+            throws UserNotFoundException {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.findByEmail(email,
+                        SparseFields.parse(fields)));
+    }
+
+
+
+    /**
+     * Method to find users by the beginning of the email, the search is
+     * case insensitive.
+     * 
+     * @param prefix
+     * @param limit
+     * @return {@code ResponseEntity<Collection<IUser>> }
+     * @throws NotFoundException
+     */
+    @Operation(summary = "Find users by email prefix.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "User found.",
+                            content = {
+                                    @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "500",
+                            description = "Service not available.",
+                            content = @Content),
+                    @ApiResponse(responseCode = "400",
+                            description = "Bad request.", content = @Content)})
+    @GetMapping(value = "/findByEmailPrefix/{prefix}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Collection<IUser>> findByEmailPrefix(
+            @PathVariable("prefix") @NotBlank @NotNull @Size(min = 3,
+                    max = 254) String prefix,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(
+                    ParametersUser.MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
         return ResponseEntity.status(HttpStatus.OK)
-                .body(controller.findByEmail(email));
+                .body(controller.findByEmailPrefix(prefix, limit,
+                        SparseFields.parse(fields)));
     }
 
 
@@ -250,6 +568,90 @@ public class UserRestController {
                 .body(controller.createVolunter(dto));
     }
 
+    /**
+     * Method to create many Volunters in one request, each element is validated
+     * and inserted on its own.
+     * 
+     * @param dtos
+     * @return {@code ResponseEntity<ResponseBulkData>}
+     */
+    @Operation(summary = "Create many Volunters", description = "",
+            tags = {"Volunter"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Result by element.",
+                            content = @Content(schema = @Schema(
+                                    implementation = ResponseBulkData.class))),
+                    @ApiResponse(responseCode = "400",
+                            description = "Invalid input")})
+    @PostMapping(value = "/createVolunters",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ResponseBulkData> createVolunters(
+            @RequestBody @NotEmpty @Size(
+                    max = ParametersUser.MAX_BULK_SIZE) List<VolunterDTO> dtos) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.createVolunters(dtos));
+    }
+
+    /**
+     * Method to create many Beneficiaries in one request, each element is validated
+     * and inserted on its own.
+     * 
+     * @param dtos
+     * @return {@code ResponseEntity<ResponseBulkData>}
+     */
+    @Operation(summary = "Create many Beneficiaries", description = "",
+            tags = {"Beneficiary"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Result by element.",
+                            content = @Content(schema = @Schema(
+                                    implementation = ResponseBulkData.class))),
+                    @ApiResponse(responseCode = "400",
+                            description = "Invalid input")})
+    @PostMapping(value = "/createBeneficiaries",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ResponseBulkData> createBeneficiaries(
+            @RequestBody @NotEmpty @Size(
+                    max = ParametersUser.MAX_BULK_SIZE) List<BeneficiaryDTO> dtos) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.createBeneficiaries(dtos));
+    }
+
+    /**
+     * Method to create many Providers in one request, each element is validated
+     * and inserted on its own.
+     * 
+     * @param dtos
+     * @return {@code ResponseEntity<ResponseBulkData>}
+     */
+    @Operation(summary = "Create many Providers", description = "",
+            tags = {"Provider"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200",
+                            description = "Result by element.",
+                            content = @Content(schema = @Schema(
+                                    implementation = ResponseBulkData.class))),
+                    @ApiResponse(responseCode = "400",
+                            description = "Invalid input")})
+    @PostMapping(value = "/createProviders",
+            consumes = {MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ResponseBulkData> createProviders(
+            @RequestBody @NotEmpty @Size(
+                    max = ParametersUser.MAX_BULK_SIZE) List<ProviderDTO> dtos) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.createProviders(dtos));
+    }
+
     /**
      * Update a VOlunter
      * 
@@ -518,7 +920,9 @@ public class UserRestController {
 
     /*********************************************************************/
     /**
-     * Method to find users by id.
+     * Method to find users by id. The response has the ETag of the user
+     * version, with {@code If-None-Match} the version is read alone and the
+     * user is not read when it did not change.
      * 
      * @param _id
      * @return {@code ResponseEntity<IUser>}
@@ -531,6 +935,8 @@ public class UserRestController {
                             description = "User found.",
                             content = {
                                     @Content(mediaType = "application/json")}),
+                    @ApiResponse(responseCode = "304",
+                            description = "Not modified.", content = @Content),
                     @ApiResponse(responseCode = "500",
                             description = "Service not available.",
                             content = @Content),
@@ -540,10 +946,24 @@ public class UserRestController {
             produces = {MediaType.APPLICATION_JSON_VALUE})
     @ResponseBody
     public ResponseEntity<IUser> findById(
-            @PathVariable("id") @NotBlank @NotNull String _id)
-            throws UserNotFoundException {
+            @PathVariable("id") @NotBlank @NotNull String _id,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields,
+            WebRequest request) throws UserNotFoundException {
+
+        SparseFields sparse = SparseFields.parse(fields);
+        if (!Objects.isNull(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            VersionData version = controller.findVersionById(_id);
+            if (request.checkNotModified(ETags.of(version.getId(),
+                    version.getVersion(), sparse))) {
+                return null;
+            }
+        }
+
+        IUser user = controller.findById(_id, sparse);
         return ResponseEntity.status(HttpStatus.OK)
-                .body(controller.findById(_id));
+                .eTag(ETags.of(user, sparse)).body(user);
     }
 
 
@@ -614,10 +1034,15 @@ public class UserRestController {
     public ResponseEntity<IUser> findByUser(
             @RequestParam("name") @NotNull String name,
             @RequestParam("email") @NotNull String email,
-            @RequestParam("phone") @NotNull String phone)
+            @RequestParam("phone") @NotNull String phone,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
-        return ResponseEntity.status(HttpStatus.OK).body(
-                controller.findByUser(new RequestUserData(name, email, phone)));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.findByUser(
+                        new RequestUserData(name, email, phone),
+                        SparseFields.parse(fields)));
     }
 
 
@@ -646,10 +1071,14 @@ public class UserRestController {
             produces = {MediaType.APPLICATION_JSON_VALUE})
     public ResponseEntity<IBeneficiary> findBeneficiary(
             @RequestParam("id") @NotNull String id,
-            @RequestParam("socialReason") @NotNull String socialReason)
+            @RequestParam("socialReason") @NotNull String socialReason,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
         return ResponseEntity.status(HttpStatus.OK).body(controller
-                .findBeneficiary(new RequestBeneficiaryData(id, socialReason)));
+                .findBeneficiary(new RequestBeneficiaryData(id, socialReason),
+                        SparseFields.parse(fields)));
     }
 
 
@@ -677,10 +1106,14 @@ public class UserRestController {
             produces = {MediaType.APPLICATION_JSON_VALUE})
     public ResponseEntity<IVolunter> findVolunteer(
             @RequestParam("id") @NotNull String id,
-            @RequestParam("dni") @NotNull String dni)
+            @RequestParam("dni") @NotNull String dni,
+            @RequestParam(value = SparseFields.PARAM,
+                    required = false) @Pattern(
+                            regexp = SparseFields.PATTERN) String fields)
             throws UserNotFoundException {
-        return ResponseEntity.status(HttpStatus.OK).body(
-                controller.findVolunteer(new RequestVolunterData(id, dni)));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(controller.findVolunteer(new RequestVolunterData(id, dni),
+                        SparseFields.parse(fields)));
     }
 
 
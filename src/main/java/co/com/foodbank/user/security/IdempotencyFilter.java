@@ -0,0 +1,290 @@
+package co.com.foodbank.user.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.foodbank.user.exception.ApiError;
+import co.com.foodbank.user.exception.IdempotencyKeyException;
+import co.com.foodbank.user.repository.IdempotencyStore;
+import co.com.foodbank.user.v1.model.IdempotencyRecord;
+
+/**
+ * Runs once the writes sent with an {@code Idempotency-Key} header, the
+ * retries with the same key get the stored response with the header
+ * {@code Idempotent-Replayed}, and the ones sent while the first is running
+ * wait for it. Only the 2xx responses and the 4xx that the same request
+ * would get again are stored, a 5xx or a 409, 429 and the other transient 4xx
+ * are not, so the retry runs the request again.
+ *
+ * The keys are scoped by the caller, the authenticated user or else the
+ * client address, so two callers sending the same key do not share its
+ * response. The key is bound to the method, the path and a hash of the body,
+ * the body is read once and given again to the request. A key sent again
+ * with other body is answered with 422.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.security 17/10/2026
+ */
+@Component
+@Profile("!reactive & !in-memory")
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    public static final Set<String> SAFE_METHODS =
+            Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    /** 4XX THAT A RETRY OF THE SAME REQUEST MAY NOT GET AGAIN */
+    public static final Set<Integer> TRANSIENT_STATUSES = Set.of(
+            HttpStatus.UNAUTHORIZED.value(),
+            HttpStatus.REQUEST_TIMEOUT.value(), HttpStatus.CONFLICT.value(),
+            HttpStatus.LOCKED.value(), HttpStatus.TOO_EARLY.value(),
+            HttpStatus.TOO_MANY_REQUESTS.value());
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return Objects.isNull(request.getHeader(HEADER))
+                || SAFE_METHODS.contains(request.getMethod());
+    }
+
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            error(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must have 1 to " + MAX_KEY_LENGTH + " chars");
+            return;
+        }
+
+        key = scope(caller(request), key);
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String fingerprint = fingerprint(request.getMethod(),
+                request.getRequestURI(), request.getQueryString(), body);
+
+        IdempotencyRecord record;
+        try {
+            record = store.acquire(key, fingerprint);
+        } catch (IdempotencyKeyException e) {
+            error(response, e.getStatus(), e.getMessage());
+            return;
+        }
+
+        if (!Objects.isNull(record)) {
+            replay(response, record);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper =
+                new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body),
+                    wrapper);
+            if (isStored(wrapper.getStatus())) {
+                store.complete(key, fingerprint, wrapper.getStatus(),
+                        wrapper.getContentType(),
+                        wrapper.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            try {
+                if (!stored) {
+                    store.release(key);
+                }
+            } finally {
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+
+    /**
+     * Method to scope a key by its caller.
+     *
+     * @param caller
+     * @param key
+     * @return {@code String}
+     */
+    public static String scope(String caller, String key) {
+        return caller + " " + key;
+    }
+
+
+    /**
+     * Method to know if a response is stored for the retries of its key, the
+     * 2xx and the 4xx the same request gets again.
+     *
+     * @param status
+     * @return {@code boolean}
+     */
+    public static boolean isStored(int status) {
+        HttpStatus.Series series = HttpStatus.Series.resolve(status);
+        return series == HttpStatus.Series.SUCCESSFUL
+                || series == HttpStatus.Series.CLIENT_ERROR
+                        && !TRANSIENT_STATUSES.contains(status);
+    }
+
+
+    /**
+     * The authenticated user, the anonymous one has no principal, or else the
+     * client address.
+     */
+    private static String caller(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return Objects.isNull(principal) ? request.getRemoteAddr()
+                : principal.getName();
+    }
+
+
+    /**
+     * Method to identify the operation of a key, a key sent again to other
+     * operation or with other body is rejected.
+     *
+     * @param method
+     * @param path
+     * @param query
+     * @param body
+     * @return {@code String}
+     */
+    public static String fingerprint(String method, String path,
+            String query, byte[] body) {
+        return method + " " + path + (Objects.isNull(query) ? "" : "?" + query)
+                + " " + sha256(body);
+    }
+
+
+    private static String sha256(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record)
+            throws IOException {
+        response.setStatus(record.getStatus());
+        response.setHeader(REPLAYED, Boolean.TRUE.toString());
+        if (!Objects.isNull(record.getContentType())) {
+            response.setContentType(record.getContentType());
+        }
+        if (!Objects.isNull(record.getBody())) {
+            response.setContentLength(record.getBody().length);
+            response.getOutputStream().write(record.getBody());
+        }
+    }
+
+
+    private void error(HttpServletResponse response, HttpStatus status,
+            String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ApiError(status, message, message));
+    }
+
+
+
+    /**
+     * Request that reads the body already read by the filter.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = Objects.isNull(encoding)
+                    ? StandardCharsets.ISO_8859_1
+                    : Charset.forName(encoding);
+            return new BufferedReader(
+                    new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package co.com.foodbank.user.security;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.Objects;
+import java.util.Optional;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.foodbank.user.exception.ApiError;
+import co.com.foodbank.user.exception.IdempotencyKeyException;
+import co.com.foodbank.user.repository.IdempotencyStore;
+import co.com.foodbank.user.v1.model.IdempotencyRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non blocking version of {@link IdempotencyFilter}, used with the profile
+ * reactive, with the same scope of the keys and the same responses stored.
+ * The store is blocking, its calls run in the bounded elastic scheduler.
+ * The body is read once for its hash and given again to the request.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.security 17/10/2026
+ */
+@Component
+@Profile("reactive")
+public class ReactiveIdempotencyFilter implements WebFilter {
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange,
+            WebFilterChain chain) {
+
+        ServerHttpRequest request = exchange.getRequest();
+        String key = request.getHeaders().getFirst(IdempotencyFilter.HEADER);
+
+        if (Objects.isNull(key) || IdempotencyFilter.SAFE_METHODS
+                .contains(request.getMethodValue())) {
+            return chain.filter(exchange);
+        }
+
+        if (key.isBlank() || key.length() > IdempotencyFilter.MAX_KEY_LENGTH) {
+            return error(exchange.getResponse(), HttpStatus.BAD_REQUEST,
+                    IdempotencyFilter.HEADER + " must have 1 to "
+                            + IdempotencyFilter.MAX_KEY_LENGTH + " chars");
+        }
+
+        return caller(exchange).map(d -> IdempotencyFilter.scope(d, key))
+                .flatMap(scoped -> DataBufferUtils.join(request.getBody())
+                        .map(d -> {
+                            byte[] bytes = new byte[d.readableByteCount()];
+                            d.read(bytes);
+                            DataBufferUtils.release(d);
+                            return bytes;
+                        }).defaultIfEmpty(new byte[0])
+                        .flatMap(d -> filter(exchange, chain, scoped, d)));
+    }
+
+
+    /**
+     * The authenticated user, not the anonymous one, or else the client
+     * address.
+     */
+    private static Mono<String> caller(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        String remote = Objects.isNull(address) ? ""
+                : address.getHostString();
+        return exchange.getPrincipal()
+                .filter(d -> !(d instanceof AnonymousAuthenticationToken))
+                .map(Principal::getName).defaultIfEmpty(remote);
+    }
+
+
+    private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain,
+            String key, byte[] body) {
+
+        ServerHttpRequest request = exchange.getRequest();
+        String fingerprint = IdempotencyFilter.fingerprint(
+                request.getMethodValue(), request.getURI().getRawPath(),
+                request.getURI().getRawQuery(), body);
+
+        ServerWebExchange cached = exchange.mutate()
+                .request(new ServerHttpRequestDecorator(request) {
+                    @Override
+                    public Flux<DataBuffer> getBody() {
+                        return Flux.defer(() -> Flux.just(exchange
+                                .getResponse().bufferFactory().wrap(body)));
+                    }
+                }).build();
+
+        return Mono
+                .fromCallable(() -> Optional
+                        .ofNullable(store.acquire(key, fingerprint)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(IdempotencyKeyException.class,
+                        e -> error(exchange.getResponse(), e.getStatus(),
+                                e.getMessage()).then(Mono.empty()))
+                .flatMap(d -> d.isPresent()
+                        ? replay(exchange.getResponse(), d.get())
+                        : run(cached, chain, key, fingerprint));
+    }
+
+
+    /**
+     * Run the request keeping a copy of the body it writes.
+     */
+    private Mono<Void> run(ServerWebExchange exchange, WebFilterChain chain,
+            String key, String fingerprint) {
+
+        CapturingResponse response =
+                new CapturingResponse(exchange.getResponse());
+
+        return chain.filter(exchange.mutate().response(response).build())
+                .then(Mono.fromRunnable(() -> {
+                    Integer status = response.getRawStatusCode();
+                    int code = Objects.isNull(status) ? HttpStatus.OK.value()
+                            : status;
+                    if (IdempotencyFilter.isStored(code)) {
+                        store.complete(key, fingerprint, code,
+                                response.getHeaders()
+                                        .getFirst(HttpHeaders.CONTENT_TYPE),
+                                response.getBody());
+                    } else {
+                        store.release(key);
+                    }
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> Mono.fromRunnable(() -> store.release(key))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(Mono.error(e)))
+                .doFinally(d -> {
+                    if (d == SignalType.CANCEL) {
+                        Schedulers.boundedElastic()
+                                .schedule(() -> store.release(key));
+                    }
+                }).then();
+    }
+
+
+    private Mono<Void> replay(ServerHttpResponse response,
+            IdempotencyRecord record) {
+        response.setRawStatusCode(record.getStatus());
+        response.getHeaders().set(IdempotencyFilter.REPLAYED,
+                Boolean.TRUE.toString());
+        if (!Objects.isNull(record.getContentType())) {
+            response.getHeaders().set(HttpHeaders.CONTENT_TYPE,
+                    record.getContentType());
+        }
+        byte[] body = Objects.isNull(record.getBody()) ? new byte[0]
+                : record.getBody();
+        return response
+                .writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+
+    private Mono<Void> error(ServerHttpResponse response, HttpStatus status,
+            String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return Mono
+                .fromCallable(() -> objectMapper.writeValueAsBytes(
+                        new ApiError(status, message, message)))
+                .flatMap(d -> response.writeWith(
+                        Mono.just(response.bufferFactory().wrap(d))));
+    }
+
+
+    /**
+     * Response that keeps a copy of the body written.
+     */
+    private static class CapturingResponse
+            extends ServerHttpResponseDecorator {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> data) {
+            return DataBufferUtils.join(Flux.from(data)).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+                body.write(bytes, 0, bytes.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+
+        @Override
+        public Mono<Void> writeAndFlushWith(
+                Publisher<? extends Publisher<? extends DataBuffer>> data) {
+            return writeWith(Flux.from(data).flatMapSequential(d -> d));
+        }
+
+
+        byte[] getBody() {
+            return body.toByteArray();
+        }
+    }
+
+}
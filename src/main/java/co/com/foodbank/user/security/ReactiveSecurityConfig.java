@@ -0,0 +1,46 @@
+package co.com.foodbank.user.security;
+
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same rules of {@link SecurityConfig} for the profile reactive.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.security 17/10/2026
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    private static final IpAddressMatcher LOCAL =
+            new IpAddressMatcher("127.0.0.1/24");
+
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http) {
+
+        return http.csrf().disable().authorizeExchange()
+                .pathMatchers("/user/updateVaultInProvider/**",
+                        "/user/updateContribution/**")
+                .access((authentication, context) -> {
+                    InetSocketAddress remote =
+                            context.getExchange().getRequest()
+                                    .getRemoteAddress();
+                    boolean local = !Objects.isNull(remote) && LOCAL
+                            .matches(remote.getAddress().getHostAddress());
+                    return Mono.just(new AuthorizationDecision(local));
+                }).anyExchange().permitAll().and().build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package co.com.foodbank.user.security;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -10,6 +11,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
  * @author mauricio.londono@gmail.com co.com.foodbank.user.security 5/07/2021
  */
 @Configuration
+@Profile("!reactive")
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
@@ -0,0 +1,120 @@
+package co.com.foodbank.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Retry of the writes that load a user, change it and save it. The save is
+ * conditional on the {@code version} read, when another request saved the
+ * user in between the save fails and the whole attempt runs again over a
+ * fresh copy, up to {@code user.optimistic.max-attempts} times.
+ *
+ * The counters {@code user.optimistic.calls}, {@code conflicts} and
+ * {@code exhausted}, tagged by operation, give the conflict and retry rates.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.service 17/10/2026
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final String OPERATION = "operation";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+
+
+    /**
+     * Constructor with the registry of the metrics and the attempts.
+     *
+     * @param meterRegistry
+     * @param maxAttempts
+     */
+    public OptimisticRetry(MeterRegistry meterRegistry,
+            @Value("${user.optimistic.max-attempts:5}") int maxAttempts) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+
+    /**
+     * Load, change and save, one attempt.
+     */
+    @FunctionalInterface
+    public interface Attempt<T, E extends Exception> {
+        T run() throws E;
+    }
+
+
+    /**
+     * Method to run the attempt until it saves without a conflict.
+     *
+     * @param operation name of the operation in the metrics.
+     * @param attempt must read the user again, it runs once per try.
+     * @return {@code T}
+     * @throws E the exception of the attempt.
+     * @throws OptimisticLockingFailureException when every attempt had a
+     *         conflict.
+     */
+    public <T, E extends Exception> T run(String operation,
+            Attempt<T, E> attempt) throws E {
+
+        counter("user.optimistic.calls", operation).increment();
+
+        for (int i = 1;; i++) {
+            try {
+                return attempt.run();
+            } catch (OptimisticLockingFailureException e) {
+                counter("user.optimistic.conflicts", operation).increment();
+                if (i >= maxAttempts) {
+                    counter("user.optimistic.exhausted", operation)
+                            .increment();
+                    throw e;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Method to subscribe again to the attempt until it saves without a
+     * conflict.
+     *
+     * @param operation name of the operation in the metrics.
+     * @param attempt must read the user again on each subscription.
+     * @return {@code Mono<T>}
+     */
+    public <T> Mono<T> run(String operation, Mono<T> attempt) {
+
+        return attempt
+                .doOnError(OptimisticLockingFailureException.class,
+                        d -> counter("user.optimistic.conflicts", operation)
+                                .increment())
+                .retryWhen(Retry.max(maxAttempts - 1L)
+                        .filter(OptimisticRetry::isConflict)
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            counter("user.optimistic.exhausted", operation)
+                                    .increment();
+                            return signal.failure();
+                        }))
+                .doOnSubscribe(
+                        d -> counter("user.optimistic.calls", operation)
+                                .increment());
+    }
+
+
+    private static boolean isConflict(Throwable e) {
+        return e instanceof OptimisticLockingFailureException;
+    }
+
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, OPERATION, operation);
+    }
+
+}
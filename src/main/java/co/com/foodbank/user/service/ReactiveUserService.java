@@ -0,0 +1,594 @@
+package co.com.foodbank.user.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.webjars.NotFoundException;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.contribution.state.Pending;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IBeneficiary;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.dto.interfaces.IVolunter;
+import co.com.foodbank.user.dto.request.RequestBeneficiaryData;
+import co.com.foodbank.user.dto.request.RequestUserData;
+import co.com.foodbank.user.dto.request.RequestVolunterData;
+import co.com.foodbank.user.exception.UserErrorException;
+import co.com.foodbank.user.exception.UserNotFoundException;
+import co.com.foodbank.user.repository.ContributionStore;
+import co.com.foodbank.user.repository.ReactiveBeneficiaryRepository;
+import co.com.foodbank.user.repository.ReactiveProviderRepository;
+import co.com.foodbank.user.repository.ReactiveUserRepository;
+import co.com.foodbank.user.repository.ReactiveVolunterRepository;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.v1.dto.ContributionPageData;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.dto.VersionData;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.ProviderAggregate;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.VaultContribution;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.VaultDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non blocking version of {@link UserService}, used with the profile
+ * reactive. The entities are built with the same {@link UserAssembler}.
+ *
+ * The vault sdk and the contributions stored in their own collection are
+ * blocking, those calls run in the bounded elastic scheduler so they never
+ * hold an event loop thread.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.service 17/10/2026
+ */
+@Service
+@Profile("reactive")
+public class ReactiveUserService {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveBeneficiaryRepository beneficiaryRepository;
+
+    @Autowired
+    private ReactiveVolunterRepository volunterRepository;
+
+    @Autowired
+    private ReactiveProviderRepository providerRepository;
+
+    @Autowired
+    private ContributionStore contributionStore;
+
+    @Autowired
+    private UserAssembler assembler;
+
+    @Autowired
+    private ResilientVaultService vaultService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Value("${" + ContributionStore.STORAGE + ":embedded}")
+    private String storage;
+
+
+    /**
+     * Method to walk all users.
+     *
+     * @return {@code Flux<IUser>}
+     */
+    public Flux<IUser> streamAll() {
+        return userRepository.streamAll().cast(IUser.class);
+    }
+
+
+    /**
+     * Method to list a page of users.
+     *
+     * @param after id of the last user of the previous page.
+     * @param limit
+     * @return {@code Flux<IUser>}
+     */
+    public Flux<IUser> findAll(String after, int limit) {
+        return userRepository.findPage(after, limit).cast(IUser.class);
+    }
+
+
+    /**
+     * Find User by Id, a provider with the contributions of its vaults. The
+     * updates read the user with load, without the contributions.
+     *
+     * @param _id
+     * @return {@code Mono<User>}
+     */
+    public Mono<User> findById(String _id) {
+        return assembleUser(load(_id));
+    }
+
+
+    /**
+     * Method to read the user document without assembling the
+     * contributions, this is the one that can be saved again.
+     */
+    private Mono<User> load(String _id) {
+        return userRepository.findById(_id).switchIfEmpty(notFound(_id));
+    }
+
+
+    /**
+     * Method to find Providers by cuit.
+     *
+     * @param cuit
+     * @return {@code Mono<IUser>}
+     */
+    public Mono<IUser> findByCuit(String cuit) {
+        return assembleUser(userRepository.finByCuit(Long.valueOf(cuit))
+                .switchIfEmpty(notFound(cuit))).cast(IUser.class);
+    }
+
+
+    /**
+     * Method to find Volunter By Dni.
+     *
+     * @param dni
+     * @return {@code Mono<IUser>}
+     */
+    public Mono<IUser> findByDni(String dni) {
+        return userRepository.finByDni(Long.valueOf(dni))
+                .switchIfEmpty(notFound(dni)).cast(IUser.class);
+    }
+
+
+    /**
+     * Method to find Users by email.
+     *
+     * @param email
+     * @return {@code Mono<List<IUser>>}
+     */
+    public Mono<List<IUser>> findByEmail(String email) {
+        return notEmpty(
+                userRepository.findByEmailLower(User.normalizeEmail(email)),
+                email);
+    }
+
+
+    /**
+     * Method to find Users whose email starts with a prefix.
+     *
+     * @param prefix
+     * @param limit
+     * @return {@code Mono<List<IUser>>}
+     */
+    public Mono<List<IUser>> findByEmailPrefix(String prefix, int limit) {
+        return notEmpty(userRepository.findByEmailPrefix(prefix, limit),
+                prefix);
+    }
+
+
+    /**
+     * Method to find many users by id, dni and cuit with one query by key
+     * type, the three queries run at the same time.
+     *
+     * @param request
+     * @return {@code Mono<ResponseLookupData>}
+     */
+    public Mono<ResponseLookupData> lookup(RequestLookupData request) {
+
+        Mono<Map<String, IUser>> ids = lookup(request.getIds(), d -> d,
+                userRepository::findAllById, User::getId);
+
+        Mono<Map<String, IUser>> dnis = lookup(request.getDnis(),
+                Long::valueOf, userRepository::findByDnis,
+                d -> ((Volunter) d).getDni());
+
+        Mono<Map<String, IUser>> cuils = lookup(request.getCuils(),
+                Long::valueOf, userRepository::findByCuits,
+                d -> ((Provider) d).getCuil());
+
+        return Mono.zip(ids, dnis, cuils).map(d -> new ResponseLookupData(
+                d.getT1(), d.getT2(), d.getT3()));
+    }
+
+
+    private <K> Mono<Map<String, IUser>> lookup(List<String> input,
+            Function<String, K> toKey,
+            Function<Collection<K>, Flux<User>> query,
+            Function<User, K> keyOf) {
+
+        Map<String, K> keys = new LinkedHashMap<>();
+        if (!Objects.isNull(input)) {
+            input.forEach(d -> keys.putIfAbsent(d, toKey.apply(d)));
+        }
+
+        Flux<User> found = keys.isEmpty() ? Flux.empty()
+                : query.apply(keys.values());
+
+        return assembleAll(found.collectMap(keyOf)).map(users -> {
+            Map<String, IUser> result = new LinkedHashMap<>();
+            keys.forEach((d, key) -> result.put(d, users.get(key)));
+            return result;
+        });
+    }
+
+
+    /**
+     * Method to create a Volunter.
+     *
+     * @param dto
+     * @return {@code Mono<IVolunter>}
+     */
+    public Mono<IVolunter> createVolunter(VolunterDTO dto) {
+        return Mono.fromSupplier(() -> assembler.setVolunter(dto))
+                .flatMap(volunterRepository::save).cast(IVolunter.class);
+    }
+
+
+    /**
+     * Method to create a Provider.
+     *
+     * @param dto
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> createProvider(ProviderDTO dto) {
+        return Mono.fromSupplier(() -> assembler.setProvider(dto))
+                .flatMap(providerRepository::save).cast(IProvider.class);
+    }
+
+
+    /**
+     * Method to create a Beneficiary.
+     *
+     * @param dto
+     * @return {@code Mono<IBeneficiary>}
+     */
+    public Mono<IBeneficiary> createBeneficiary(BeneficiaryDTO dto) {
+        return Mono.fromSupplier(() -> assembler.setBeneficiary(dto))
+                .flatMap(beneficiaryRepository::save)
+                .cast(IBeneficiary.class);
+    }
+
+
+    /**
+     * Update a Volunter.
+     *
+     * @param dto
+     * @param _id
+     * @return {@code Mono<IVolunter>}
+     */
+    public Mono<IVolunter> updateVolunter(VolunterDTO dto, String _id) {
+        return optimisticRetry.run("updateVolunter", load(_id)
+                .flatMap(d -> d instanceof Volunter
+                        ? volunterRepository.save(
+                                assembler.buildVolunter(dto, (Volunter) d))
+                        : notA(_id, ParametersUser.MSG_VOLUNTER)))
+                .cast(IVolunter.class);
+    }
+
+
+    /**
+     * Update a Beneficiary.
+     *
+     * @param dto
+     * @param _id
+     * @return {@code Mono<IBeneficiary>}
+     */
+    public Mono<IBeneficiary> updateBeneficiary(BeneficiaryDTO dto,
+            String _id) {
+        return optimisticRetry.run("updateBeneficiary", load(_id)
+                .flatMap(d -> d instanceof Beneficiary
+                        ? beneficiaryRepository.save(assembler
+                                .buildBeneficiary(dto, (Beneficiary) d))
+                        : notA(_id, ParametersUser.MSG_BENEFICIARY)))
+                .cast(IBeneficiary.class);
+    }
+
+
+    /**
+     * Update a Provider.
+     *
+     * @param dto
+     * @param _id
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> updateprovider(ProviderDTO dto, String _id) {
+        return assemble(optimisticRetry.run("updateprovider",
+                load(_id).flatMap(d -> d instanceof Provider
+                        ? providerRepository
+                                .save(assembler.initProvider(dto, (Provider) d))
+                        : notA(_id, ParametersUser.MSG_PROVIDER))));
+    }
+
+
+    /**
+     * Method to add vault in provider, the vault is created with the vault
+     * sdk before it is added, only once, a conflict adds it again to a fresh
+     * copy of the provider.
+     *
+     * @param vaultDto
+     * @param idProvider
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> addVaultInProvider(VaultDTO vaultDto,
+            String idProvider) {
+
+        Mono<Provider> provider = load(idProvider)
+                .flatMap(d -> d instanceof Provider ? Mono.just((Provider) d)
+                        : notA(idProvider, ParametersUser.MSG_PROVIDER));
+
+        return assemble(provider.then(Mono
+                .fromCallable(() -> vaultService.create(vaultDto))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(assembler::toVault)
+                .flatMap(v -> optimisticRetry.run("addVaultInProvider",
+                        provider.flatMap(p -> {
+                            p.getSucursal().add(v);
+                            return providerRepository.save(p);
+                        })))));
+    }
+
+
+    /**
+     * Method to read the version of the provider that owns a vault.
+     *
+     * @param id
+     * @return {@code Mono<VersionData>}
+     */
+    public Mono<VersionData> findVersionBySucursal(String id) {
+        return providerRepository.findVersionBySucursal(id)
+                .switchIfEmpty(notFound(id));
+    }
+
+
+    /**
+     * Method to read the version of an user.
+     *
+     * @param _id
+     * @return {@code Mono<VersionData>}
+     */
+    public Mono<VersionData> findVersionById(String _id) {
+        return userRepository.findVersionById(_id)
+                .switchIfEmpty(notFound(_id));
+    }
+
+
+    /**
+     * Method to find provider by sucursal.
+     *
+     * @param id
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> findBySucursal(String id) {
+        return assemble(loadBySucursal(id));
+    }
+
+
+    /**
+     * Method to find the provider that owns a vault, only its id, name and
+     * cuil and the header fields of the vault.
+     *
+     * @param id
+     * @return {@code Mono<ProviderSummaryData>}
+     */
+    public Mono<ProviderSummaryData> findSummaryBySucursal(String id) {
+        return providerRepository.findSummaryBySucursal(id)
+                .switchIfEmpty(notFound(id));
+    }
+
+
+    /**
+     * Method to read a page of the contributions of a vault.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code Mono<ContributionPageData>}
+     */
+    public Mono<ContributionPageData> findContributions(String idVault,
+            String cursor, int limit, ContributionType type) {
+
+        Flux<VaultContribution> page = embedded()
+                ? providerRepository.findContributions(idVault, cursor, limit,
+                        type)
+                : Mono.fromCallable(() -> contributionStore.page(idVault,
+                        cursor, limit, type))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMapIterable(d -> d);
+
+        return page.collectList()
+                .filterWhen(d -> d.isEmpty()
+                        ? providerRepository.findSummaryBySucursal(idVault)
+                                .hasElement()
+                        : Mono.just(true))
+                .switchIfEmpty(notFound(idVault))
+                .map(d -> ContributionPageData.of(d, limit));
+    }
+
+
+    private Mono<Provider> loadBySucursal(String id) {
+        return providerRepository.findBySucursal(id)
+                .switchIfEmpty(notFound(id));
+    }
+
+
+    /**
+     * Method to update vault in provider.
+     *
+     * @param dto
+     * @param _id
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> updateVaultProvider(VaultDTO dto, String _id) {
+
+        String err = _id + ParametersUser.MSG_NOT_FOUND + ParametersUser.VAULT;
+
+        return assemble(optimisticRetry.run("updateVaultProvider",
+                loadBySucursal(_id).flatMap(p -> ProviderAggregate.of(p)
+                        .findVault(_id).map(v -> {
+                            assembler.updateVault(v, dto);
+                            return providerRepository.save(p);
+                        }).orElseGet(() -> Mono
+                                .error(() -> new NotFoundException(err))))));
+    }
+
+
+    /**
+     * Method to update contribution in provider, with the same atomic update
+     * of {@link UserService#updateContribution}, and the same provider
+     * returned, without the contributions with the collection storage.
+     *
+     * @param data
+     * @param idVault
+     * @param idContribution
+     * @return {@code Mono<IProvider>}
+     */
+    public Mono<IProvider> updateContribution(ContributionData data,
+            String idVault, String idContribution) {
+
+        return Mono.fromSupplier(() -> {
+            /** SET THE STATE PENDING */
+            new Pending().pending(data);
+            return assembler.checkTypeOfContribution(data, idContribution);
+        }).flatMap(d -> upsert(idVault, d))
+                .switchIfEmpty(notFound(idVault)).cast(IProvider.class);
+    }
+
+
+    private Mono<Provider> upsert(String idVault,
+            IContribution contribution) {
+        if (embedded()) {
+            return providerRepository.upsertContribution(idVault,
+                    contribution);
+        }
+        return Mono
+                .fromCallable(
+                        () -> contributionStore.upsert(idVault, contribution))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+
+    /**
+     * Method to find by User.
+     *
+     * @param user
+     * @return {@code Mono<IUser>}
+     */
+    public Mono<IUser> findByUser(RequestUserData user) {
+        return userRepository
+                .findByUser(user.getName(), user.getEmail(), user.getPhones())
+                .switchIfEmpty(notFound(user.toString())).cast(IUser.class);
+    }
+
+
+    /**
+     * Method to find Beneficiary.
+     *
+     * @param dto
+     * @return {@code Mono<IBeneficiary>}
+     */
+    public Mono<IBeneficiary> findBeneficiary(RequestBeneficiaryData dto) {
+        return beneficiaryRepository
+                .findBeneficiary(dto.getId(), dto.getSocialReason())
+                .switchIfEmpty(notFound(dto.toString()))
+                .cast(IBeneficiary.class);
+    }
+
+
+    /**
+     * Method to find Volunteer.
+     *
+     * @param data
+     * @return {@code Mono<IVolunter>}
+     */
+    public Mono<IVolunter> findVolunteer(RequestVolunterData data) {
+        return volunterRepository
+                .findVolunteer(data.getId(), Long.valueOf(data.getDni()))
+                .switchIfEmpty(notFound(data.toString()))
+                .cast(IVolunter.class);
+    }
+
+
+    /**
+     * Method to add the contributions when they are stored in their own
+     * collection.
+     */
+    private Mono<IProvider> assemble(Mono<Provider> provider) {
+        if (embedded()) {
+            return provider.cast(IProvider.class);
+        }
+        return provider.publishOn(Schedulers.boundedElastic())
+                .map(contributionStore::assemble);
+    }
+
+
+    private Mono<User> assembleUser(Mono<User> user) {
+        if (embedded()) {
+            return user;
+        }
+        return user.publishOn(Schedulers.boundedElastic()).map(d -> {
+            if (d instanceof Provider) {
+                contributionStore.assemble((Provider) d);
+            }
+            return d;
+        });
+    }
+
+
+    /**
+     * The providers of a lookup are assembled with one read for all.
+     */
+    private <K> Mono<Map<K, User>> assembleAll(Mono<Map<K, User>> users) {
+        if (embedded()) {
+            return users;
+        }
+        return users.publishOn(Schedulers.boundedElastic()).map(d -> {
+            contributionStore.assembleAll(d.values().stream()
+                    .filter(u -> u instanceof Provider)
+                    .map(u -> (Provider) u).collect(Collectors.toList()));
+            return d;
+        });
+    }
+
+
+    private boolean embedded() {
+        return !"collection".equals(storage);
+    }
+
+
+    private Mono<List<IUser>> notEmpty(Flux<User> users, String key) {
+        return users.cast(IUser.class).collectList()
+                .filter(d -> !d.isEmpty()).switchIfEmpty(notFound(key));
+    }
+
+
+    private <T> Mono<T> notFound(String key) {
+        return Mono.error(() -> new UserNotFoundException(key));
+    }
+
+
+    private <T> Mono<T> notA(String id, String type) {
+        return Mono.error(() -> new UserErrorException(
+                id + ParametersUser.MSG_ERROR + type));
+    }
+
+}
@@ -0,0 +1,312 @@
+package co.com.foodbank.user.service;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import co.com.foodbank.user.config.VaultClientProperties;
+import co.com.foodbank.user.config.VaultTimeouts;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.UserMetrics;
+import co.com.foodbank.vault.dto.VaultDTO;
+import co.com.foodbank.vault.sdk.exception.SDKVaultServiceException;
+import co.com.foodbank.vault.sdk.exception.SDKVaultServiceIllegalArgumentException;
+import co.com.foodbank.vault.sdk.exception.SDKVaultServiceNotAvailableException;
+import co.com.foodbank.vault.sdk.model.ResponseVaultData;
+import co.com.foodbank.vault.sdk.service.SDKVaultService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedThreadPoolBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Calls to the vault sdk with a bounded time, a bulkhead of its own, retries
+ * for the idempotent calls and a circuit breaker, so a slow or down vault
+ * service does not hold the request threads of the users.
+ *
+ * A call runs in the threads of the bulkhead, the time limiter bounds the
+ * wait and the circuit breaker rejects the calls while the vault keeps
+ * failing. Timeouts, rejections and connection errors are thrown as
+ * {@code SDKVaultServiceNotAvailableException}, the errors of the vault sdk
+ * are thrown as they are.
+ *
+ * The sdk opens the connections with {@code HttpURLConnection}, its connect
+ * and read timeouts are set once at startup by {@link VaultTimeouts} so the
+ * threads of the bulkhead are released after a call is timed out.
+ *
+ * The calls to the sdk itself, without the waits of the bulkhead and the
+ * retries, are timed in {@code user.vault.sdk} by operation and outcome.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.service 17/10/2026
+ */
+@Service
+public class ResilientVaultService {
+
+    public static final String NAME = "vault";
+
+    public static final String SDK_TIMER = "user.vault.sdk";
+
+    private final SDKVaultService sdkVaultService;
+
+    private final ThreadPoolBulkhead bulkhead;
+
+    private final TimeLimiter timeLimiter;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Retry retry;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final MeterRegistry meterRegistry;
+
+
+    /**
+     * Constructor with the sdk, the limits and the registry of the metrics.
+     *
+     * @param sdkVaultService
+     * @param properties
+     * @param meterRegistry
+     */
+    public ResilientVaultService(
+            @Qualifier("sdkVaultService") SDKVaultService sdkVaultService,
+            VaultClientProperties properties, MeterRegistry meterRegistry) {
+
+        this.sdkVaultService = sdkVaultService;
+        this.meterRegistry = meterRegistry;
+
+        ThreadPoolBulkheadRegistry bulkheads =
+                ThreadPoolBulkheadRegistry.of(ThreadPoolBulkheadConfig.custom()
+                        .coreThreadPoolSize(properties.getBulkheadCoreThreads())
+                        .maxThreadPoolSize(properties.getBulkheadMaxThreads())
+                        .queueCapacity(properties.getBulkheadQueueCapacity())
+                        .build());
+
+        TimeLimiterRegistry timeLimiters =
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(properties.getTimeout())
+                        .cancelRunningFuture(true).build());
+
+        CircuitBreakerRegistry circuitBreakers =
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .failureRateThreshold(
+                                properties.getFailureRateThreshold())
+                        .slowCallRateThreshold(
+                                properties.getFailureRateThreshold())
+                        .slowCallDurationThreshold(
+                                properties.getSlowCallDuration())
+                        .slidingWindowSize(properties.getSlidingWindowSize())
+                        .minimumNumberOfCalls(
+                                properties.getMinimumNumberOfCalls())
+                        .waitDurationInOpenState(
+                                properties.getWaitDurationInOpenState())
+                        .permittedNumberOfCallsInHalfOpenState(
+                                properties.getPermittedCallsInHalfOpenState())
+                        .recordException(ResilientVaultService::isUnavailable)
+                        .ignoreExceptions(BulkheadFullException.class)
+                        .build());
+
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(properties.getRetryMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        properties.getRetryInitialInterval(),
+                        properties.getRetryMultiplier(),
+                        properties.getRetryRandomizationFactor()))
+                .retryOnException(ResilientVaultService::isUnavailable)
+                .build());
+
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        this.timeLimiter = timeLimiters.timeLimiter(NAME);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        this.retry = retries.retry(NAME);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(d -> {
+            Thread thread = new Thread(d, "vault-time-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        /** resilience4j.* meters in /actuator/metrics */
+        TaggedThreadPoolBulkheadMetrics.ofThreadPoolBulkheadRegistry(bulkheads)
+                .bindTo(meterRegistry);
+        TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiters)
+                .bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers)
+                .bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+    }
+
+
+    /**
+     * Method to create a vault with the sdk, it is not retried because the
+     * vault service could have created it before the failure.
+     *
+     * @param vaultDto
+     * @return {@code ResponseVaultData}
+     * @throws JsonMappingException
+     * @throws JsonProcessingException
+     * @throws SDKVaultServiceException
+     * @throws SDKVaultServiceIllegalArgumentException
+     */
+    public ResponseVaultData create(VaultDTO vaultDto)
+            throws JsonMappingException, JsonProcessingException,
+            SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
+        try {
+            return execute(() -> timed("create",
+                    () -> sdkVaultService.create(vaultDto)), false);
+        } catch (JsonProcessingException | SDKVaultServiceException
+                | SDKVaultServiceIllegalArgumentException
+                | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw notAvailable(e);
+        }
+    }
+
+
+    /**
+     * Method to run a call to the vault service inside the bulkhead, the
+     * time limiter and the circuit breaker.
+     *
+     * @param call
+     * @param idempotent true when the call can be repeated, it is retried
+     *        with an exponential backoff with jitter.
+     * @return {@code T}
+     * @throws Exception the exception of the call when it is not a failure
+     *         of the vault service.
+     */
+    public <T> T execute(Callable<T> call, boolean idempotent)
+            throws Exception {
+
+        Supplier<CompletionStage<T>> attempt =
+                () -> circuitBreaker.executeCompletionStage(
+                        () -> timeLimiter.executeCompletionStage(scheduler,
+                                () -> bulkhead.executeCallable(call)));
+
+        Supplier<CompletionStage<T>> decorated = idempotent
+                ? Retry.decorateCompletionStage(retry, scheduler, attempt)
+                : attempt;
+
+        try {
+            return decorated.get().toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw notAvailable(e);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof SDKVaultServiceNotAvailableException) {
+                throw (SDKVaultServiceNotAvailableException) cause;
+            }
+            if (isUnavailable(cause)
+                    || cause instanceof CallNotPermittedException
+                    || cause instanceof BulkheadFullException) {
+                throw notAvailable(cause);
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+
+
+    /**
+     * The vaults are the sucursales of the providers, the calls are tagged
+     * with their type.
+     */
+    private <T> T timed(String operation, Callable<T> call) throws Exception {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Exception error = null;
+        try {
+            return call.call();
+        } catch (Exception e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(SDK_TIMER,
+                    Tags.of("operation", operation, UserMetrics.TYPE,
+                            UserMetrics.PROVIDER)
+                            .and(UserMetrics.outcome(error))));
+        }
+    }
+
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+
+    @PreDestroy
+    public void close() throws Exception {
+        scheduler.shutdownNow();
+        bulkhead.close();
+    }
+
+
+    /**
+     * Timeouts, connection errors and errors of the server, the failures the
+     * circuit breaker counts and the retries repeat.
+     */
+    private static boolean isUnavailable(Throwable e) {
+        for (Throwable t = e; !Objects.isNull(t); t = t.getCause()) {
+            if (t instanceof JsonProcessingException) {
+                return false;
+            }
+            if (t instanceof TimeoutException || t instanceof IOException
+                    || t instanceof HttpServerErrorException
+                    || t instanceof SDKVaultServiceNotAvailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException
+                || cause instanceof CompletionException)
+                && !Objects.isNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+
+    private static SDKVaultServiceNotAvailableException notAvailable(
+            Throwable e) {
+        return new SDKVaultServiceNotAvailableException(
+                ParametersUser.MSG_VAULT_NOT_AVAILABLE + e);
+    }
+
+}
@@ -0,0 +1,271 @@
+package co.com.foodbank.user.service;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.stream.Stream;
+import javax.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.address.dto.AddressDTO;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.contribution.state.ContributionData;
+import co.com.foodbank.country.dto.CountryDTO;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.mapper.UserMapper;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.VaultDTO;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.sdk.model.ResponseVaultData;
+import co.com.foodbank.vault.v1.model.Vault;
+import co.com.foodbank.vehicule.dto.Vehicule;
+import co.com.foodbank.vehicule.dto.VehiculeDTO;
+import co.com.foodbank.vehicule.dto.VolumeDTO;
+
+/**
+ * Builds the entities from the request dtos, shared by the blocking and the
+ * reactive services so both store the same documents.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.service 17/10/2026
+ */
+@Component
+public class UserAssembler {
+
+    @Autowired
+    private UserMapper userMapper;
+
+
+    /**
+     * Method to prepare the object Volunter.
+     * 
+     * @param dto
+     * @param dni
+     * @return {@code Volunter}
+     */
+    public Volunter setVolunter(@Valid VolunterDTO dto) {
+
+        Vehicule vehicule = setVehicule(dto);
+        Address address = setAddress(dto.getAddress());
+
+        Volunter volunter = userMapper.toVolunter(dto);
+        volunter.setVehicule(vehicule);
+        volunter.setAddress(address);
+        volunter.setState(true);
+        return volunter;
+    }
+
+    /**
+     * Build Volunter
+     * 
+     * @param dto
+     * @param query
+     * @return {@code Volunter}
+     */
+    public Volunter buildVolunter(VolunterDTO dto, Volunter query) {
+        Address address = setAddress(dto.getAddress());
+        Vehicule vehicule = setVehicule(dto);
+
+        Volunter volunter = query;
+        volunter.setAddress(address);
+        volunter.setEmail(dto.getEmail());
+        volunter.setName(dto.getName());
+        volunter.setPassword(dto.getPassword());
+        volunter.setPhones(dto.getPhones());
+        volunter.setDni(Long.valueOf(dto.getDni()));
+        volunter.setVehicule(vehicule);
+
+        return volunter;
+    }
+
+
+    public Address setAddress(AddressDTO dtoAddress) {
+        Address dataDaddress = new Address();
+
+        if (!checkIsNullAddress(dtoAddress)) {
+            if (!checkIsNullAttAddress(dtoAddress)) {
+                dataDaddress = userMapper.toAddress(dtoAddress);
+                if (!checkIsNullCountry(dtoAddress.getCountry())) {
+                    dataDaddress.setCountry(
+                            userMapper.toCountry(dtoAddress.getCountry()));
+                }
+            }
+        }
+        return dataDaddress;
+    }
+
+
+
+    private boolean checkIsNullCountry(CountryDTO country) {
+        return Objects.isNull(country);
+    }
+
+    private boolean checkIsNullAddress(AddressDTO dto) {
+        return Objects.isNull(dto);
+    }
+
+    private boolean checkIsNullAttAddress(AddressDTO dto) {
+        return Stream.of(dto).allMatch(Objects::isNull);
+    }
+
+
+    /**
+     * Method to evaluate aVehicule for Volunter.
+     * 
+     * @param dto
+     * @return {@code Vehicule}
+     */
+    public Vehicule setVehicule(VolunterDTO dto) {
+        Vehicule dataVehicule = new Vehicule();
+        if (!checkIsNullVehicule(dto.getVehicule())) {
+            if (!checkIsNullAttrbInVehicule(dto.getVehicule())) {
+                dataVehicule = userMapper.toVehicule(dto.getVehicule());
+                if (!checkIsNullVolume(dto.getVehicule().getVolume())) {
+                    dataVehicule.setVolume(userMapper
+                            .toVolume(dto.getVehicule().getVolume()));
+                }
+            }
+        }
+        return dataVehicule;
+    }
+
+    private boolean checkIsNullVolume(VolumeDTO volume) {
+        return Objects.isNull(volume);
+    }
+
+    private boolean checkIsNullVehicule(VehiculeDTO dto) {
+        return Objects.isNull(dto);
+    }
+
+    private boolean checkIsNullAttrbInVehicule(VehiculeDTO dto) {
+        return Stream.of(dto).allMatch(Objects::isNull);
+    }
+
+    /**
+     * Method to build a Provider.
+     * 
+     * @param dto
+     * @param cuit
+     * @param legalRpp
+     * @return {@code Provider}
+     */
+    public Provider setProvider(ProviderDTO providerDto) {
+
+        Provider provider = new Provider();
+        provider = initProvider(providerDto, provider);
+        provider.setState(true);
+        provider.setSucursal(new ArrayList<IVault>());
+        return provider;
+    }
+
+
+    public Provider initProvider(ProviderDTO providerDto, Provider provider) {
+        Address address = setAddress(providerDto.getAddress());
+        provider.setAddress(address);
+        provider.setCuil(Long.valueOf(providerDto.getCuil()));
+        provider.setEmail(providerDto.getEmail());
+        provider.setLegalRepresentation(providerDto.getLegalRepresentation());
+        provider.setName(providerDto.getName());
+        provider.setPassword(providerDto.getPassword());
+        provider.setPhones(providerDto.getPhones());
+        return provider;
+    }
+
+    /**
+     * Set all values in Beneficiary.
+     * 
+     * @param dto
+     * @param sreason
+     * @param category
+     * @param size
+     * @return {@code Beneficiary}
+     */
+    public Beneficiary setBeneficiary(BeneficiaryDTO dto) {
+
+        Beneficiary beneficiary = userMapper.toBeneficiary(dto);
+        Address address = setAddress(dto.getAddress());
+        beneficiary.setAddress(address);
+        beneficiary.setState(true);
+
+        return beneficiary;
+    }
+
+    /**
+     * @param dto
+     * @param query
+     * @return {@code Beneficiary}
+     */
+    public Beneficiary buildBeneficiary(BeneficiaryDTO dto,
+            Beneficiary query) {
+        Beneficiary beneficiary = query;
+        Address address = setAddress(dto.getAddress());
+        beneficiary.setAddress(address);
+        beneficiary.setCategory(dto.getCategory());
+        beneficiary.setEmail(dto.getEmail());
+        beneficiary.setName(dto.getName());
+        beneficiary.setPassword(dto.getPassword());
+        beneficiary.setPhones(dto.getPhones());
+        beneficiary.setSize(Integer.valueOf(dto.getSize()));
+        beneficiary.setSocialReason(dto.getSocialReason());
+        return beneficiary;
+    }
+
+    /**
+     * Method to identify the Contribution type, a contribution with a volume
+     * is general, else it is a detail. Only the contribution of its type is
+     * mapped.
+     * 
+     * @param data
+     * @param idVault
+     * @return {@code IContribution}
+     */
+    public IContribution checkTypeOfContribution(ContributionData data,
+            String idContribution) {
+
+        if (Objects.isNull(data.getVolume())) {
+            DetailContributionData detail =
+                    userMapper.toDetailContribution(data);
+            detail.setId(idContribution);
+            return detail;
+        }
+
+        GeneralContributionData general =
+                userMapper.toGeneralContribution(data);
+        general.setId(idContribution);
+        return general;
+    }
+
+
+    /**
+     * Method to build the vault created by the vault sdk.
+     * 
+     * @param data
+     * @return {@code Vault}
+     */
+    public Vault toVault(ResponseVaultData data) {
+        return userMapper.toVault(data);
+    }
+
+
+    /**
+     * Method to update the contact, phones and address of a vault of a
+     * provider, in place, the provider is saved with it. The vaults of the
+     * providers are read as {@code Vault}.
+     * 
+     * @param vault
+     * @param dto
+     * @return {@code Vault}
+     */
+    public Vault updateVault(IVault vault, VaultDTO dto) {
+        Vault updated = (Vault) vault;
+        userMapper.updateVault(dto, updated);
+        updated.setAddress(setAddress(dto.getAddress()));
+        return updated;
+    }
+
+}
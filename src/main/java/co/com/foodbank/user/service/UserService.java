@@ -1,29 +1,37 @@
 package co.com.foodbank.user.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import org.bson.types.ObjectId;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.webjars.NotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import co.com.foodbank.address.dto.Address;
-import co.com.foodbank.address.dto.AddressDTO;
 import co.com.foodbank.contribution.dto.interfaces.IContribution;
-import co.com.foodbank.contribution.dto.response.DetailContributionData;
-import co.com.foodbank.contribution.dto.response.GeneralContributionData;
 import co.com.foodbank.contribution.state.ContributionData;
 import co.com.foodbank.contribution.state.Pending;
-import co.com.foodbank.country.dto.Country;
-import co.com.foodbank.country.dto.CountryDTO;
+import co.com.foodbank.user.config.CacheConfig;
 import co.com.foodbank.user.dto.BeneficiaryDTO;
 import co.com.foodbank.user.dto.ProviderDTO;
 import co.com.foodbank.user.dto.VolunterDTO;
@@ -37,26 +45,32 @@ import co.com.foodbank.user.dto.request.RequestVolunterData;
 import co.com.foodbank.user.exception.UserErrorException;
 import co.com.foodbank.user.exception.UserNotFoundException;
 import co.com.foodbank.user.repository.BeneficiaryRepository;
+import co.com.foodbank.user.repository.ContributionStore;
 import co.com.foodbank.user.repository.ProviderRepository;
 import co.com.foodbank.user.repository.UserRepository;
 import co.com.foodbank.user.repository.VolunterRepository;
 import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.BulkItemData;
+import co.com.foodbank.user.v1.dto.ContributionPageData;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseBulkData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.dto.VersionData;
 import co.com.foodbank.user.v1.model.Beneficiary;
 import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.ProviderAggregate;
 import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.VaultContribution;
 import co.com.foodbank.user.v1.model.Volunter;
 import co.com.foodbank.vault.dto.VaultDTO;
 import co.com.foodbank.vault.dto.interfaces.IVault;
-import co.com.foodbank.vault.exception.VaultNotFoundException;
 import co.com.foodbank.vault.sdk.exception.SDKVaultServiceException;
 import co.com.foodbank.vault.sdk.exception.SDKVaultServiceIllegalArgumentException;
 import co.com.foodbank.vault.sdk.model.ResponseVaultData;
-import co.com.foodbank.vault.sdk.service.SDKVaultService;
 import co.com.foodbank.vault.v1.model.Vault;
-import co.com.foodbank.vehicule.dto.Vehicule;
-import co.com.foodbank.vehicule.dto.VehiculeDTO;
-import co.com.foodbank.vehicule.dto.Volume;
-import co.com.foodbank.vehicule.dto.VolumeDTO;
 
 /**
  * @author mauricio.londono@gmail.com co.com.foodbank.user.service 14/05/2021
@@ -77,27 +91,52 @@ public class UserService {
     @Autowired
     private ProviderRepository providerRepository;
 
+    @Autowired
+    private ContributionStore contributionStore;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private Validator validator;
+
     @Autowired
     private ModelMapper modelMapper;
 
     @Autowired
-    @Qualifier("sdkVaultService")
-    private SDKVaultService sdkVaultService;
+    private UserAssembler assembler;
 
-    private static final String MESSAGE_ERR = " id Contribution not found.";
+    @Autowired
+    private ResilientVaultService vaultService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
 
 
     /**
-     * Method to list all users.
-     * 
-     * @return {@code Collection<IUser> }
+     * Method to walk all users, each user is handed to the consumer as soon
+     * as it is read from the database cursor.
+     *
+     * @param fields
+     * @param consumer
      */
-    public Collection<IUser> findAll() throws UserNotFoundException {
+    public void streamAll(SparseFields fields, Consumer<IUser> consumer) {
+        userRepository.streamAll(fields, consumer::accept);
+    }
 
-        return userRepository.findAll().stream()
-                .map(d -> modelMapper.map(d, IUser.class))
-                .collect(Collectors.toList());
 
+    /**
+     * Method to list a page of users.
+     *
+     * @param after id of the last user of the previous page.
+     * @param limit
+     * @param fields
+     * @return {@code List<IUser> }
+     */
+    public List<IUser> findAll(String after, int limit, SparseFields fields) {
+
+        return Collections.unmodifiableList(
+                userRepository.findPage(after, limit, fields));
     }
 
 
@@ -111,32 +150,154 @@ public class UserService {
      * @throws org.springframework.data.crossstore.ChangeSetPersister.NotFoundException
      * @throws NumberFormatException
      */
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_CUIT,
+            key = "T(java.lang.Long).valueOf(#cuit)", sync = true)
     public IUser findByCuit(String cuit) throws UserNotFoundException {
 
         User data = userRepository.finByCuit(Long.valueOf(cuit));
         if (Objects.isNull(data)) {
             throw new UserNotFoundException(cuit);
         }
-        return modelMapper.map(data, IUser.class);
+        return assemble(data);
+    }
+
+
+    /**
+     * Method to find an user by cuit reading only the fields asked, the
+     * partial user is not cached.
+     *
+     * @param cuit
+     * @param fields
+     * @return {@code IUser}
+     */
+    public IUser findByCuit(String cuit, SparseFields fields)
+            throws UserNotFoundException {
+
+        User data = userRepository.findByCuil(Long.valueOf(cuit), fields);
+        if (Objects.isNull(data)) {
+            throw new UserNotFoundException(cuit);
+        }
+        return assemble(data);
+    }
+
+    /**
+     * Method to find many users by id, dni and cuit with one query by key
+     * type. The users already in the caches are not read again, the ones read
+     * from the database are not put in the caches. The providers read are
+     * assembled with one read for all of them, like findById.
+     *
+     * @param request
+     * @return {@code ResponseLookupData}
+     */
+    public ResponseLookupData lookup(RequestLookupData request) {
+
+        Map<String, IUser> ids = lookup(CacheConfig.USERS_BY_ID,
+                request.getIds(), d -> d, userRepository::findAllById,
+                User::getId);
+
+        Map<String, IUser> dnis = lookup(CacheConfig.USERS_BY_DNI,
+                request.getDnis(), Long::valueOf, userRepository::findByDnis,
+                d -> ((Volunter) d).getDni());
+
+        Map<String, IUser> cuils = lookup(CacheConfig.USERS_BY_CUIT,
+                request.getCuils(), Long::valueOf, userRepository::findByCuits,
+                d -> ((Provider) d).getCuil());
+
+        return new ResponseLookupData(ids, dnis, cuils);
+    }
+
+
+    /**
+     * Method to resolve the keys of one type, first in the cache and then the
+     * misses with a single query.
+     *
+     * @param cacheName
+     * @param input the keys as received.
+     * @param toKey the key of the cache and of the query.
+     * @param query
+     * @param keyOf the key of a user found.
+     * @return {@code Map<String, IUser>} null for the keys not found.
+     */
+    private <K> Map<String, IUser> lookup(String cacheName, List<String> input,
+            Function<String, K> toKey,
+            Function<Collection<K>, Iterable<User>> query,
+            Function<User, K> keyOf) {
+
+        Map<String, K> keys = new LinkedHashMap<>();
+        if (!Objects.isNull(input)) {
+            input.forEach(d -> keys.putIfAbsent(d, toKey.apply(d)));
+        }
+
+        Map<K, User> found = new HashMap<>();
+        Set<K> missing = new HashSet<>();
+        Cache cache = cacheManager.getCache(cacheName);
+
+        for (K key : keys.values()) {
+            ValueWrapper cached =
+                    Objects.isNull(cache) ? null : cache.get(key);
+            if (!Objects.isNull(cached) && !Objects.isNull(cached.get())) {
+                found.put(key, (User) cached.get());
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<Provider> providers = new ArrayList<>();
+            query.apply(missing).forEach(d -> {
+                found.put(keyOf.apply(d), d);
+                if (d instanceof Provider) {
+                    providers.add((Provider) d);
+                }
+            });
+            contributionStore.assembleAll(providers);
+        }
+
+        Map<String, IUser> result = new LinkedHashMap<>();
+        keys.forEach((d, key) -> result.put(d, found.get(key)));
+        return result;
     }
 
+
     /**
      * Method to find Users by email.
      * 
      * @param email
+     * @param fields
      * @return {@code Collection<IUser>}
      * @throws org.springframework.data.crossstore.ChangeSetPersister.NotFoundException
      */
-    public Collection<IUser> findByEmail(String email)
+    public Collection<IUser> findByEmail(String email, SparseFields fields)
             throws UserNotFoundException {
 
-        Collection<User> data = userRepository.findByEmail(email);
+        Collection<User> data = userRepository
+                .findByEmailLower(User.normalizeEmail(email), fields);
 
         if (data.isEmpty()) {
             throw new UserNotFoundException(email);
         }
-        return data.stream().map(d -> modelMapper.map(d, IUser.class))
-                .collect(Collectors.toList());
+        return Collections.unmodifiableCollection(data);
+    }
+
+
+    /**
+     * Method to find Users whose email starts with a prefix.
+     * 
+     * @param prefix
+     * @param limit
+     * @param fields
+     * @return {@code Collection<IUser>}
+     */
+    public Collection<IUser> findByEmailPrefix(String prefix, int limit,
+            SparseFields fields) throws UserNotFoundException {
+
+        Collection<User> data =
+                userRepository.findByEmailPrefix(prefix, limit, fields);
+
+        if (data.isEmpty()) {
+            throw new UserNotFoundException(prefix);
+        }
+        return Collections.unmodifiableCollection(data);
     }
 
     /**
@@ -146,6 +307,8 @@ public class UserService {
      * @return {@code IUser}
      * @throws UserNotFoundException
      */
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_DNI,
+            key = "T(java.lang.Long).valueOf(#dni)", sync = true)
     public IUser findByDni(String dni) throws UserNotFoundException {
 
         User data = userRepository.finByDni(Long.valueOf(dni));
@@ -153,7 +316,27 @@ public class UserService {
         if (Objects.isNull(data)) {
             throw new UserNotFoundException(dni);
         }
-        return modelMapper.map(data, IUser.class);
+        return data;
+    }
+
+
+    /**
+     * Method to find an user by dni reading only the fields asked, the
+     * partial user is not cached.
+     *
+     * @param dni
+     * @param fields
+     * @return {@code IUser}
+     */
+    public IUser findByDni(String dni, SparseFields fields)
+            throws UserNotFoundException {
+
+        User data = userRepository.findByDni(Long.valueOf(dni), fields);
+
+        if (Objects.isNull(data)) {
+            throw new UserNotFoundException(dni);
+        }
+        return data;
     }
 
 
@@ -175,197 +358,122 @@ public class UserService {
      */
     public Volunter createVolunter(@Valid VolunterDTO dto)
             throws UserNotFoundException {
-        return volunterRepository.save(this.setVolunter(dto));
+        return volunterRepository.save(assembler.setVolunter(dto));
     }
 
 
-    /**
-     * Method to prepare the object Volunter.
-     * 
-     * @param dto
-     * @param dni
-     * @return {@code Volunter}
-     */
-    private Volunter setVolunter(@Valid VolunterDTO dto) {
-
-        Vehicule vehicule = setVehicule(dto);
-        Address address = setAddress(dto.getAddress());
-
-        Volunter volunter = modelMapper.map(dto, Volunter.class);
-        volunter.setVehicule(vehicule);
-        volunter.setAddress(address);
-        volunter.setState(true);
-        return volunter;
-    }
+    /****************************************************************************************************************/
 
     /**
-     * Build Volunter
+     * Method to create a Provider.
      * 
      * @param dto
-     * @param query
-     * @return {@code Volunter}
+     * @return {@code Provider}
      */
-    private Volunter buildVolunter(VolunterDTO dto, Volunter query) {
-        Address address = setAddress(dto.getAddress());
-        Vehicule vehicule = setVehicule(dto);
-
-        Volunter volunter = query;
-        volunter.setAddress(address);
-        volunter.setEmail(dto.getEmail());
-        volunter.setName(dto.getName());
-        volunter.setPassword(dto.getPassword());
-        volunter.setPhones(dto.getPhones());
-        volunter.setDni(Long.valueOf(dto.getDni()));
-        volunter.setVehicule(vehicule);
-
-        return volunter;
-    }
-
-
-    private Address setAddress(AddressDTO dtoAddress) {
-        Address dataDaddress = new Address();
-
-        if (!checkIsNullAddress(dtoAddress)) {
-            if (!checkIsNullAttAddress(dtoAddress)) {
-                dataDaddress = modelMapper.map(dtoAddress, Address.class);
-                if (!checkIsNullCountry(dtoAddress.getCountry())) {
-                    dataDaddress.setCountry(modelMapper
-                            .map(dtoAddress.getCountry(), Country.class));
-                }
-            }
-        }
-        return dataDaddress;
+    public Provider createProvider(ProviderDTO dto)
+            throws JsonMappingException, JsonProcessingException,
+            SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
+        return providerRepository.save(assembler.setProvider(dto));
     }
 
 
-
-    private boolean checkIsNullCountry(CountryDTO country) {
-        return Objects.isNull(country);
-    }
-
-    private boolean checkIsNullAddress(AddressDTO dto) {
-        return Objects.isNull(dto);
-    }
-
-    private boolean checkIsNullAttAddress(AddressDTO dto) {
-        return Stream.of(dto).allMatch(Objects::isNull);
-    }
+    /****************************************************************************************************************/
 
 
     /**
-     * Method to evaluate aVehicule for Volunter.
+     * Method to create a Beneficiary.
      * 
      * @param dto
-     * @return {@code Vehicule}
-     */
-    private Vehicule setVehicule(VolunterDTO dto) {
-        Vehicule dataVehicule = new Vehicule();
-        if (!checkIsNullVehicule(dto.getVehicule())) {
-            if (!checkIsNullAttrbInVehicule(dto.getVehicule())) {
-                dataVehicule =
-                        modelMapper.map(dto.getVehicule(), Vehicule.class);
-                if (!checkIsNullVolume(dto.getVehicule().getVolume())) {
-                    dataVehicule.setVolume(modelMapper
-                            .map(dto.getVehicule().getVolume(), Volume.class));
-                }
-            }
-        }
-        return dataVehicule;
-    }
-
-    private boolean checkIsNullVolume(VolumeDTO volume) {
-        return Objects.isNull(volume);
-    }
-
-    private boolean checkIsNullVehicule(VehiculeDTO dto) {
-        return Objects.isNull(dto);
-    }
-
-    private boolean checkIsNullAttrbInVehicule(VehiculeDTO dto) {
-        return Stream.of(dto).allMatch(Objects::isNull);
+     * @return {@code IBeneficiary}
+     */
+    public Beneficiary createBeneficiary(BeneficiaryDTO dto)
+            throws UserNotFoundException {
+        return beneficiaryRepository.save(assembler.setBeneficiary(dto));
     }
 
 
-    /****************************************************************************************************************/
-
     /**
-     * Method to create a Provider.
+     * Method to create many Volunters in one bulk write.
      * 
-     * @param dto
-     * @return {@code Provider}
+     * @param dtos
+     * @return {@code ResponseBulkData}
      */
-    public Provider createProvider(ProviderDTO dto)
-            throws JsonMappingException, JsonProcessingException,
-            SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
-        return providerRepository.save(this.setProvider(dto));
+    public ResponseBulkData createVolunters(List<VolunterDTO> dtos) {
+        return createAll(dtos, assembler::setVolunter);
     }
 
 
     /**
-     * Method to build a Provider.
+     * Method to create many Beneficiaries in one bulk write.
      * 
-     * @param dto
-     * @param cuit
-     * @param legalRpp
-     * @return {@code Provider}
+     * @param dtos
+     * @return {@code ResponseBulkData}
      */
-    private Provider setProvider(ProviderDTO providerDto)
-            throws JsonMappingException, JsonProcessingException,
-            SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
-
-        Provider provider = new Provider();
-        provider = initProvider(providerDto, provider);
-        provider.setState(true);
-        provider.setSucursal(new ArrayList<IVault>());
-        return provider;
-    }
-
-
-    private Provider initProvider(ProviderDTO providerDto, Provider provider) {
-        Address address = setAddress(providerDto.getAddress());
-        provider.setAddress(address);
-        provider.setCuil(Long.valueOf(providerDto.getCuil()));
-        provider.setEmail(providerDto.getEmail());
-        provider.setLegalRepresentation(providerDto.getLegalRepresentation());
-        provider.setName(providerDto.getName());
-        provider.setPassword(providerDto.getPassword());
-        provider.setPhones(providerDto.getPhones());
-        return provider;
+    public ResponseBulkData createBeneficiaries(List<BeneficiaryDTO> dtos) {
+        return createAll(dtos, assembler::setBeneficiary);
     }
 
 
-    /****************************************************************************************************************/
-
-
     /**
-     * Method to create a Beneficiary.
+     * Method to create many Providers in one bulk write.
      * 
-     * @param dto
-     * @return {@code IBeneficiary}
+     * @param dtos
+     * @return {@code ResponseBulkData}
      */
-    public Beneficiary createBeneficiary(BeneficiaryDTO dto)
-            throws UserNotFoundException {
-        return beneficiaryRepository.save(setBeneficiary(dto));
+    public ResponseBulkData createProviders(List<ProviderDTO> dtos) {
+        return createAll(dtos, assembler::setProvider);
     }
 
 
     /**
-     * Set all values in Beneficiary.
+     * Method to validate and build each element, and insert the valid ones
+     * with an unordered bulk write. An invalid element or one rejected by the
+     * database, like a duplicated dni or cuil, only fails its own item.
      * 
-     * @param dto
-     * @param sreason
-     * @param category
-     * @param size
-     * @return {@code Beneficiary}
+     * @param dtos
+     * @param builder
+     * @return {@code ResponseBulkData}
      */
-    private Beneficiary setBeneficiary(BeneficiaryDTO dto) {
+    private <T> ResponseBulkData createAll(List<T> dtos,
+            Function<T, User> builder) {
+
+        BulkItemData[] items = new BulkItemData[dtos.size()];
+        List<User> users = new ArrayList<>(dtos.size());
+        List<Integer> positions = new ArrayList<>(dtos.size());
+
+        for (int i = 0; i < dtos.size(); i++) {
+            T dto = dtos.get(i);
+            String invalid = Objects.isNull(dto) ? "null"
+                    : validator.validate(dto).stream()
+                            .map(d -> d.getPropertyPath() + " "
+                                    + d.getMessage())
+                            .sorted().collect(Collectors.joining(", "));
+            if (!invalid.isEmpty()) {
+                items[i] = BulkItemData.rejected(i, invalid);
+                continue;
+            }
+            try {
+                User user = builder.apply(dto);
+                /** THE BULK INSERT DOES NOT SET THE GENERATED ID NOR VERSION */
+                user.setId(new ObjectId().toHexString());
+                user.setVersion(0L);
+                users.add(user);
+                positions.add(i);
+            } catch (RuntimeException e) {
+                items[i] = BulkItemData.rejected(i, e.getMessage());
+            }
+        }
 
-        Beneficiary beneficiary = modelMapper.map(dto, Beneficiary.class);
-        Address address = setAddress(dto.getAddress());
-        beneficiary.setAddress(address);
-        beneficiary.setState(true);
+        Map<Integer, String> errors = userRepository.insertAll(users);
 
-        return beneficiary;
+        for (int j = 0; j < users.size(); j++) {
+            int i = positions.get(j);
+            String error = errors.get(j);
+            items[i] = Objects.isNull(error)
+                    ? BulkItemData.created(i, users.get(j).getId())
+                    : BulkItemData.rejected(i, error);
+        }
+        return new ResponseBulkData(Arrays.asList(items));
     }
 
 
@@ -383,14 +491,18 @@ public class UserService {
             throws NotFoundException, UserNotFoundException,
             UserErrorException {
 
-        User dataDB = findById(_id);
-        if (!checkInstansOfBeneficiary(dataDB)) {
-            String err = _id + ParametersUser.MSG_ERROR
-                    + ParametersUser.MSG_BENEFICIARY;
-            throw new UserErrorException(err);
-        }
-        return beneficiaryRepository
-                .save(buildBeneficiary(dto, (Beneficiary) dataDB));
+        Beneficiary result = optimisticRetry.run("updateBeneficiary", () -> {
+            User dataDB = load(_id);
+            if (!checkInstansOfBeneficiary(dataDB)) {
+                String err = _id + ParametersUser.MSG_ERROR
+                        + ParametersUser.MSG_BENEFICIARY;
+                throw new UserErrorException(err);
+            }
+            return beneficiaryRepository.save(
+                    assembler.buildBeneficiary(dto, (Beneficiary) dataDB));
+        });
+        evict(result);
+        return result;
 
     }
 
@@ -400,27 +512,6 @@ public class UserService {
     }
 
 
-    /**
-     * @param dto
-     * @param query
-     * @return {@code Beneficiary}
-     */
-    private Beneficiary buildBeneficiary(BeneficiaryDTO dto,
-            Beneficiary query) {
-        Beneficiary beneficiary = query;
-        Address address = setAddress(dto.getAddress());
-        beneficiary.setAddress(address);
-        beneficiary.setCategory(dto.getCategory());
-        beneficiary.setEmail(dto.getEmail());
-        beneficiary.setName(dto.getName());
-        beneficiary.setPassword(dto.getPassword());
-        beneficiary.setPhones(dto.getPhones());
-        beneficiary.setSize(Integer.valueOf(dto.getSize()));
-        beneficiary.setSocialReason(dto.getSocialReason());
-        return beneficiary;
-    }
-
-
     /*******************************************************************************************************************/
     /**
      * Method to update provider adding vault
@@ -440,14 +531,21 @@ public class UserService {
             JsonProcessingException, SDKVaultServiceException,
             SDKVaultServiceIllegalArgumentException {
 
-        User dataDB = findById(_id);
-        if (!checkInstansOfProvider(dataDB)) {
-            String err = _id + ParametersUser.MSG_ERROR
-                    + ParametersUser.MSG_PROVIDER;
-            throw new UserErrorException(err);
-        }
+        Provider result = optimisticRetry.run("updateprovider", () -> {
+            User dataDB = load(_id);
+            if (!checkInstansOfProvider(dataDB)) {
+                String err = _id + ParametersUser.MSG_ERROR
+                        + ParametersUser.MSG_PROVIDER;
+                throw new UserErrorException(err);
+            }
 
-        return providerRepository.save(buildProvider(dto, (Provider) dataDB));
+            /** THE CUIL CAN CHANGE, EVICT THE OLD ONE BEFORE */
+            evict(dataDB);
+            return providerRepository
+                    .save(buildProvider(dto, (Provider) dataDB));
+        });
+        evict(result);
+        return contributionStore.assemble(result);
 
     }
 
@@ -463,17 +561,11 @@ public class UserService {
      * @param data
      * @param query
      * @return {@code Provider}
-     * @throws JsonMappingException
-     * @throws JsonProcessingException
-     * @throws SDKVaultServiceException
-     * @throws SDKVaultServiceIllegalArgumentException
      */
-    private Provider buildProvider(ProviderDTO dto, Provider query)
-            throws JsonMappingException, JsonProcessingException,
-            SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
+    private Provider buildProvider(ProviderDTO dto, Provider query) {
 
         Provider provider = query;
-        provider = initProvider(dto, provider);
+        provider = assembler.initProvider(dto, provider);
         // provider.getSucursal().addAll(createVault(dto));
         return provider;
 
@@ -495,13 +587,20 @@ public class UserService {
     public IVolunter updateVolunter(VolunterDTO dto, String _id)
             throws NotFoundException, UserErrorException {
 
-        User dataDB = findById(_id);
-        if (!checkInstansOfVolunter(dataDB)) {
-            String err = _id + ParametersUser.MSG_ERROR
-                    + ParametersUser.MSG_VOLUNTER;
-            throw new UserErrorException(err);
-        }
-        return volunterRepository.save(buildVolunter(dto, (Volunter) dataDB));
+        Volunter result = optimisticRetry.run("updateVolunter", () -> {
+            User dataDB = load(_id);
+            if (!checkInstansOfVolunter(dataDB)) {
+                String err = _id + ParametersUser.MSG_ERROR
+                        + ParametersUser.MSG_VOLUNTER;
+                throw new UserErrorException(err);
+            }
+            /** THE DNI CAN CHANGE, EVICT THE OLD ONE BEFORE */
+            evict(dataDB);
+            return volunterRepository
+                    .save(assembler.buildVolunter(dto, (Volunter) dataDB));
+        });
+        evict(result);
+        return result;
     }
 
 
@@ -512,17 +611,77 @@ public class UserService {
 
 
     /**
-     * Find User by Id.
+     * Find User by Id, a provider with the contributions of its vaults. The
+     * updates of this service read the user with load, not through the
+     * cache, so they always work over a fresh copy of the document.
      * 
      * @param _id
      * @return {@code IUser}
      */
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, sync = true)
     public User findById(String _id) throws UserNotFoundException {
+        return assemble(load(_id));
+    }
+
+
+    /**
+     * Method to read the user document without assembling the
+     * contributions, this is the one that can be saved again.
+     */
+    private User load(String _id) throws UserNotFoundException {
         return userRepository.findById(_id)
                 .orElseThrow(() -> new UserNotFoundException(_id));
     }
 
 
+    /**
+     * Method to add the contributions of the store in the vaults of a
+     * provider, the other users are returned as they are.
+     */
+    private <T extends User> T assemble(T user) {
+        if (user instanceof Provider) {
+            contributionStore.assemble((Provider) user);
+        }
+        return user;
+    }
+
+
+    /**
+     * Method to find an user by id reading only the fields asked, the
+     * partial user is not cached.
+     * 
+     * @param _id
+     * @param fields
+     * @return {@code IUser}
+     */
+    public IUser findById(String _id, SparseFields fields)
+            throws UserNotFoundException {
+
+        User data = userRepository.findById(_id, fields);
+        if (Objects.isNull(data)) {
+            throw new UserNotFoundException(_id);
+        }
+        return assemble(data);
+    }
+
+
+    /**
+     * Method to read the version of an user, without reading the user.
+     * 
+     * @param _id
+     * @return {@code VersionData}
+     */
+    public VersionData findVersionById(String _id)
+            throws UserNotFoundException {
+
+        VersionData result = userRepository.findVersionById(_id);
+        if (Objects.isNull(result)) {
+            throw new UserNotFoundException(_id);
+        }
+        return result;
+    }
+
+
     /**
      * Method to add vault in provider.
      * 
@@ -540,7 +699,7 @@ public class UserService {
             SDKVaultServiceException, SDKVaultServiceIllegalArgumentException,
             UserErrorException {
 
-        User responseP = this.findById(idProvider);
+        User responseP = load(idProvider);
 
         if (!checkInstansOfProvider(responseP)) {
             String err = idProvider + ParametersUser.MSG_ERROR
@@ -548,12 +707,17 @@ public class UserService {
             throw new UserErrorException(err);
         }
 
-        ResponseVaultData responseV = sdkVaultService.create(vaultDto);
-
-        Provider data = modelMapper.map(responseP, Provider.class);
-        data.getSucursal().add(modelMapper.map(responseV, Vault.class));
+        ResponseVaultData responseV = vaultService.create(vaultDto);
+        Vault vault = assembler.toVault(responseV);
 
-        return modelMapper.map(providerRepository.save(data), IProvider.class);
+        /** THE VAULT IS CREATED ONCE, ON A CONFLICT IT IS ADDED AGAIN */
+        Provider result = optimisticRetry.run("addVaultInProvider", () -> {
+            Provider data = (Provider) load(idProvider);
+            data.getSucursal().add(vault);
+            return providerRepository.save(data);
+        });
+        evict(result);
+        return contributionStore.assemble(result);
     }
 
 
@@ -562,9 +726,92 @@ public class UserService {
      * Method to find provider by sucursal.
      * 
      * @param id
+     * @param fields
      * @return {@code IProvider}
      */
-    public IProvider findBySucursal(String id) throws UserNotFoundException {
+    public IProvider findBySucursal(String id, SparseFields fields)
+            throws UserNotFoundException {
+
+        if (fields.isAll()) {
+            return contributionStore.assemble(loadBySucursal(id));
+        }
+
+        Provider result = providerRepository.findBySucursal(id, fields);
+        if (Objects.isNull(result)) {
+            throw new UserNotFoundException(id);
+        }
+        return contributionStore.assemble(result);
+    }
+
+
+    /**
+     * Method to read the version of the provider that owns a vault, without
+     * reading the provider.
+     * 
+     * @param id
+     * @return {@code VersionData}
+     */
+    public VersionData findVersionBySucursal(String id)
+            throws UserNotFoundException {
+
+        VersionData result = providerRepository.findVersionBySucursal(id);
+        if (Objects.isNull(result)) {
+            throw new UserNotFoundException(id);
+        }
+        return result;
+    }
+
+
+    /**
+     * Method to find the provider that owns a vault, only its id, name and
+     * cuil and the header fields of the vault.
+     * 
+     * @param id
+     * @return {@code ProviderSummaryData}
+     */
+    public ProviderSummaryData findSummaryBySucursal(String id)
+            throws UserNotFoundException {
+
+        ProviderSummaryData result =
+                providerRepository.findSummaryBySucursal(id);
+
+        if (Objects.isNull(result)) {
+            throw new UserNotFoundException(id);
+        }
+        return result;
+    }
+
+
+    /**
+     * Method to read a page of the contributions of a vault, an empty page is
+     * not found when no provider has the vault.
+     *
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code ContributionPageData}
+     */
+    public ContributionPageData findContributions(String idVault,
+            String cursor, int limit, ContributionType type)
+            throws UserNotFoundException {
+
+        List<VaultContribution> page =
+                contributionStore.page(idVault, cursor, limit, type);
+
+        if (page.isEmpty() && Objects
+                .isNull(providerRepository.findSummaryBySucursal(idVault))) {
+            throw new UserNotFoundException(idVault);
+        }
+        return ContributionPageData.of(page, limit);
+    }
+
+
+    /**
+     * Method to read the provider document without assembling the
+     * contributions, this is the one that can be saved again.
+     */
+    private Provider loadBySucursal(String id) throws UserNotFoundException {
 
         Provider result = providerRepository.findBySucursal(id);
 
@@ -572,7 +819,7 @@ public class UserService {
             throw new UserNotFoundException(id);
         }
 
-        return modelMapper.map(result, IProvider.class);
+        return result;
     }
 
 
@@ -595,20 +842,46 @@ public class UserService {
 
         String err = error(_id);
 
-        IProvider result = findBySucursal(_id);
+        Provider saved = optimisticRetry.run("updateVaultProvider", () -> {
+            Provider result = loadBySucursal(_id);
 
-        IVault vault = findVaultInProvider(_id, err, result);
+            IVault vault = findVaultInProvider(_id, err,
+                    ProviderAggregate.of(result));
 
-        Vault updated = modelMapper.map(vault, Vault.class);
-        updated.setAddress(modelMapper.map(dto.getAddress(), Address.class));
-        updated.setContact(dto.getContact());
-        updated.setPhones(dto.getPhones());
+            assembler.updateVault(vault, dto);
 
-        return providerRepository.save((Provider) result);
+            return providerRepository.save(result);
+        });
+        evict(saved);
+        return contributionStore.assemble(saved);
 
     }
 
 
+    /**
+     * Method to remove a user from the caches, by id and by its dni or cuit.
+     *
+     * @param user
+     */
+    private void evict(User user) {
+        evict(CacheConfig.USERS_BY_ID, user.getId());
+        if (user instanceof Volunter) {
+            evict(CacheConfig.USERS_BY_DNI, ((Volunter) user).getDni());
+        }
+        if (user instanceof Provider) {
+            evict(CacheConfig.USERS_BY_CUIT, ((Provider) user).getCuil());
+        }
+    }
+
+
+    private void evict(String name, Object key) {
+        Cache cache = cacheManager.getCache(name);
+        if (!Objects.isNull(cache) && !Objects.isNull(key)) {
+            cache.evict(key);
+        }
+    }
+
+
     private String error(String id) {
         return id + ParametersUser.MSG_NOT_FOUND + ParametersUser.VAULT;
     }
@@ -620,6 +893,11 @@ public class UserService {
      * http://localhost:8081/vault/add-GeneralContribution/vault-id/
      * http://localhost:8081/vault/add-DetailContribution/vault-id/
      * 
+     * The contribution is replaced or added in the vault with one atomic
+     * update in the database, see {@link ContributionStore}. With the
+     * collection storage the provider returned does not have the
+     * contributions, they are read with the pages of the vault.
+     * 
      * @param data
      * @param idVault
      * @return {@code IProvider}
@@ -628,120 +906,26 @@ public class UserService {
             String idContribution) {
 
 
-        String err = error(idVault);
-
-        /** CHECK VAULT IN PROVIDER */
-        IProvider resultProvider = findBySucursal(idVault);
-
-        /** FIND VAULT IN USER */
-        IVault resultVault = findVaultInProvider(idVault, err, resultProvider);
-
-
-        /** CHECK IF CONTRIBUTION EXIST **/
-        if (checkContributionInVault(resultVault, idContribution)) {
-            IContribution found =
-                    getContributionInVault(resultVault, idContribution);
-            resultVault.getContribution().remove(found);
-        }
-
-
         /** SET THE STATE PENDING */
         Pending pending = new Pending();
         pending.pending(data);
 
 
-        /** ADD CONTRIBUTION IN VAULT PROVIDER */
+        /** ADD OR REPLACE CONTRIBUTION IN VAULT PROVIDER */
         IContribution newContrib =
-                checkTypeOfContribution(data, idContribution);
-        resultVault.getContribution().add(newContrib);
-
-
-        return providerRepository.save((Provider) resultProvider);
-    }
-
+                assembler.checkTypeOfContribution(data, idContribution);
 
-    /**
-     * Method to check if exist an contribution in Vault.
-     * 
-     * @param vault
-     * @param idContribution
-     * @return {@code boolean}
-     */
-    private boolean checkContributionInVault(IVault vault,
-            String idContribution) {
+        Provider result = contributionStore.upsert(idVault, newContrib);
 
-        Optional<IContribution> found = vault.getContribution().stream()
-                .filter(d -> d.getId().equals(idContribution)).findFirst();
-        if (found.isEmpty()) {
-            return false;
-        }
-        return true;
-    }
-
-
-    /**
-     * Method to find a Contribution in vaut User.
-     * 
-     * @param vault
-     * @param idContribution
-     * @return {@code IContribution}
-     */
-    private IContribution getContributionInVault(IVault vault,
-            String idContribution) {
-
-        Optional<IContribution> found = vault.getContribution().stream()
-                .filter(d -> d.getId().equals(idContribution)).findFirst();
-
-        if (found.isEmpty()) {
-            new VaultNotFoundException(idContribution + MESSAGE_ERR);
+        if (Objects.isNull(result)) {
+            throw new UserNotFoundException(idVault);
         }
-
-        return found.get();
+        evict(result);
+        return result;
     }
 
 
 
-    /**
-     * Method to identify the Contribution type.
-     * 
-     * @param data
-     * @param idVault
-     * @return {@code IContribution}
-     */
-    private IContribution checkTypeOfContribution(ContributionData data,
-            String idContribution) {
-
-
-
-        /** CONVERTO TO ICONTRIBUTION */
-        GeneralContributionData general =
-                modelMapper.map(data, GeneralContributionData.class);
-        general.setId(idContribution);
-
-
-        DetailContributionData detail =
-                modelMapper.map(data, DetailContributionData.class);
-        detail.setId(idContribution);
-
-        return validate(general, detail);
-    }
-
-
-
-    /**
-     * Check the type of Contribution.
-     * 
-     * @param general
-     * @param detail
-     * @return {@code IContribution }
-     */
-    private IContribution validate(GeneralContributionData general,
-            DetailContributionData detail) {
-
-        return (Objects.isNull(general.getVolume())) ? detail : general;
-    }
-
-
     /**
      * Method to find vault in provider.
      * 
@@ -751,9 +935,8 @@ public class UserService {
      * @return {@code IVault}
      */
     private IVault findVaultInProvider(String idVault, String err,
-            IProvider resultProvider) {
-        return resultProvider.getSucursal().stream()
-                .filter(d -> d.getId().equals(idVault)).findFirst()
+            ProviderAggregate resultProvider) {
+        return resultProvider.findVault(idVault)
                 .orElseThrow(() -> new NotFoundException(err));
     }
 
@@ -762,36 +945,39 @@ public class UserService {
      * Method to find by User.
      * 
      * @param user
+     * @param fields
      * @return {@code IUser}
      */
-    public IUser findByUser(RequestUserData user) throws UserNotFoundException {
+    public IUser findByUser(RequestUserData user, SparseFields fields)
+            throws UserNotFoundException {
 
         User result = userRepository.findByUser(user.getName(), user.getEmail(),
-                user.getPhones());
+                user.getPhones(), fields);
 
         if (Objects.isNull(result)) {
             throw new UserNotFoundException(user.toString());
         }
-        return modelMapper.map(result, IUser.class);
+        return result;
     }
 
     /**
      * Method to find Beneficiary.
      * 
      * @param dto
+     * @param fields
      * @return {@code IBeneficiary}
      */
 
-    public IBeneficiary findBeneficiary(RequestBeneficiaryData dto)
-            throws UserNotFoundException {
+    public IBeneficiary findBeneficiary(RequestBeneficiaryData dto,
+            SparseFields fields) throws UserNotFoundException {
 
-        Beneficiary result = beneficiaryRepository.findBeneficiary(dto.getId(),
-                dto.getSocialReason());
+        Beneficiary result = userRepository.findBeneficiary(dto.getId(),
+                dto.getSocialReason(), fields);
 
         if (Objects.isNull(result)) {
             throw new UserNotFoundException(dto.toString());
         }
-        return modelMapper.map(result, IBeneficiary.class);
+        return result;
     }
 
 
@@ -799,17 +985,19 @@ public class UserService {
      * Method to find Volunteer.
      * 
      * @param dto
+     * @param fields
      * @return {@code IVolunter}
      */
-    public IVolunter findVolunteer(RequestVolunterData data) {
+    public IVolunter findVolunteer(RequestVolunterData data,
+            SparseFields fields) {
 
-        Volunter result = volunterRepository.findVolunteer(data.getId(),
-                Long.valueOf(data.getDni()));
+        Volunter result = userRepository.findVolunteer(data.getId(),
+                Long.valueOf(data.getDni()), fields);
 
         if (Objects.isNull(result)) {
             throw new UserNotFoundException(data.toString());
         }
-        return modelMapper.map(result, IVolunter.class);
+        return result;
     }
 
 
@@ -0,0 +1,52 @@
+package co.com.foodbank.user.util;
+
+import java.util.Objects;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.v1.model.User;
+
+/**
+ * Strong ETags of the users, built from the id and the version of the
+ * document, so they are known with a projection of both fields. A response
+ * with sparse fields is other representation and has other ETag.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.util 17/10/2026
+ */
+public final class ETags {
+
+    private ETags() {}
+
+
+    /**
+     * Method to build the ETag of a document.
+     *
+     * @param id
+     * @param version null for the documents written before the versions.
+     * @param fields
+     * @return {@code String}
+     */
+    public static String of(String id, Long version, SparseFields fields) {
+
+        StringBuilder etag = new StringBuilder("\"").append(id).append('-')
+                .append(Objects.isNull(version) ? 0L : version);
+        if (!fields.isAll()) {
+            etag.append('-')
+                    .append(Integer.toHexString(fields.getPaths().hashCode()));
+        }
+        return etag.append('"').toString();
+    }
+
+
+    /**
+     * Method to build the ETag of an user read.
+     *
+     * @param user
+     * @param fields
+     * @return {@code String}
+     */
+    public static String of(IUser user, SparseFields fields) {
+        Long version =
+                user instanceof User ? ((User) user).getVersion() : null;
+        return of(user.getId(), version, fields);
+    }
+
+}
@@ -17,5 +17,18 @@ public final class ParametersUser {
 
     public static final String VAULT = " Valut";
 
+    public static final String MSG_VAULT_NOT_AVAILABLE =
+            "Vault service not available: ";
+
+    public static final String NEXT_AFTER_HEADER = "X-Next-After";
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int CURSOR_BATCH_SIZE = 500;
+
+    public static final int MAX_LOOKUP_SIZE = 5000;
+
+    public static final int MAX_BULK_SIZE = 10000;
+
     public ParametersUser() {}
 }
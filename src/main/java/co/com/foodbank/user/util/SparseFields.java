@@ -0,0 +1,110 @@
+package co.com.foodbank.user.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fields asked by a client with the parameter {@code fields}, as a comma
+ * separated list of property paths such as {@code name,address.country}.
+ * The same paths are the projection of the query and the filter of the JSON
+ * written, so the fields not asked are neither read nor serialized.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.util 17/10/2026
+ */
+public final class SparseFields {
+
+    public static final String PARAM = "fields";
+
+    private static final String PATH = "[A-Za-z_]\\w*(\\.[A-Za-z_]\\w*)*";
+
+    /** AT MOST 1024 CHARS */
+    public static final String PATTERN =
+            "^(?=.{1,1024}$)" + PATH + "(," + PATH + ")*$";
+
+    public static final SparseFields ALL =
+            new SparseFields(Collections.emptySet());
+
+    private final Set<String> paths;
+
+    private final Set<String> parents;
+
+
+    private SparseFields(Set<String> paths) {
+        this.paths = Collections.unmodifiableSet(paths);
+        this.parents = new LinkedHashSet<>();
+        for (String path : paths) {
+            int i = path.indexOf('.');
+            while (i > 0) {
+                parents.add(path.substring(0, i));
+                i = path.indexOf('.', i + 1);
+            }
+        }
+    }
+
+
+    /**
+     * Method to read the parameter, a path inside other path asked is
+     * dropped since the whole object is written.
+     *
+     * @param value
+     * @return {@code SparseFields} ALL when the value is null or blank.
+     */
+    public static SparseFields parse(String value) {
+
+        if (Objects.isNull(value) || value.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> asked = new LinkedHashSet<>();
+        for (String path : value.split(",")) {
+            if (!path.isBlank()) {
+                asked.add(path.trim());
+            }
+        }
+
+        Set<String> paths = new LinkedHashSet<>();
+        for (String path : asked) {
+            if (!inside(path, asked)) {
+                paths.add(path);
+            }
+        }
+        return paths.isEmpty() ? ALL : new SparseFields(paths);
+    }
+
+
+    /**
+     * Method to know if a property is written, it is when it was asked, when
+     * it holds a path asked or when it is inside an object asked.
+     *
+     * @param path
+     * @return {@code boolean}
+     */
+    public boolean includes(String path) {
+        return isAll() || paths.contains(path) || parents.contains(path)
+                || inside(path, paths);
+    }
+
+
+    public boolean isAll() {
+        return paths.isEmpty();
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+
+    private static boolean inside(String path, Set<String> paths) {
+        int i = path.indexOf('.');
+        while (i > 0) {
+            if (paths.contains(path.substring(0, i))) {
+                return true;
+            }
+            i = path.indexOf('.', i + 1);
+        }
+        return false;
+    }
+
+}
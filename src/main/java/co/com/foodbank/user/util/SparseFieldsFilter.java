@@ -0,0 +1,87 @@
+package co.com.foodbank.user.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * Jackson filter that writes only the {@link SparseFields} asked. The path
+ * of each property is taken from the names of the objects being written, so
+ * the same filter works at any depth and inside the arrays.
+ *
+ * The filter is declared for every bean with the mix in {@link Sparse}, and
+ * the mapper must ignore its id when no filter is given.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.util 17/10/2026
+ */
+public class SparseFieldsFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "sparseFields";
+
+    private final SparseFields fields;
+
+
+    /**
+     * Mix in of {@code Object} that declares the filter.
+     */
+    @JsonFilter(ID)
+    public interface Sparse {
+    }
+
+
+    public SparseFieldsFilter(SparseFields fields) {
+        this.fields = fields;
+    }
+
+
+    /**
+     * Method to build the filters of a writer.
+     *
+     * @param fields
+     * @return {@code FilterProvider}
+     */
+    public static FilterProvider provider(SparseFields fields) {
+        return new SimpleFilterProvider().addFilter(ID,
+                new SparseFieldsFilter(fields));
+    }
+
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen,
+            SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (fields.includes(path(gen.getOutputContext(), writer.getName()))) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+
+    /**
+     * The names of the enclosing objects, the arrays do not add a name.
+     */
+    private static String path(JsonStreamContext context, String name) {
+
+        Deque<String> names = new ArrayDeque<>();
+        for (JsonStreamContext c = context.getParent(); c != null; c =
+                c.getParent()) {
+            if (c.inObject() && c.getCurrentName() != null) {
+                names.push(c.getCurrentName());
+            }
+        }
+        if (names.isEmpty()) {
+            return name;
+        }
+        names.add(name);
+        return String.join(".", names);
+    }
+
+}
@@ -0,0 +1,119 @@
+package co.com.foodbank.user.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import co.com.foodbank.user.dto.BeneficiaryDTO;
+import co.com.foodbank.user.dto.ProviderDTO;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.dto.interfaces.IBeneficiary;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.dto.interfaces.IVolunter;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Tags of the timers of the users, the type of the user a call works with
+ * and the outcome of the call. The tags have few values so the series of
+ * the timers stay bounded.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.util 17/10/2026
+ */
+public final class UserMetrics {
+
+    public static final String TYPE = "type";
+
+    public static final String TYPE_ATTRIBUTE = UserMetrics.class.getName()
+            + ".TYPE";
+
+    public static final String OUTCOME = "outcome";
+
+    public static final String EXCEPTION = "exception";
+
+    public static final String NONE = "none";
+
+    public static final String PROVIDER = "Provider";
+
+    public static final String VOLUNTER = "Volunter";
+
+    public static final String BENEFICIARY = "Beneficiary";
+
+    private static final Map<Class<?>, String> TYPES =
+            new ConcurrentHashMap<>();
+
+    private UserMetrics() {}
+
+
+    /**
+     * Method to find the type of the user of a call, from its result or else
+     * from its arguments.
+     *
+     * @param result
+     * @param arguments the classes given are taken as the type of a result.
+     * @return {@code String}
+     */
+    public static String typeOf(Object result, Object... arguments) {
+
+        String type = valueType(result);
+        for (int i = 0; NONE.equals(type) && i < arguments.length; i++) {
+            type = valueType(arguments[i]);
+        }
+        return type;
+    }
+
+
+    /**
+     * Method to find the type of the user of a class, its models, its
+     * interfaces and its dtos.
+     *
+     * @param type
+     * @return {@code String}
+     */
+    public static String typeOf(Class<?> type) {
+        return TYPES.computeIfAbsent(type, UserMetrics::resolve);
+    }
+
+
+    /**
+     * Method to build the tags of the outcome of a call.
+     *
+     * @param error null when the call succeeded.
+     * @return {@code Tags}
+     */
+    public static Tags outcome(Throwable error) {
+        return Objects.isNull(error)
+                ? Tags.of(OUTCOME, "success", EXCEPTION, NONE)
+                : Tags.of(OUTCOME, "error", EXCEPTION,
+                        error.getClass().getSimpleName());
+    }
+
+
+    private static String valueType(Object value) {
+        if (value instanceof Optional) {
+            return valueType(((Optional<?>) value).orElse(null));
+        }
+        if (Objects.isNull(value)) {
+            return NONE;
+        }
+        return typeOf(value instanceof Class ? (Class<?>) value
+                : value.getClass());
+    }
+
+
+    private static String resolve(Class<?> type) {
+        if (IProvider.class.isAssignableFrom(type)
+                || ProviderDTO.class.isAssignableFrom(type)) {
+            return PROVIDER;
+        }
+        if (IVolunter.class.isAssignableFrom(type)
+                || VolunterDTO.class.isAssignableFrom(type)) {
+            return VOLUNTER;
+        }
+        if (IBeneficiary.class.isAssignableFrom(type)
+                || BeneficiaryDTO.class.isAssignableFrom(type)) {
+            return BENEFICIARY;
+        }
+        return NONE;
+    }
+
+}
@@ -1,11 +1,13 @@
 package co.com.foodbank.user.v1.controller;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.webjars.NotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,6 +26,14 @@ import co.com.foodbank.user.dto.request.RequestVolunterData;
 import co.com.foodbank.user.exception.UserErrorException;
 import co.com.foodbank.user.exception.UserNotFoundException;
 import co.com.foodbank.user.service.UserService;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionPageData;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.ProviderSummaryData;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseBulkData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.dto.VersionData;
 import co.com.foodbank.vault.dto.VaultDTO;
 import co.com.foodbank.vault.sdk.exception.SDKVaultServiceException;
 import co.com.foodbank.vault.sdk.exception.SDKVaultServiceIllegalArgumentException;
@@ -35,62 +45,136 @@ import co.com.foodbank.vault.sdk.exception.SDKVaultServiceIllegalArgumentExcepti
  *         14/05/2021
  */
 @Controller
+@Profile("!reactive")
 public class UserController {
 
 
     @Autowired
     public UserService service;
 
-    @Autowired
-    public ModelMapper modelMapper;
 
 
+    /**
+     * Method to walk all users.
+     * 
+     * @param fields
+     * @param consumer
+     */
+    public void streamAll(SparseFields fields, Consumer<IUser> consumer) {
+        service.streamAll(fields, consumer);
+    }
 
     /**
-     * Method to find all users
+     * Method to find a page of users.
      * 
-     * @return {@code Collection<IUser>}
+     * @param after
+     * @param limit
+     * @param fields
+     * @return {@code List<IUser>}
      */
-    public Collection<IUser> findAll() throws UserNotFoundException {
-        return service.findAll();
+    public List<IUser> findAll(String after, int limit, SparseFields fields) {
+        return service.findAll(after, limit, fields);
     }
 
     /**
      * Method to search User by email.
      * 
      * @param email
+     * @param fields
      * @return {@code Collection<IUser>}
      * @throws NotFoundException
      */
-    public Collection<IUser> findByEmail(String email)
+    public Collection<IUser> findByEmail(String email, SparseFields fields)
             throws UserNotFoundException {
-        return service.findByEmail(email);
+        return service.findByEmail(email, fields);
+    }
+
+    /**
+     * Method to search Users by the beginning of the email.
+     * 
+     * @param prefix
+     * @param limit
+     * @param fields
+     * @return {@code Collection<IUser>}
+     */
+    public Collection<IUser> findByEmailPrefix(String prefix, int limit,
+            SparseFields fields) throws UserNotFoundException {
+        return service.findByEmailPrefix(prefix, limit, fields);
     }
 
     /**
      * Method to find a provider by Cuit.
      * 
      * @param cuit
+     * @param fields
      * @return {@code Collection<IProvider>}
      * @throws NotFoundException
      * @throws NumberFormatException
      */
-    public IUser findByCuit(String cuit)
+    public IUser findByCuit(String cuit, SparseFields fields)
             throws NumberFormatException, UserNotFoundException {
-        return service.findByCuit(cuit);
+        return fields.isAll() ? service.findByCuit(cuit)
+                : service.findByCuit(cuit, fields);
+    }
+
+    /**
+     * Method to create many Volunters.
+     * 
+     * @param dtos
+     * @return {@code ResponseBulkData}
+     */
+    public ResponseBulkData createVolunters(List<VolunterDTO> dtos) {
+        return service.createVolunters(dtos);
+    }
+
+
+    /**
+     * Method to create many Beneficiaries.
+     * 
+     * @param dtos
+     * @return {@code ResponseBulkData}
+     */
+    public ResponseBulkData createBeneficiaries(List<BeneficiaryDTO> dtos) {
+        return service.createBeneficiaries(dtos);
+    }
+
+
+    /**
+     * Method to create many Providers.
+     * 
+     * @param dtos
+     * @return {@code ResponseBulkData}
+     */
+    public ResponseBulkData createProviders(List<ProviderDTO> dtos) {
+        return service.createProviders(dtos);
     }
 
+
+    /**
+     * Method to find many users by id, dni and cuit.
+     * 
+     * @param request
+     * @return {@code ResponseLookupData}
+     */
+    public ResponseLookupData lookup(RequestLookupData request) {
+        return service.lookup(request);
+    }
+
+
     /**
      * Method to search Volunter by dni.
      * 
      * @param dni
+     * @param fields
      * @return {@code Collection<IVolunter>}
      * @throws NotFoundException
      * @throws NumberFormatException
      * 
      */
-    public IUser findByDni(String dni) throws UserNotFoundException {
-        return service.findByDni(dni);
+    public IUser findByDni(String dni, SparseFields fields)
+            throws UserNotFoundException {
+        return fields.isAll() ? service.findByDni(dni)
+                : service.findByDni(dni, fields);
     }
 
 
@@ -109,7 +193,7 @@ public class UserController {
      */
     public IVolunter createVolunter(@Valid VolunterDTO dto)
             throws UserNotFoundException {
-        return modelMapper.map(service.createVolunter(dto), IVolunter.class);
+        return service.createVolunter(dto);
     }
 
     /**
@@ -121,7 +205,7 @@ public class UserController {
     public IProvider createProvider(@Valid ProviderDTO dto)
             throws JsonMappingException, JsonProcessingException,
             SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
-        return modelMapper.map(service.createProvider(dto), IProvider.class);
+        return service.createProvider(dto);
     }
 
 
@@ -135,8 +219,7 @@ public class UserController {
     public IBeneficiary createBeneficiary(@Valid BeneficiaryDTO dto)
             throws UserNotFoundException {
 
-        return modelMapper.map(service.createBeneficiary(dto),
-                IBeneficiary.class);
+        return service.createBeneficiary(dto);
     }
 
 
@@ -154,8 +237,7 @@ public class UserController {
     public IBeneficiary updateBeneficiary(@Valid BeneficiaryDTO dto, String _id)
             throws NotFoundException, UserNotFoundException,
             UserErrorException {
-        return modelMapper.map(service.updateBeneficiary(dto, _id),
-                IBeneficiary.class);
+        return service.updateBeneficiary(dto, _id);
     }
 
 
@@ -177,8 +259,7 @@ public class UserController {
             throws UserNotFoundException, NotFoundException, UserErrorException,
             JsonMappingException, JsonProcessingException,
             SDKVaultServiceException, SDKVaultServiceIllegalArgumentException {
-        return modelMapper.map(service.updateprovider(dto, _id),
-                IProvider.class);
+        return service.updateprovider(dto, _id);
     }
 
     /**
@@ -193,19 +274,45 @@ public class UserController {
     public IVolunter updateVolunter(@Valid VolunterDTO dto, String _id)
             throws UserNotFoundException, NotFoundException,
             UserErrorException {
-        return modelMapper.map(service.updateVolunter(dto, _id),
-                IVolunter.class);
+        return service.updateVolunter(dto, _id);
     }
 
     /**
-     * Find User by Id.
+     * Find User by Id, the whole users are read from the cache.
      * 
      * @param _id
+     * @param fields
      * @return {@code IUser}
      */
-    public IUser findById(@NotBlank @NotNull String _id)
+    public IUser findById(@NotBlank @NotNull String _id, SparseFields fields)
+            throws UserNotFoundException {
+        return fields.isAll() ? service.findById(_id)
+                : service.findById(_id, fields);
+    }
+
+
+
+    /**
+     * Method to read the version of an user.
+     * 
+     * @param _id
+     * @return {@code VersionData}
+     */
+    public VersionData findVersionById(String _id)
+            throws UserNotFoundException {
+        return service.findVersionById(_id);
+    }
+
+
+    /**
+     * Method to read the version of the provider that owns a vault.
+     * 
+     * @param id
+     * @return {@code VersionData}
+     */
+    public VersionData findVersionBySucursal(String id)
             throws UserNotFoundException {
-        return service.findById(_id);
+        return service.findVersionBySucursal(id);
     }
 
 
@@ -235,11 +342,42 @@ public class UserController {
      * Method to find provider by sucursal.
      * 
      * @param id
+     * @param fields
      * @return {@code IProvider}
      */
-    public IProvider findBySucursal(@NotBlank @NotNull String id)
+    public IProvider findBySucursal(@NotBlank @NotNull String id,
+            SparseFields fields) throws UserNotFoundException {
+        return service.findBySucursal(id, fields);
+    }
+
+
+
+    /**
+     * Method to find the provider that owns a vault, without contributions.
+     * 
+     * @param id
+     * @return {@code ProviderSummaryData}
+     */
+    public ProviderSummaryData findSummaryBySucursal(
+            @NotBlank @NotNull String id) throws UserNotFoundException {
+        return service.findSummaryBySucursal(id);
+    }
+
+
+
+    /**
+     * Method to read a page of the contributions of a vault.
+     * 
+     * @param idVault
+     * @param cursor
+     * @param limit
+     * @param type
+     * @return {@code ContributionPageData}
+     */
+    public ContributionPageData findContributions(String idVault,
+            String cursor, int limit, ContributionType type)
             throws UserNotFoundException {
-        return service.findBySucursal(id);
+        return service.findContributions(idVault, cursor, limit, type);
     }
 
 
@@ -275,7 +413,6 @@ public class UserController {
     public IProvider updateContribution(@Valid ContributionData data,
             @NotBlank @NotNull String idVault,
             @NotBlank @NotNull String idContribution) {
-        // TODO Auto-generated method stub
         return service.updateContribution(data, idVault, idContribution);
     }
 
@@ -284,11 +421,12 @@ public class UserController {
      * Method to find by User.
      * 
      * @param user
+     * @param fields
      * @return {@code IUser}
      */
-    public IUser findByUser(@Valid RequestUserData user)
+    public IUser findByUser(@Valid RequestUserData user, SparseFields fields)
             throws UserNotFoundException {
-        return service.findByUser(user);
+        return service.findByUser(user, fields);
     }
 
 
@@ -296,22 +434,24 @@ public class UserController {
      * Method to find Beneficiary.
      * 
      * @param dto
+     * @param fields
      * @return {@code IBeneficiary}
      */
-    public IBeneficiary findBeneficiary(RequestBeneficiaryData data)
-            throws UserNotFoundException {
-        return service.findBeneficiary(data);
+    public IBeneficiary findBeneficiary(RequestBeneficiaryData data,
+            SparseFields fields) throws UserNotFoundException {
+        return service.findBeneficiary(data, fields);
     }
 
     /**
      * Method to find Volunter.
      * 
      * @param dto
+     * @param fields
      * @return {@code IVolunter}
      */
-    public IVolunter findVolunteer(RequestVolunterData data)
-            throws UserNotFoundException {
-        return service.findVolunteer(data);
+    public IVolunter findVolunteer(RequestVolunterData data,
+            SparseFields fields) throws UserNotFoundException {
+        return service.findVolunteer(data, fields);
     }
 
 
@@ -0,0 +1,49 @@
+package co.com.foodbank.user.v1.dto;
+
+/**
+ * Result of one item of a bulk create, the id when it was created or the
+ * error when it was rejected.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class BulkItemData {
+
+    private final int index;
+    private final String id;
+    private final String error;
+
+
+    private BulkItemData(int index, String id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+
+    public static BulkItemData created(int index, String id) {
+        return new BulkItemData(index, id, null);
+    }
+
+
+    public static BulkItemData rejected(int index, String error) {
+        return new BulkItemData(index, null, error);
+    }
+
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+
+}
@@ -0,0 +1,59 @@
+package co.com.foodbank.user.v1.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.user.v1.model.VaultContribution;
+
+/**
+ * Page of the contributions of a vault, with the cursor of the next page or
+ * null when it is the last one.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class ContributionPageData {
+
+    private final List<IContribution> contributions;
+    private final String next;
+
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param contributions
+     * @param next
+     */
+    public ContributionPageData(List<IContribution> contributions,
+            String next) {
+        this.contributions = contributions;
+        this.next = next;
+    }
+
+
+    /**
+     * Method to build the page of the contributions read, a full page has a
+     * next one that starts after its last contribution.
+     *
+     * @param page
+     * @param limit
+     * @return {@code ContributionPageData}
+     */
+    public static ContributionPageData of(List<VaultContribution> page,
+            int limit) {
+        return new ContributionPageData(
+                page.stream().map(VaultContribution::getContribution)
+                        .collect(Collectors.toList()),
+                page.size() == limit ? page.get(page.size() - 1).getId()
+                        : null);
+    }
+
+
+    public List<IContribution> getContributions() {
+        return contributions;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+}
@@ -0,0 +1,30 @@
+package co.com.foodbank.user.v1.dto;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Type of a stored contribution, a general contribution carries its volume
+ * and a detail one does not.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public enum ContributionType {
+
+    GENERAL, DETAIL;
+
+    public static final String PATTERN = "(?i)general|detail";
+
+
+    /**
+     * Method to read the type of a request parameter.
+     *
+     * @param value
+     * @return {@code ContributionType} null when the value is null.
+     */
+    public static ContributionType of(String value) {
+        return Objects.isNull(value) ? null
+                : valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+}
@@ -0,0 +1,34 @@
+package co.com.foodbank.user.v1.dto;
+
+/**
+ * Provider that owns a vault, with only the fields of the provider and of
+ * that vault, none of its contributions nor its other vaults. It is read
+ * with a projection in the database.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class ProviderSummaryData {
+
+    private String id;
+    private String name;
+    private Long cuil;
+    private VaultSummaryData vault;
+
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getCuil() {
+        return cuil;
+    }
+
+    public VaultSummaryData getVault() {
+        return vault;
+    }
+
+}
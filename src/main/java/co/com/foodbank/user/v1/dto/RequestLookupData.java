@@ -0,0 +1,56 @@
+package co.com.foodbank.user.v1.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import co.com.foodbank.user.util.ParametersUser;
+
+/**
+ * Keys of the users to find in one request, any of the lists can be empty.
+ * The keys are checked before they reach the queries, a null or blank key
+ * is a bad request.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class RequestLookupData {
+
+    @Size(max = ParametersUser.MAX_LOOKUP_SIZE)
+    private List<@NotBlank String> ids = new ArrayList<>();
+
+    @Size(max = ParametersUser.MAX_LOOKUP_SIZE)
+    private List<@NotNull @Pattern(regexp = "^[0-9]{1,18}$") String> dnis =
+            new ArrayList<>();
+
+    @Size(max = ParametersUser.MAX_LOOKUP_SIZE)
+    private List<@NotNull @Pattern(regexp = "^[0-9]{1,18}$") String> cuils =
+            new ArrayList<>();
+
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public List<String> getDnis() {
+        return dnis;
+    }
+
+    public List<String> getCuils() {
+        return cuils;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public void setDnis(List<String> dnis) {
+        this.dnis = dnis;
+    }
+
+    public void setCuils(List<String> cuils) {
+        this.cuils = cuils;
+    }
+
+}
@@ -0,0 +1,43 @@
+package co.com.foodbank.user.v1.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk create, one item by element of the request in the same
+ * order.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class ResponseBulkData {
+
+    private final int created;
+    private final int rejected;
+    private final List<BulkItemData> items;
+
+
+    /**
+     * Constructor with the items.
+     *
+     * @param items
+     */
+    public ResponseBulkData(List<BulkItemData> items) {
+        this.items = items;
+        this.created = (int) items.stream().filter(BulkItemData::isCreated)
+                .count();
+        this.rejected = items.size() - created;
+    }
+
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<BulkItemData> getItems() {
+        return items;
+    }
+
+}
@@ -0,0 +1,49 @@
+package co.com.foodbank.user.v1.dto;
+
+import java.util.Map;
+import co.com.foodbank.user.dto.interfaces.IUser;
+
+/**
+ * Users found by each key of the request, a key without user has the value
+ * null. The users are written with the fields of their type, the same json
+ * as the one of findById.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class ResponseLookupData {
+
+    private final Map<String, IUser> ids;
+
+    private final Map<String, IUser> dnis;
+
+    private final Map<String, IUser> cuils;
+
+
+    /**
+     * Constructor with the results by key type.
+     *
+     * @param ids
+     * @param dnis
+     * @param cuils
+     */
+    public ResponseLookupData(Map<String, IUser> ids, Map<String, IUser> dnis,
+            Map<String, IUser> cuils) {
+        this.ids = ids;
+        this.dnis = dnis;
+        this.cuils = cuils;
+    }
+
+
+    public Map<String, IUser> getIds() {
+        return ids;
+    }
+
+    public Map<String, IUser> getDnis() {
+        return dnis;
+    }
+
+    public Map<String, IUser> getCuils() {
+        return cuils;
+    }
+
+}
@@ -0,0 +1,37 @@
+package co.com.foodbank.user.v1.dto;
+
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.address.dto.interfaces.IAddress;
+
+/**
+ * Header fields of a vault, without its contributions. The address is read
+ * as an Address, the addresses of the vaults are stored without
+ * {@code _class}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class VaultSummaryData {
+
+    private String id;
+    private String contact;
+    private String phones;
+    private Address address;
+
+
+    public String getId() {
+        return id;
+    }
+
+    public String getContact() {
+        return contact;
+    }
+
+    public String getPhones() {
+        return phones;
+    }
+
+    public IAddress getAddress() {
+        return address;
+    }
+
+}
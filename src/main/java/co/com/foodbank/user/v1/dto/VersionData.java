@@ -0,0 +1,23 @@
+package co.com.foodbank.user.v1.dto;
+
+/**
+ * Id and version of an user, read with a projection to know if a copy held
+ * by a client is still current without reading the whole document.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.dto 17/10/2026
+ */
+public class VersionData {
+
+    private String id;
+    private Long version;
+
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+}
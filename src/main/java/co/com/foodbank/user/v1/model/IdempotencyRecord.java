@@ -0,0 +1,110 @@
+package co.com.foodbank.user.v1.model;
+
+import java.util.Date;
+import java.util.Objects;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Response of a request sent with an {@code Idempotency-Key}, stored so the
+ * retries of the request get it again without running it. While the first
+ * request runs the record has no status and is locked until
+ * {@code lockedUntil}, the documents expire with a TTL index on
+ * {@code createdAt}.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.model 17/10/2026
+ */
+@Document(collection = "Idempotency")
+public class IdempotencyRecord {
+
+    @Id
+    private String id;
+    private String fingerprint;
+    private Integer status;
+    private String contentType;
+    private byte[] body;
+    private Date createdAt;
+    private Date lockedUntil;
+
+
+    /**
+     * Default constructor.
+     */
+    public IdempotencyRecord() {}
+
+
+    /**
+     * Method to build the record of a request that is running.
+     *
+     * @param key
+     * @param fingerprint
+     * @param lockedUntil
+     * @return {@code IdempotencyRecord}
+     */
+    public static IdempotencyRecord pending(String key, String fingerprint,
+            Date lockedUntil) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.id = key;
+        record.fingerprint = fingerprint;
+        record.createdAt = new Date();
+        record.lockedUntil = lockedUntil;
+        return record;
+    }
+
+
+    /**
+     * Method to build the record of a request that finished.
+     *
+     * @param key
+     * @param fingerprint
+     * @param status
+     * @param contentType
+     * @param body
+     * @return {@code IdempotencyRecord}
+     */
+    public static IdempotencyRecord completed(String key, String fingerprint,
+            int status, String contentType, byte[] body) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.id = key;
+        record.fingerprint = fingerprint;
+        record.status = status;
+        record.contentType = contentType;
+        record.body = body;
+        record.createdAt = new Date();
+        return record;
+    }
+
+
+    public boolean isCompleted() {
+        return !Objects.isNull(status);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public Date getLockedUntil() {
+        return lockedUntil;
+    }
+
+}
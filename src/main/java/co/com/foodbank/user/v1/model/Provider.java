@@ -2,7 +2,6 @@ package co.com.foodbank.user.v1.model;
 
 import java.util.Collection;
 import org.springframework.data.annotation.TypeAlias;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import co.com.foodbank.address.dto.interfaces.IAddress;
 import co.com.foodbank.user.dto.interfaces.IProvider;
@@ -15,7 +14,6 @@ import co.com.foodbank.vault.dto.interfaces.IVault;
 @TypeAlias("Provider")
 public class Provider extends User implements IProvider {
 
-    @Indexed(unique = true)
     public Long cuil;
     public String legalRepresentation;
     public Collection<IVault> sucursal; // podria ser un builder
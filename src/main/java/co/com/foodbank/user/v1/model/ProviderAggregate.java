@@ -0,0 +1,196 @@
+package co.com.foodbank.user.v1.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * Provider loaded with hash indexes by id over its vaults and the
+ * contributions of each vault, for the many puts of an assemble. The indexes
+ * are built by the first put and are not stored, the Provider document keeps
+ * the same shape. The lookups before that scan the lists, a single lookup
+ * costs the same as building the index.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.model 17/10/2026
+ */
+public class ProviderAggregate {
+
+    private final Provider provider;
+
+    private Map<String, IVault> vaults;
+
+    private final Map<String, Contributions> contributions = new HashMap<>();
+
+
+    /**
+     * Constructor with the provider.
+     *
+     * @param provider
+     */
+    public ProviderAggregate(Provider provider) {
+        this.provider = Objects.requireNonNull(provider);
+    }
+
+
+    public static ProviderAggregate of(Provider provider) {
+        return new ProviderAggregate(provider);
+    }
+
+
+    public Provider getProvider() {
+        return provider;
+    }
+
+
+    /**
+     * Method to find a vault of the provider.
+     *
+     * @param idVault
+     * @return {@code Optional<IVault>}
+     */
+    public Optional<IVault> findVault(String idVault) {
+        if (!Objects.isNull(vaults)) {
+            return Optional.ofNullable(vaults.get(idVault));
+        }
+        return sucursal().stream()
+                .filter(d -> Objects.equals(idVault, d.getId())).findFirst();
+    }
+
+
+    /**
+     * Method to find a contribution in a vault of the provider.
+     *
+     * @param idVault
+     * @param idContribution
+     * @return {@code Optional<IContribution>}
+     */
+    public Optional<IContribution> findContribution(String idVault,
+            String idContribution) {
+
+        Contributions index = contributions.get(idVault);
+        if (!Objects.isNull(index)) {
+            return Optional.ofNullable(index.get(idContribution));
+        }
+        return findVault(idVault).map(IVault::getContribution)
+                .flatMap(d -> d.stream()
+                        .filter(c -> Objects.equals(idContribution, c.getId()))
+                        .findFirst());
+    }
+
+
+    /**
+     * Method to add a contribution in a vault, replacing the one with the same
+     * id in its place.
+     *
+     * @param idVault
+     * @param contribution
+     * @return {@code boolean} false when the provider does not have the vault
+     *         or the vault does not have a list and is not a {@link Vault}
+     *         that can take one.
+     */
+    public boolean putContribution(String idVault, IContribution contribution) {
+
+        IVault vault = vaults().get(idVault);
+        if (Objects.isNull(vault)) {
+            return false;
+        }
+
+        Contributions index = contributions.computeIfAbsent(idVault,
+                id -> Contributions.of(vault));
+        if (Objects.isNull(index)) {
+            return false;
+        }
+        index.put(contribution);
+        return true;
+    }
+
+
+    private Collection<IVault> sucursal() {
+        return Objects.isNull(provider.getSucursal()) ? Collections.emptyList()
+                : provider.getSucursal();
+    }
+
+
+    private Map<String, IVault> vaults() {
+        if (Objects.isNull(vaults)) {
+            Collection<IVault> sucursal = sucursal();
+            vaults = new HashMap<>(capacity(sucursal.size()));
+            for (IVault vault : sucursal) {
+                vaults.putIfAbsent(vault.getId(), vault);
+            }
+        }
+        return vaults;
+    }
+
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+
+    /**
+     * The contributions of a vault with the position of each id, a replace
+     * sets the new one in the place of the old one.
+     */
+    private static final class Contributions {
+
+        private final List<IContribution> list;
+
+        private final Map<String, Integer> positions;
+
+
+        private Contributions(List<IContribution> list) {
+            this.list = list;
+            this.positions = new HashMap<>(capacity(list.size()));
+            for (int i = 0; i < list.size(); i++) {
+                positions.putIfAbsent(list.get(i).getId(), i);
+            }
+        }
+
+
+        /**
+         * The list of the vault, a vault without list or with another
+         * collection gets a list when it is a {@link Vault}, else null.
+         */
+        static Contributions of(IVault vault) {
+            Collection<IContribution> current = vault.getContribution();
+            if (current instanceof List) {
+                return new Contributions((List<IContribution>) current);
+            }
+            if (!(vault instanceof Vault)) {
+                return null;
+            }
+            List<IContribution> list = Objects.isNull(current)
+                    ? new ArrayList<>()
+                    : new ArrayList<>(current);
+            ((Vault) vault).setContribution(list);
+            return new Contributions(list);
+        }
+
+
+        IContribution get(String id) {
+            Integer position = positions.get(id);
+            return Objects.isNull(position) ? null : list.get(position);
+        }
+
+
+        void put(IContribution contribution) {
+            Integer position =
+                    positions.putIfAbsent(contribution.getId(), list.size());
+            if (Objects.isNull(position)) {
+                list.add(contribution);
+            } else {
+                list.set(position, contribution);
+            }
+        }
+    }
+
+}
@@ -1,7 +1,11 @@
 package co.com.foodbank.user.v1.model;
 
+import java.util.Locale;
+import java.util.Objects;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import co.com.foodbank.address.dto.interfaces.IAddress;
 import co.com.foodbank.user.dto.interfaces.IUser;
 
@@ -18,11 +22,21 @@ public class User implements IUser {
     private String id;
     private String name;
     private String email;
+    private String emailLower;
     private String password;
     private String phones;
     private boolean state = false;
     private IAddress address;
 
+    /**
+     * the saves are conditional on it, see OptimisticRetry. The updates of
+     * MongoTemplate with the entity class, like the contribution upsert,
+     * increase it too. It is not part of the responses, the endpoints send it
+     * in the ETag.
+     */
+    @Version
+    private Long version;
+
 
 
     /**
@@ -46,6 +60,7 @@ public class User implements IUser {
         super();
         this.name = name;
         this.email = email;
+        this.emailLower = normalizeEmail(email);
         // this.address = address;
         this.password = password;
         this.phones = phones;
@@ -89,6 +104,19 @@ public class User implements IUser {
 
 
 
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
@@ -104,6 +132,7 @@ public class User implements IUser {
 
     public void setEmail(String email) {
         this.email = email;
+        this.emailLower = normalizeEmail(email);
     }
 
     public void setPassword(String password) {
@@ -115,5 +144,18 @@ public class User implements IUser {
     }
 
 
+    /**
+     * Method to normalize an email, the field emailLower keeps this value to
+     * search by email with an index.
+     * 
+     * @param email
+     * @return {@code String}
+     */
+    public static String normalizeEmail(String email) {
+        return Objects.isNull(email) ? null
+                : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+
 
 }
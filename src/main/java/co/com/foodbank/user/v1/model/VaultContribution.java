@@ -0,0 +1,83 @@
+package co.com.foodbank.user.v1.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+
+/**
+ * Contribution of a vault stored in its own collection, used when
+ * {@code user.contribution.storage=collection} so the Provider document does
+ * not grow with every contribution.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.v1.model 17/10/2026
+ */
+@Document(collection = "Contribution")
+public class VaultContribution {
+
+    @Id
+    private String id;
+    private String providerId;
+    private String vaultId;
+    private String contributionId;
+    private IContribution contribution;
+
+
+    /**
+     * Default constructor.
+     */
+    public VaultContribution() {}
+
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param providerId
+     * @param vaultId
+     * @param contribution
+     */
+    public VaultContribution(String providerId, String vaultId,
+            IContribution contribution) {
+        this.providerId = providerId;
+        this.vaultId = vaultId;
+        this.contributionId = contribution.getId();
+        this.contribution = contribution;
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProviderId() {
+        return providerId;
+    }
+
+    public String getVaultId() {
+        return vaultId;
+    }
+
+    public String getContributionId() {
+        return contributionId;
+    }
+
+    public IContribution getContribution() {
+        return contribution;
+    }
+
+    public void setProviderId(String providerId) {
+        this.providerId = providerId;
+    }
+
+    public void setVaultId(String vaultId) {
+        this.vaultId = vaultId;
+    }
+
+    public void setContributionId(String contributionId) {
+        this.contributionId = contributionId;
+    }
+
+    public void setContribution(IContribution contribution) {
+        this.contribution = contribution;
+    }
+
+}
@@ -1,7 +1,6 @@
 package co.com.foodbank.user.v1.model;
 
 import org.springframework.data.annotation.TypeAlias;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import co.com.foodbank.address.dto.interfaces.IAddress;
 import co.com.foodbank.user.dto.interfaces.IVolunter;
@@ -15,7 +14,6 @@ import co.com.foodbank.vehicule.dto.interfaces.IVehicule;
 @TypeAlias("Volunter")
 public class Volunter extends User implements IVolunter {
 
-    @Indexed(unique = true)
     public Long dni;
     public IVehicule vehicule;
 
@@ -0,0 +1,44 @@
+package co.com.foodbank.user.config;
+
+import java.util.concurrent.Executors;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Virtual threads mode, only in the Java 21 build ({@code mvn -Pjava21}) and
+ * with the profile virtual-threads. Every request runs in its own virtual
+ * thread, so the blocking calls of the request, like the mongo queries and
+ * {@code SDKVaultService.create} in addVaultInProvider, release the carrier
+ * thread while they wait.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    /**
+     * Tomcat runs the requests in virtual threads instead of its pool.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        return protocolHandler -> protocolHandler
+                .setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+
+    /**
+     * The async requests, like the streaming of findAll, also run in
+     * virtual threads.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+}
@@ -0,0 +1,94 @@
+package co.com.foodbank.user.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports the virtual threads pinned to their carrier longer than the
+ * threshold, with the JFR event {@code jdk.VirtualThreadPinned}. A thread is
+ * pinned when it blocks inside a synchronized block or a native frame, like a
+ * cache load inside {@code ConcurrentHashMap.compute}.
+ *
+ * Each event is logged with its stack and counted in the metric
+ * {@code user.virtual.pinned}, tagged with the first frame of this service.
+ *
+ * @author mauricio.londono@gmail.com co.com.foodbank.user.config 17/10/2026
+ */
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+
+    private static final String PACKAGE = "co.com.foodbank";
+
+    private static final int FRAMES = 12;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${user.virtual-threads.pinned-threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream stream;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED, this::report);
+        stream.startAsync();
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+
+    private void report(RecordedEvent event) {
+
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames();
+
+        String hotspot = frames.stream().map(this::frame)
+                .filter(d -> d.startsWith(PACKAGE)).findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frame(frames.get(0)));
+
+        meterRegistry.counter("user.virtual.pinned", "frame", hotspot)
+                .increment();
+
+        LOG.warn("virtual thread pinned {} ms at {}\n\t{}",
+                event.getDuration().toMillis(), hotspot,
+                frames.stream().limit(FRAMES).map(this::frame)
+                        .collect(Collectors.joining("\n\t")));
+    }
+
+
+    private String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "."
+                + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+}
@@ -0,0 +1,45 @@
+package co.com.foodbank.user;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * In-process mongo server of the tests that need the database, one for all
+ * the tests of the jvm. Each test context reads and writes a database of its
+ * own. The migrations are off, their updates with a pipeline are not
+ * supported by the server and the tests write the documents they read.
+ */
+public final class MongoTestServer {
+
+	private static final MongoServer SERVER =
+			new MongoServer(new MemoryBackend());
+
+	private static final AtomicInteger DATABASES = new AtomicInteger();
+
+	private static InetSocketAddress address;
+
+	private MongoTestServer() {}
+
+
+	/**
+	 * Method to point the mongo of a test context to the server, from a
+	 * {@code @DynamicPropertySource}.
+	 *
+	 * @param registry
+	 */
+	public static synchronized void register(DynamicPropertyRegistry registry) {
+		if (address == null) {
+			address = SERVER.bind();
+		}
+		String database = "test" + DATABASES.incrementAndGet();
+		registry.add("spring.data.mongodb.host", address::getHostString);
+		registry.add("spring.data.mongodb.port", address::getPort);
+		registry.add("spring.data.mongodb.database", () -> database);
+		registry.add("user.migration.email-lower.enabled", () -> false);
+		registry.add("user.migration.version.enabled", () -> false);
+	}
+
+}
@@ -0,0 +1,167 @@
+package co.com.foodbank.user.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.dto.interfaces.IBeneficiary;
+import co.com.foodbank.user.dto.interfaces.IProvider;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.dto.interfaces.IVolunter;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.util.SparseFieldsFilter;
+import co.com.foodbank.user.v1.model.Beneficiary;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+import co.com.foodbank.vehicule.dto.Vehicule;
+
+/**
+ * The json of the users written with Afterburner is the same, byte by byte,
+ * as the one of the reflective serializers.
+ */
+class JacksonConfigTest {
+
+	private final JacksonConfig config = new JacksonConfig();
+
+	private final ObjectMapper reflective = mapper(false);
+
+	private final ObjectMapper afterburner = mapper(true);
+
+
+	@Test
+	void writesProvider() throws Exception {
+		assertSameJson(IProvider.class, provider(), null);
+	}
+
+
+	@Test
+	void writesVolunter() throws Exception {
+		assertSameJson(IVolunter.class, volunter(), null);
+	}
+
+
+	@Test
+	void writesBeneficiary() throws Exception {
+		assertSameJson(IBeneficiary.class, beneficiary(), null);
+	}
+
+
+	@Test
+	void writesUsersOfTheStream() throws Exception {
+		assertSameJson(IUser.class, provider(), null);
+		assertSameJson(IUser.class, volunter(), null);
+		assertSameJson(IUser.class, beneficiary(), null);
+	}
+
+
+	@Test
+	void writesSparseFields() throws Exception {
+		SparseFields fields =
+				SparseFields.parse("name,address,sucursal.id,sucursal.contribution");
+		assertSameJson(IProvider.class, provider(), fields);
+		assertSameJson(IVolunter.class, volunter(), fields);
+	}
+
+
+	@Test
+	void writesUsersWithoutVersion() throws Exception {
+		String json = afterburner.writerFor(IProvider.class)
+				.writeValueAsString(provider());
+		assertFalse(json.contains("\"version\""), json);
+	}
+
+
+	private void assertSameJson(Class<?> type, Object value, SparseFields fields)
+			throws Exception {
+		byte[] expected = writer(reflective, type, fields).writeValueAsBytes(value);
+		String json = new String(expected, StandardCharsets.UTF_8);
+
+		/** THE FIRST WRITE BUILDS THE SERIALIZERS, THE NEXT ONES USE THEM */
+		for (int i = 0; i < 3; i++) {
+			assertArrayEquals(expected,
+					writer(afterburner, type, fields).writeValueAsBytes(value),
+					json);
+		}
+	}
+
+
+	private ObjectWriter writer(ObjectMapper mapper, Class<?> type,
+			SparseFields fields) {
+		ObjectWriter writer = mapper.writerFor(type);
+		return fields == null ? writer
+				: writer.with(SparseFieldsFilter.provider(fields));
+	}
+
+
+	private ObjectMapper mapper(boolean withAfterburner) {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+		config.sparseFieldsCustomizer().customize(builder);
+		if (withAfterburner) {
+			builder.modulesToInstall(config.afterburnerModule());
+		}
+		return builder.build();
+	}
+
+
+	private Provider provider() {
+		List<IVault> sucursal = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			List<IContribution> contributions = new ArrayList<>();
+			GeneralContributionData general = new GeneralContributionData();
+			general.setId("60a0c0d1e2f3a4b5c6d7e8f" + i);
+			contributions.add(general);
+			DetailContributionData detail = new DetailContributionData();
+			detail.setId("60a0c0d1e2f3a4b5c6d7e9f" + i);
+			contributions.add(detail);
+
+			Vault vault = new Vault();
+			vault.setId("60a0c0d1e2f3a4b5c6d7eaf" + i);
+			vault.setContact("Maria Gomez");
+			vault.setPhones("601-5554433");
+			vault.setAddress(new Address());
+			vault.setContribution(contributions);
+			sucursal.add(vault);
+		}
+		Provider provider = new Provider("Distribuidora del Sur",
+				"contacto@distribuidoradelsur.com", null, "98765",
+				"601-5554433", true, 301234567890L, "Maria Gomez",
+				new ArrayList<>(sucursal));
+		provider.setId("60a0c0d1e2f3a4b5c6d7e8a9");
+		provider.setAddress(new Address());
+		provider.setVersion(4L);
+		return provider;
+	}
+
+
+	private Volunter volunter() {
+		Volunter volunter = new Volunter("Federico Pelaez",
+				"federico.pelaez@gmail.com", null, "6546546", "98798-696", true,
+				75094777L, null);
+		volunter.setId("60a0c0d1e2f3a4b5c6d7e8b9");
+		volunter.setAddress(new Address());
+		volunter.setVehicule(new Vehicule());
+		return volunter;
+	}
+
+
+	private Beneficiary beneficiary() {
+		Beneficiary beneficiary = new Beneficiary("Anya Ryvaloba",
+				"escuela@gmail.com", null, "13213", "987987-99999999", true,
+				"ESCUELA DE PRUEBA", "Escuela", 96);
+		beneficiary.setId("60a0c0d1e2f3a4b5c6d7e8c9");
+		beneficiary.setAddress(new Address());
+		return beneficiary;
+	}
+
+}
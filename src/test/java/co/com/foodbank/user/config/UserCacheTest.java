@@ -0,0 +1,105 @@
+package co.com.foodbank.user.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.user.converter.UserCodec;
+import co.com.foodbank.user.v1.model.Volunter;
+
+class UserCacheTest {
+
+	private static final String ID = "60a0c0d1e2f3a4b5c6d7e8f0";
+
+	private final UserCache cache = new UserCache("users",
+			Caffeine.newBuilder().build(), true, new UserCodec(() -> {
+				MongoMappingContext context = new MongoMappingContext();
+				context.afterPropertiesSet();
+				MappingMongoConverter converter = new MappingMongoConverter(
+						NoOpDbRefResolver.INSTANCE, context);
+				converter.setCustomConversions(
+						new MongoCustomConversions(Collections.emptyList()));
+				converter.afterPropertiesSet();
+				return converter;
+			}));
+
+
+	@Test
+	void everyReadGetsACopy() {
+		Volunter loaded = volunter("Federico Pelaez");
+		assertSame(loaded, cache.get(ID, () -> loaded));
+
+		loaded.setName("changed by the loader");
+		Volunter read = cache.get(ID, () -> volunter("not loaded"));
+		assertEquals("Federico Pelaez", read.getName());
+
+		read.setName("changed by a reader");
+		Volunter other = (Volunter) cache.get(ID).get();
+		assertNotSame(read, other);
+		assertEquals("Federico Pelaez", other.getName());
+		assertEquals(75094777L, other.getDni());
+	}
+
+
+	@Test
+	void readAfterTheEvictionOfAWriteLoadsTheNewUser() {
+		cache.get(ID, () -> volunter("before"));
+
+		/** THE WRITE IS SAVED, THEN ITS USER EVICTED */
+		cache.evict(ID);
+
+		assertNull(cache.get(ID));
+		assertEquals("after",
+				cache.get(ID, () -> volunter("after")).getName());
+		assertEquals("after", ((Volunter) cache.get(ID).get()).getName());
+	}
+
+
+	@Test
+	void loadThatOverlapsAnEvictionIsNotKept() {
+		Volunter stale = volunter("read before the write");
+
+		Volunter read = cache.get(ID, () -> {
+			/** THE WRITE AND ITS EVICTION END WHILE THE OLD USER IS LOADED */
+			Thread writer = new Thread(() -> cache.evict(ID));
+			writer.start();
+			writer.join(500);
+			return stale;
+		});
+
+		assertSame(stale, read);
+		assertNull(cache.get(ID));
+		assertEquals("after",
+				cache.get(ID, () -> volunter("after")).getName());
+		assertEquals("after", ((Volunter) cache.get(ID).get()).getName());
+	}
+
+
+	@Test
+	void loadThatOverlapsAClearIsNotKept() {
+		cache.get(ID, () -> {
+			cache.clear();
+			return volunter("read before the clear");
+		});
+
+		assertNull(cache.get(ID));
+	}
+
+
+	private static Volunter volunter(String name) {
+		Volunter volunter = new Volunter(name, "federico.pelaez@gmail.com",
+				null, "6546546", "98798-696", true, 75094777L, null);
+		volunter.setId(ID);
+		volunter.setAddress(new Address());
+		return volunter;
+	}
+
+}
@@ -0,0 +1,126 @@
+package co.com.foodbank.user.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * The documents of the codec are read by the reflective mapping of the
+ * versions before it, and the codec reads the vaults written without the
+ * {@code _class} of their address.
+ */
+class UserCodecTest {
+
+	private final MappingMongoConverter reflective = reflective();
+
+	private final UserCodec codec = new UserCodec(() -> reflective);
+
+
+	@Test
+	void keepsTheTypesOfTheNestedObjects() {
+		Document document = codec.write(provider());
+		Document vault = (Document) document.getList("sucursal", Object.class)
+				.get(0);
+
+		assertEquals(Address.class.getName(),
+				((Document) document.get("address")).get(UserCodec.CLASS));
+		assertEquals(Vault.class.getName(), vault.get(UserCodec.CLASS));
+		assertEquals(Address.class.getName(),
+				((Document) vault.get("address")).get(UserCodec.CLASS));
+		vault.getList("contribution", Document.class)
+				.forEach(d -> assertTrue(d.containsKey(UserCodec.CLASS)));
+	}
+
+
+	@Test
+	void theReflectiveMappingReadsTheDocuments() {
+		assertProvider(reflective.read(Provider.class,
+				codec.write(provider())));
+	}
+
+
+	@Test
+	void readsTheVaultsWithAndWithoutTheirTypes() {
+		Document document = codec.write(provider());
+		assertProvider(codec.readProvider(document));
+
+		Document vault = (Document) document.getList("sucursal", Object.class)
+				.get(0);
+		vault.remove(UserCodec.CLASS);
+		((Document) vault.get("address")).remove(UserCodec.CLASS);
+		assertProvider(codec.readProvider(document));
+	}
+
+
+	private static void assertProvider(Provider provider) {
+		assertEquals("Distribuidora del Sur", provider.getName());
+		assertEquals(301234567890L, provider.getCuil());
+		assertTrue(provider.getAddress() instanceof Address);
+
+		IVault vault = provider.getSucursal().iterator().next();
+		assertEquals("Maria Gomez", vault.getContact());
+		assertEquals("Bogota", ((Address) vault.getAddress()).getDistrict());
+
+		List<IContribution> contributions =
+				new ArrayList<>(vault.getContribution());
+		assertTrue(contributions.get(0) instanceof GeneralContributionData);
+		assertTrue(contributions.get(1) instanceof DetailContributionData);
+		assertEquals("plain rice",
+				((DetailContributionData) contributions.get(1))
+						.getDescription());
+	}
+
+
+	private static Provider provider() {
+		GeneralContributionData general = new GeneralContributionData();
+		general.setId("60a0c0d1e2f3a4b5c6d7e8f0");
+		DetailContributionData detail = new DetailContributionData();
+		detail.setId("60a0c0d1e2f3a4b5c6d7e8f1");
+		detail.setDescription("plain rice");
+
+		Address address = new Address();
+		address.setDistrict("Bogota");
+
+		Vault vault = new Vault();
+		vault.setId("60a0c0d1e2f3a4b5c6d7eaf0");
+		vault.setContact("Maria Gomez");
+		vault.setAddress(address);
+		vault.setContribution(new ArrayList<>(List.of(general, detail)));
+
+		Provider provider = new Provider("Distribuidora del Sur",
+				"contacto@distribuidoradelsur.com", null, "98765",
+				"601-5554433", true, 301234567890L, "Maria Gomez",
+				new ArrayList<>(List.of(vault)));
+		provider.setId("60a0c0d1e2f3a4b5c6d7ebf0");
+		provider.setAddress(new Address());
+		return provider;
+	}
+
+
+	private static MappingMongoConverter reflective() {
+		MongoMappingContext context = new MongoMappingContext();
+		context.afterPropertiesSet();
+		MappingMongoConverter converter =
+				new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+		converter.setCustomConversions(
+				new MongoCustomConversions(Collections.emptyList()));
+		converter.afterPropertiesSet();
+		return converter;
+	}
+
+}
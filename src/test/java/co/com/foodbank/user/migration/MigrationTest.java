@@ -0,0 +1,172 @@
+package co.com.foodbank.user.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.repository.ProviderRepository;
+import co.com.foodbank.user.repository.UserIndexManager;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * The providers saved before the version existed, without the field or with
+ * the null one an update through the Provider left, get the version 0 before
+ * the other migrations write them and are saved again afterwards.
+ */
+@SpringBootTest(classes = UserApplication.class,
+		properties = "user.contribution.storage=collection")
+class MigrationTest {
+
+	private static final String VERSION = "version";
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private ProviderRepository providerRepository;
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	/**
+	 * The test server does not filter the partial indexes, one provider at a
+	 * time.
+	 */
+	@BeforeEach
+	void deleteProviders() {
+		providerRepository.deleteAll();
+	}
+
+
+	@Test
+	void providerWithoutVersionIsSavedAfterTheMigrations() {
+		Provider provider = legacy(Updates.unset(VERSION));
+
+		migrate();
+
+		assertMigrated(provider);
+	}
+
+
+	@Test
+	void providerWithNullVersionIsSavedAfterTheMigrations() {
+		Provider provider = legacy(Updates.set(VERSION, null));
+
+		migrate();
+
+		assertMigrated(provider);
+	}
+
+
+	private void assertMigrated(Provider provider) {
+		Document document = mongoTemplate
+				.getCollection(UserIndexManager.USER_COLLECTION)
+				.find(Filters.eq("_id", new ObjectId(provider.getId())))
+				.first();
+		assertTrue(document.get(VERSION) instanceof Number,
+				"version " + document.get(VERSION));
+		assertFalse(document.getList("sucursal", Document.class).get(0)
+				.getList("contribution", Object.class).iterator().hasNext());
+		assertEquals(1, mongoTemplate
+				.getCollection(UserIndexManager.CONTRIBUTION_COLLECTION)
+				.countDocuments(Filters.eq("providerId", provider.getId())));
+
+		/** THE SAVE UPDATES THE STORED PROVIDER INSTEAD OF INSERTING IT */
+		Provider stored = providerRepository.findById(provider.getId()).get();
+		long version = stored.getVersion();
+		stored.setPhones("601-5550000");
+		assertEquals(version + 1, providerRepository.save(stored).getVersion());
+		assertEquals("601-5550000", providerRepository
+				.findById(provider.getId()).get().getPhones());
+	}
+
+
+	/**
+	 * Runs the migrations in their order. The update with a pipeline of the
+	 * emailLower is not supported by the test server, it only takes its
+	 * place in the order.
+	 */
+	private void migrate() {
+		List<Migration> migrations = new ArrayList<>(List
+				.of(migration(new ContributionMigration()),
+						migration(new EmailLowerMigration()),
+						migration(new VersionMigration())));
+		AnnotationAwareOrderComparator.sort(migrations);
+		assertTrue(migrations.get(0) instanceof VersionMigration);
+
+		migrations.stream().filter(d -> !(d instanceof EmailLowerMigration))
+				.forEach(d -> {
+					d.migrate();
+					/** NO VERSION IS LEFT FOR THE NEXT UPDATES TO ADD TO */
+					if (d instanceof VersionMigration) {
+						assertEquals(0, mongoTemplate
+								.getCollection(UserIndexManager.USER_COLLECTION)
+								.countDocuments(Filters.eq(VERSION, null)));
+					}
+				});
+	}
+
+
+	private <T> T migration(T migration) {
+		ReflectionTestUtils.setField(migration, "mongoTemplate", mongoTemplate);
+		if (migration instanceof ContributionMigration) {
+			ReflectionTestUtils.setField(migration, "batchSize", 500);
+		}
+		return migration;
+	}
+
+
+	/**
+	 * A provider with one contribution, stored as the documents before the
+	 * version with the update given.
+	 */
+	private Provider legacy(Bson version) {
+		DetailContributionData detail = new DetailContributionData();
+		detail.setId(new ObjectId().toHexString());
+		detail.setDescription("Mercado del mes");
+
+		Vault vault = new Vault();
+		vault.setId(new ObjectId().toHexString());
+		vault.setContact("Maria Gomez");
+		vault.setAddress(new Address());
+		vault.setContribution(new ArrayList<>(List.of(detail)));
+
+		List<IVault> sucursal = new ArrayList<>();
+		sucursal.add(vault);
+		Provider provider = providerRepository.save(new Provider(
+				"Distribuidora del Sur", "contacto@distribuidoradelsur.com",
+				null, "98765", "601-5554433", true, 301234567890L,
+				"Maria Gomez", sucursal));
+
+		mongoTemplate.getCollection(UserIndexManager.USER_COLLECTION)
+				.updateOne(Filters.eq("_id", new ObjectId(provider.getId())),
+						version);
+		return provider;
+	}
+
+}
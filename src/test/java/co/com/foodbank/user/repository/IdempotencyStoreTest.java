@@ -0,0 +1,179 @@
+package co.com.foodbank.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.exception.IdempotencyKeyException;
+import co.com.foodbank.user.v1.model.IdempotencyRecord;
+
+/**
+ * The keys of the requests, each store is an instance of the application
+ * over the same collection.
+ */
+@SpringBootTest(classes = UserApplication.class)
+class IdempotencyStoreTest {
+
+	private static final String FINGERPRINT = "POST /user/createVolunter a";
+
+	private static final byte[] BODY =
+			"{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private final List<IdempotencyStore> stores = new ArrayList<>();
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final String key = UUID.randomUUID().toString();
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	@AfterEach
+	void close() {
+		stores.forEach(IdempotencyStore::close);
+		executor.shutdownNow();
+	}
+
+
+	@Test
+	void replaysTheStoredResponse() {
+		IdempotencyStore first = store(Duration.ofSeconds(30));
+		assertNull(first.acquire(key, FINGERPRINT));
+		first.complete(key, FINGERPRINT, 201, "application/json", BODY);
+
+		assertReplayed(first.acquire(key, FINGERPRINT));
+		assertReplayed(store(Duration.ofSeconds(30)).acquire(key, FINGERPRINT));
+	}
+
+
+	@Test
+	void rejectsTheKeyOfOtherRequest() {
+		IdempotencyStore first = store(Duration.ofSeconds(30));
+		IdempotencyStore other = store(Duration.ofSeconds(30));
+		assertNull(first.acquire(key, FINGERPRINT));
+
+		assertStatus(HttpStatus.UNPROCESSABLE_ENTITY,
+				() -> other.acquire(key, FINGERPRINT + "b"));
+
+		first.complete(key, FINGERPRINT, 201, "application/json", BODY);
+		assertStatus(HttpStatus.UNPROCESSABLE_ENTITY,
+				() -> first.acquire(key, FINGERPRINT + "b"));
+	}
+
+
+	@Test
+	void duplicatesWaitForTheFirstRequest() throws Exception {
+		IdempotencyStore first = store(Duration.ofSeconds(30));
+		IdempotencyStore other = store(Duration.ofSeconds(30));
+		assertNull(first.acquire(key, FINGERPRINT));
+
+		Future<IdempotencyRecord> same =
+				executor.submit(() -> first.acquire(key, FINGERPRINT));
+		Future<IdempotencyRecord> polling =
+				executor.submit(() -> other.acquire(key, FINGERPRINT));
+		Thread.sleep(300);
+		assertFalse(same.isDone());
+		assertFalse(polling.isDone());
+
+		first.complete(key, FINGERPRINT, 201, "application/json", BODY);
+		assertReplayed(same.get(5, TimeUnit.SECONDS));
+		assertReplayed(polling.get(5, TimeUnit.SECONDS));
+	}
+
+
+	@Test
+	void releasedKeyRunsAgain() throws Exception {
+		IdempotencyStore first = store(Duration.ofSeconds(30));
+		assertNull(first.acquire(key, FINGERPRINT));
+
+		/** THE DUPLICATE TAKES THE KEY OF THE FAILED REQUEST */
+		Future<IdempotencyRecord> retry =
+				executor.submit(() -> first.acquire(key, FINGERPRINT));
+		Thread.sleep(100);
+		first.release(key);
+		assertNull(retry.get(5, TimeUnit.SECONDS));
+
+		first.release(key);
+		assertNull(store(Duration.ofSeconds(30)).acquire(key, FINGERPRINT));
+	}
+
+
+	@Test
+	void runningRequestKeepsItsKeyAfterTheLease() throws Exception {
+		IdempotencyStore first = store(Duration.ofMillis(300));
+		assertNull(first.acquire(key, FINGERPRINT));
+
+		Thread.sleep(1000);
+		assertStatus(HttpStatus.CONFLICT, () -> store(Duration.ofMillis(300),
+				Duration.ofMillis(200)).acquire(key, FINGERPRINT));
+	}
+
+
+	@Test
+	void keyOfAStoppedInstanceIsTakenAfterTheLease() throws Exception {
+		IdempotencyStore stopped = store(Duration.ofMillis(300));
+		assertNull(stopped.acquire(key, FINGERPRINT));
+		stopped.close();
+
+		IdempotencyStore other = store(Duration.ofMillis(300));
+		Thread.sleep(600);
+		assertNull(other.acquire(key, FINGERPRINT));
+
+		other.complete(key, FINGERPRINT, 201, "application/json", BODY);
+		assertReplayed(other.acquire(key, FINGERPRINT));
+	}
+
+
+	private IdempotencyStore store(Duration lease) {
+		return store(lease, Duration.ofSeconds(5));
+	}
+
+
+	private IdempotencyStore store(Duration lease, Duration wait) {
+		IdempotencyStore store = new IdempotencyStore(mongoTemplate,
+				Duration.ofHours(1), wait, lease, 100);
+		stores.add(store);
+		return store;
+	}
+
+
+	private static void assertReplayed(IdempotencyRecord record) {
+		assertEquals(201, record.getStatus());
+		assertEquals(FINGERPRINT, record.getFingerprint());
+		assertArrayEquals(BODY, record.getBody());
+	}
+
+
+	private static void assertStatus(HttpStatus status, Runnable acquire) {
+		assertEquals(status, assertThrows(IdempotencyKeyException.class,
+				acquire::run).getStatus());
+	}
+
+}
@@ -0,0 +1,119 @@
+package co.com.foodbank.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.User;
+import co.com.foodbank.user.v1.model.Volunter;
+
+/**
+ * The queries by example over the documents of the in-memory store, only
+ * the users of the type of the probe are matched.
+ */
+@SpringBootTest(classes = UserApplication.class)
+@ActiveProfiles("in-memory")
+class InMemoryRepositoryTest {
+
+	@Autowired
+	private VolunterRepository volunterRepository;
+
+	@Autowired
+	private ProviderRepository providerRepository;
+
+
+	@BeforeEach
+	void saveUsers() {
+		volunterRepository.deleteAll();
+		providerRepository.deleteAll();
+
+		volunterRepository.save(volunter("Federico Pelaez", 75094001L));
+		volunterRepository.save(volunter("Maria Gomez", 75094002L));
+		volunterRepository.save(volunter("Federico Arango", 75094003L));
+		providerRepository.save(new Provider("Federico Pelaez",
+				"contacto@distribuidoradelsur.com", new Address(), "98765",
+				"601-5554433", true, 301234567890L, "Maria Gomez",
+				new ArrayList<>()));
+	}
+
+
+	@Test
+	void probeMatchesItsFieldsInUsersOfItsType() {
+		Volunter probe = new Volunter();
+		probe.setName("Federico Pelaez");
+		probe.setState(true);
+
+		List<Volunter> found = volunterRepository.findAll(Example.of(probe));
+
+		assertEquals(List.of(75094001L), dnis(found));
+		assertEquals(1, volunterRepository.count(Example.of(probe)));
+		assertTrue(volunterRepository.exists(Example.of(probe)));
+		assertEquals(75094001L, volunterRepository
+				.findOne(Example.of(probe)).get().getDni());
+	}
+
+
+	@Test
+	void matcherOfThePathIsUsed() {
+		Volunter probe = new Volunter();
+		probe.setName("FEDERICO");
+
+		ExampleMatcher matcher = ExampleMatcher.matching()
+				.withIgnorePaths("state").withMatcher("name",
+						ExampleMatcher.GenericPropertyMatchers.startsWith()
+								.ignoreCase());
+
+		assertEquals(List.of(75094001L, 75094003L),
+				dnis(volunterRepository.findAll(Example.of(probe, matcher),
+						Sort.by("dni"))));
+		assertEquals(List.of(75094003L),
+				dnis(volunterRepository.findAll(Example.of(probe, matcher),
+						PageRequest.of(1, 1, Sort.by("dni"))).getContent()));
+	}
+
+
+	@Test
+	void anyMatchingNeedsOneField() {
+		Volunter probe = new Volunter();
+		probe.setName("Maria Gomez");
+		probe.setDni(75094003L);
+
+		ExampleMatcher matcher =
+				ExampleMatcher.matchingAny().withIgnorePaths("state");
+
+		assertEquals(List.of(75094002L, 75094003L), dnis(volunterRepository
+				.findAll(Example.of(probe, matcher), Sort.by("dni"))));
+		assertFalse(volunterRepository.exists(Example.of(probe,
+				ExampleMatcher.matching().withIgnorePaths("state"))));
+	}
+
+
+	private static List<Long> dnis(List<? extends User> users) {
+		return users.stream().map(d -> ((Volunter) d).getDni())
+				.collect(Collectors.toList());
+	}
+
+
+	private static Volunter volunter(String name, Long dni) {
+		Volunter volunter = new Volunter(name,
+				name.toLowerCase().replace(' ', '.') + "@gmail.com", null,
+				"6546546", "98798-696", true, dni, null);
+		volunter.setAddress(new Address());
+		return volunter;
+	}
+
+}
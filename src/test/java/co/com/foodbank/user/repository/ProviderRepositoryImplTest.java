@@ -0,0 +1,191 @@
+package co.com.foodbank.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * The upsert of a contribution writes only the element of its vault, the
+ * concurrent upserts of the same new contribution leave it once.
+ */
+@SpringBootTest(classes = UserApplication.class)
+class ProviderRepositoryImplTest {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	private ProviderRepository providerRepository;
+
+	private final ExecutorService executor =
+			Executors.newFixedThreadPool(THREADS);
+
+	private Provider provider;
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	/**
+	 * The test server does not filter the partial indexes, one provider at a
+	 * time.
+	 */
+	@BeforeEach
+	void saveProvider() {
+		providerRepository.deleteAll();
+
+		List<IVault> sucursal = new ArrayList<>();
+		sucursal.add(vault());
+		sucursal.add(vault());
+		provider = providerRepository.save(new Provider(
+				"Distribuidora del Sur", "contacto@distribuidoradelsur.com",
+				null, "98765", "601-5554433", true, 301234567890L,
+				"Maria Gomez", sucursal));
+	}
+
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+
+	@Test
+	void firstUpsertAddsTheContribution() {
+		Provider upserted = providerRepository
+				.upsertContribution(vault(0), detail(0, "Mercado del mes"));
+
+		assertEquals(provider.getVersion() + 1, upserted.getVersion());
+		assertEquals(List.of(id(0)), ids(upserted, 0));
+		assertTrue(contributions(upserted, 1).isEmpty());
+	}
+
+
+	@Test
+	void upsertReplacesTheContributionInItsPlace() {
+		providerRepository.upsertContribution(vault(0),
+				detail(0, "Mercado del mes"));
+		providerRepository.upsertContribution(vault(0),
+				detail(1, "Arroz y aceite"));
+
+		Provider upserted = providerRepository
+				.upsertContribution(vault(0), detail(0, "Mercado completo"));
+
+		assertEquals(provider.getVersion() + 3, upserted.getVersion());
+		assertEquals(List.of(id(0), id(1)), ids(upserted, 0));
+		assertEquals("Mercado completo",
+				((DetailContributionData) contributions(upserted, 0).get(0))
+						.getDescription());
+		assertTrue(contributions(upserted, 1).isEmpty());
+	}
+
+
+	@Test
+	void unknownVaultIsNotWritten() {
+		assertNull(providerRepository.upsertContribution(
+				new ObjectId().toHexString(), detail(0, "Mercado del mes")));
+		assertEquals(provider.getVersion(), providerRepository
+				.findById(provider.getId()).get().getVersion());
+	}
+
+
+	@Test
+	void concurrentUpsertsOfANewContributionAddItOnce() throws Exception {
+		for (int round = 0; round < 10; round++) {
+			IContribution contribution = detail(round, "Mercado " + round);
+			CountDownLatch start = new CountDownLatch(1);
+
+			List<Future<Provider>> upserts = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				upserts.add(executor.submit(() -> {
+					start.await();
+					return providerRepository.upsertContribution(vault(0),
+							contribution);
+				}));
+			}
+			start.countDown();
+
+			/** THE LOSERS OF THE PUSH REPLACE WHAT THE WINNER ADDED */
+			for (Future<Provider> upsert : upserts) {
+				assertNotNull(upsert.get(10, TimeUnit.SECONDS));
+			}
+			Provider stored =
+					providerRepository.findById(provider.getId()).get();
+			assertEquals(round + 1, ids(stored, 0).size(), "round " + round);
+			assertEquals(id(round), ids(stored, 0).get(round));
+		}
+	}
+
+
+	private String vault(int index) {
+		return new ArrayList<>(provider.getSucursal()).get(index).getId();
+	}
+
+
+	private static Vault vault() {
+		Vault vault = new Vault();
+		vault.setId(new ObjectId().toHexString());
+		vault.setContact("Maria Gomez");
+		vault.setAddress(new Address());
+		return vault;
+	}
+
+
+	private static List<IContribution> contributions(Provider provider,
+			int index) {
+		Collection<IContribution> contributions =
+				new ArrayList<>(provider.getSucursal()).get(index)
+						.getContribution();
+		return contributions == null ? List.of()
+				: new ArrayList<>(contributions);
+	}
+
+
+	private static List<String> ids(Provider provider, int index) {
+		return contributions(provider, index).stream()
+				.map(IContribution::getId).collect(Collectors.toList());
+	}
+
+
+	private static DetailContributionData detail(int index,
+			String description) {
+		DetailContributionData detail = new DetailContributionData();
+		detail.setId(id(index));
+		detail.setDescription(description);
+		return detail;
+	}
+
+
+	private static String id(int index) {
+		return String.format("60a0c0d1e2f3a4b5c6d7%04x", index);
+	}
+
+}
@@ -0,0 +1,130 @@
+package co.com.foodbank.user.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.mongodb.client.MongoClient;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+
+/**
+ * The declared indexes are matched by fields and directions, in a database
+ * of their own so the indexes of the context do not count.
+ */
+@SpringBootTest(classes = UserApplication.class)
+class UserIndexManagerTest {
+
+	@Autowired
+	private MongoClient mongoClient;
+
+	private MongoTemplate mongoTemplate;
+
+	private UserIndexManager manager;
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	@BeforeEach
+	void database() {
+		mongoTemplate = new MongoTemplate(mongoClient,
+				"indexes" + System.nanoTime());
+		manager = new UserIndexManager(Duration.ofHours(24));
+		ReflectionTestUtils.setField(manager, "mongoTemplate", mongoTemplate);
+	}
+
+
+	@Test
+	void createsTheMissingIndexes() {
+		manager.ensureIndexes();
+
+		Map<String, Object> user = user();
+		assertEquals(List.of(), user.get("missing"));
+		assertEquals(List.of(), user.get("different"));
+		assertEquals(Map.of(), user.get("renamed"));
+		assertEquals(List.of(), user.get("undeclared"));
+	}
+
+
+	@Test
+	void sameKeysWithOtherNameAreTheDeclaredIndex() {
+		create(new Index("cuil", Sort.Direction.ASC).named("cuil_unique")
+				.unique().partial(PartialIndexFilter
+						.of(Criteria.where("cuil").exists(true))));
+
+		manager.ensureIndexes();
+
+		Map<String, Object> user = user();
+		assertEquals("READY", declared(user).get("cuil_1"));
+		assertEquals(List.of(), user.get("different"));
+		assertEquals(Map.of("cuil_1", "cuil_unique"), user.get("renamed"));
+		assertEquals(List.of(), user.get("undeclared"));
+	}
+
+
+	@Test
+	void otherDirectionIsOtherIndex() {
+		create(new Index("emailLower", Sort.Direction.DESC)
+				.named("emailLower_-1"));
+
+		manager.ensureIndexes();
+
+		Map<String, Object> user = user();
+		assertEquals("READY", declared(user).get("emailLower_1"));
+		assertEquals(List.of(), user.get("different"));
+		assertEquals(List.of("emailLower_-1"), user.get("undeclared"));
+	}
+
+
+	@Test
+	void otherOptionsAreReportedAndNotCreated() {
+		create(new Index("dni", Sort.Direction.ASC).named("dni_1"));
+		create(new Index("cuil", Sort.Direction.ASC).named("cuil_1").unique()
+				.partial(PartialIndexFilter
+						.of(Criteria.where("cuil").gt(0))));
+
+		manager.ensureIndexes();
+
+		Map<String, Object> user = user();
+		assertEquals("DIFFERENT", declared(user).get("dni_1"));
+		assertEquals("DIFFERENT", declared(user).get("cuil_1"));
+		assertEquals(List.of("cuil_1", "dni_1"), user.get("different"));
+		assertEquals(List.of(), user.get("missing"));
+	}
+
+
+	private void create(Index index) {
+		mongoTemplate.indexOps(UserIndexManager.USER_COLLECTION)
+				.ensureIndex(index);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> user() {
+		return (Map<String, Object>) manager.report()
+				.get(UserIndexManager.USER_COLLECTION);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> declared(Map<String, Object> report) {
+		return (Map<String, String>) report.get("declared");
+	}
+
+}
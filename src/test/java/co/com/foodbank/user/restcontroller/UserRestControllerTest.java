@@ -0,0 +1,122 @@
+package co.com.foodbank.user.restcontroller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.repository.ProviderRepository;
+import co.com.foodbank.user.repository.VolunterRepository;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.user.v1.model.Volunter;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+import co.com.foodbank.vehicule.dto.Vehicule;
+
+/**
+ * The endpoints over the in-memory repositories.
+ */
+@SpringBootTest(classes = UserApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class UserRestControllerTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private VolunterRepository volunterRepository;
+
+	@Autowired
+	private ProviderRepository providerRepository;
+
+
+	@Test
+	void lookupWritesTheUsersLikeFindById() throws Exception {
+		String volunter = volunterRepository.save(volunter()).getId();
+		String provider = providerRepository.save(provider()).getId();
+
+		JsonNode lookup = objectMapper.readTree(mvc
+				.perform(post("/user/lookup")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"ids\":[\"" + volunter + "\",\"" + provider
+								+ "\"]}"))
+				.andExpect(status().isOk()).andReturn().getResponse()
+				.getContentAsString());
+
+		assertEquals(findById(volunter), lookup.get("ids").get(volunter));
+		assertEquals(findById(provider), lookup.get("ids").get(provider));
+	}
+
+
+	@Test
+	void lookupRejectsBlankKeys() throws Exception {
+		lookupStatus("{\"ids\":[\" \"]}", 400);
+		lookupStatus("{\"ids\":[null]}", 400);
+		lookupStatus("{\"dnis\":[null]}", 400);
+		lookupStatus("{\"cuils\":[\"\"]}", 400);
+	}
+
+
+	private JsonNode findById(String id) throws Exception {
+		return objectMapper.readTree(mvc.perform(get("/user/findById/" + id))
+				.andExpect(status().isOk()).andReturn().getResponse()
+				.getContentAsString());
+	}
+
+
+	private void lookupStatus(String body, int status) throws Exception {
+		mvc.perform(post("/user/lookup").contentType(MediaType.APPLICATION_JSON)
+				.content(body)).andExpect(status().is(status));
+	}
+
+
+	private Volunter volunter() {
+		Volunter volunter = new Volunter("Federico Pelaez",
+				"federico.pelaez@gmail.com", null, "6546546", "98798-696", true,
+				75094777L, null);
+		volunter.setAddress(new Address());
+		volunter.setVehicule(new Vehicule());
+		return volunter;
+	}
+
+
+	private Provider provider() {
+		List<IContribution> contributions = new ArrayList<>();
+		GeneralContributionData general = new GeneralContributionData();
+		general.setId("60a0c0d1e2f3a4b5c6d7e8f0");
+		contributions.add(general);
+
+		Vault vault = new Vault();
+		vault.setId("60a0c0d1e2f3a4b5c6d7eaf0");
+		vault.setContact("Maria Gomez");
+		vault.setAddress(new Address());
+		vault.setContribution(contributions);
+
+		List<IVault> sucursal = new ArrayList<>();
+		sucursal.add(vault);
+		Provider provider = new Provider("Distribuidora del Sur",
+				"contacto@distribuidoradelsur.com", null, "98765",
+				"601-5554433", true, 301234567890L, "Maria Gomez", sucursal);
+		provider.setAddress(new Address());
+		return provider;
+	}
+
+}
@@ -0,0 +1,143 @@
+package co.com.foodbank.user.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.StreamUtils;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+
+/**
+ * The writes sent with a key run once for each caller, the request behind
+ * the filter reads the body the filter hashed. The transient errors are run
+ * again.
+ */
+@SpringBootTest(classes = UserApplication.class)
+class IdempotencyFilterTest {
+
+	private static final String BODY = "{\"name\":\"Federico Pelaez\"}";
+
+	@Autowired
+	private IdempotencyFilter filter;
+
+	private final AtomicInteger runs = new AtomicInteger();
+
+	private final String key = UUID.randomUUID().toString();
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	@Test
+	void retryGetsTheStoredResponse() throws Exception {
+		MockHttpServletResponse first = send(BODY, 201);
+		assertEquals(201, first.getStatus());
+		assertNull(first.getHeader(IdempotencyFilter.REPLAYED));
+
+		MockHttpServletResponse retry = send(BODY, 201);
+		assertEquals(201, retry.getStatus());
+		assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED));
+		assertEquals(first.getContentAsString(), retry.getContentAsString());
+		assertEquals(1, runs.get());
+	}
+
+
+	@Test
+	void keySentWithOtherBodyIsRejected() throws Exception {
+		send(BODY, 201);
+
+		MockHttpServletResponse rejected = send("{\"name\":\"other\"}", 201);
+		assertEquals(422, rejected.getStatus());
+		assertFalse(rejected.getContentAsString().contains("POST"),
+				rejected.getContentAsString());
+		assertEquals(1, runs.get());
+	}
+
+
+	@Test
+	void keyOfOtherCallerIsNotShared() throws Exception {
+		send(BODY, 201);
+
+		MockHttpServletResponse other =
+				send("{\"name\":\"other\"}", 201, "10.0.0.7");
+		assertEquals(201, other.getStatus());
+		assertNull(other.getHeader(IdempotencyFilter.REPLAYED));
+		assertEquals(2, runs.get());
+	}
+
+
+	@Test
+	void conflictIsNotStored() throws Exception {
+		assertEquals(409, send(BODY, 409).getStatus());
+
+		MockHttpServletResponse retry = send(BODY, 201);
+		assertEquals(201, retry.getStatus());
+		assertNull(retry.getHeader(IdempotencyFilter.REPLAYED));
+		assertEquals(2, runs.get());
+	}
+
+
+	@Test
+	void deterministicClientErrorIsStored() throws Exception {
+		assertEquals(400, send(BODY, 400).getStatus());
+
+		MockHttpServletResponse retry = send(BODY, 201);
+		assertEquals(400, retry.getStatus());
+		assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED));
+		assertEquals(1, runs.get());
+	}
+
+
+	@Test
+	void serverErrorIsNotStored() throws Exception {
+		assertEquals(503, send(BODY, 503).getStatus());
+
+		MockHttpServletResponse retry = send(BODY, 201);
+		assertEquals(201, retry.getStatus());
+		assertNull(retry.getHeader(IdempotencyFilter.REPLAYED));
+		assertEquals(2, runs.get());
+	}
+
+
+	private MockHttpServletResponse send(String body, int status)
+			throws Exception {
+		return send(body, status, "127.0.0.1");
+	}
+
+
+	private MockHttpServletResponse send(String body, int status,
+			String address) throws Exception {
+		MockHttpServletRequest request =
+				new MockHttpServletRequest("POST", "/user/createVolunter");
+		request.setRemoteAddr(address);
+		request.addHeader(IdempotencyFilter.HEADER, key);
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> {
+			/** THE CONTROLLER READS THE BODY THE FILTER ALREADY READ */
+			assertEquals(body, StreamUtils.copyToString(req.getInputStream(),
+					StandardCharsets.UTF_8));
+			((HttpServletResponse) res).setStatus(status);
+			res.getWriter().write("{\"run\":" + runs.incrementAndGet() + "}");
+		});
+		return response;
+	}
+
+}
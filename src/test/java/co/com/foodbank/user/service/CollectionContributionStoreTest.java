@@ -0,0 +1,15 @@
+package co.com.foodbank.user.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import co.com.foodbank.user.UserApplication;
+
+/**
+ * The contributions of the Contribution collection, the cursor of the pages
+ * is the id of the contribution document. The reads of the provider
+ * assemble them.
+ */
+@SpringBootTest(classes = UserApplication.class,
+		properties = "user.contribution.storage=collection")
+class CollectionContributionStoreTest extends ContributionStoreTest {
+
+}
@@ -0,0 +1,239 @@
+package co.com.foodbank.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.foodbank.address.dto.Address;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.contribution.dto.response.GeneralContributionData;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.dto.interfaces.IUser;
+import co.com.foodbank.user.repository.ContributionStore;
+import co.com.foodbank.user.repository.ProviderRepository;
+import co.com.foodbank.user.util.ParametersUser;
+import co.com.foodbank.user.util.SparseFields;
+import co.com.foodbank.user.v1.dto.ContributionPageData;
+import co.com.foodbank.user.v1.dto.ContributionType;
+import co.com.foodbank.user.v1.dto.RequestLookupData;
+import co.com.foodbank.user.v1.dto.ResponseLookupData;
+import co.com.foodbank.user.v1.model.Provider;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+/**
+ * The contributions of the vaults with each storage, run by the subclasses.
+ * Walking the pages of a vault, following the cursor of each page, reads
+ * every contribution once and in the order of the storage, with and without
+ * a type. The reads of a provider have all its contributions.
+ */
+abstract class ContributionStoreTest {
+
+	private static final String VOLUME =
+			"{\"height\":\"40\",\"width\":\"60\",\"weight\":25}";
+
+	@Autowired
+	private UserService service;
+
+	@Autowired
+	private ContributionStore contributionStore;
+
+	@Autowired
+	private ProviderRepository providerRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	/**
+	 * The test server does not filter the partial indexes, one provider at a
+	 * time.
+	 */
+	@BeforeEach
+	void deleteProviders() {
+		providerRepository.deleteAll();
+	}
+
+
+	@Test
+	void walksEveryPage() throws Exception {
+		String vault = vaultOf(saveProvider());
+		List<String> all = new ArrayList<>();
+		List<String> general = new ArrayList<>();
+		List<String> detail = new ArrayList<>();
+
+		for (int i = 0; i < 11; i++) {
+			IContribution contribution =
+					i % 3 == 0 ? detail(i) : general(i);
+			contributionStore.upsert(vault, contribution);
+			all.add(contribution.getId());
+			(i % 3 == 0 ? detail : general).add(contribution.getId());
+		}
+
+		/** A REPLACE KEEPS THE PLACE OF THE CONTRIBUTION */
+		contributionStore.upsert(vault, general(1));
+
+		/** THE ORDER OF THE STORAGE, READ IN A SINGLE PAGE */
+		List<String> order = walk(vault, ParametersUser.MAX_PAGE_SIZE, null);
+		assertEquals(new HashSet<>(all), new HashSet<>(order));
+		assertEquals(all.size(), order.size());
+
+		for (int limit : new int[] {1, 2, 3, 4, 7, 11, 20}) {
+			assertEquals(order, walk(vault, limit, null), "limit " + limit);
+			assertEquals(only(order, general),
+					walk(vault, limit, ContributionType.GENERAL),
+					"general, limit " + limit);
+			assertEquals(only(order, detail),
+					walk(vault, limit, ContributionType.DETAIL),
+					"detail, limit " + limit);
+		}
+	}
+
+
+	/**
+	 * A large vault with few contributions of one type, the pages of that
+	 * type skip the long runs of the other one.
+	 */
+	@Test
+	void walksTheTypeOfALargeMixedVault() throws Exception {
+		String vault = vaultOf(saveProvider());
+		List<String> general = new ArrayList<>();
+		List<String> detail = new ArrayList<>();
+
+		for (int i = 0; i < 600; i++) {
+			IContribution contribution =
+					i % 40 < 3 ? detail(i) : general(i);
+			contributionStore.upsert(vault, contribution);
+			(i % 40 < 3 ? detail : general).add(contribution.getId());
+		}
+
+		List<String> order = walk(vault, ParametersUser.MAX_PAGE_SIZE, null);
+		assertEquals(600, order.size());
+		assertEquals(only(order, detail),
+				walk(vault, 7, ContributionType.DETAIL));
+		assertEquals(only(order, general),
+				walk(vault, ParametersUser.MAX_PAGE_SIZE,
+						ContributionType.GENERAL));
+	}
+
+
+	private static List<String> only(List<String> order,
+			Collection<String> ids) {
+		return order.stream().filter(ids::contains)
+				.collect(Collectors.toList());
+	}
+
+
+	private List<String> walk(String vault, int limit, ContributionType type)
+			throws Exception {
+		List<String> ids = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			ContributionPageData page =
+					service.findContributions(vault, cursor, limit, type);
+			assertTrue(page.getContributions().size() <= limit);
+			page.getContributions().forEach(d -> ids.add(d.getId()));
+			cursor = page.getNext();
+			assertTrue(++pages <= 20, "the pages do not end");
+		} while (!Objects.isNull(cursor));
+		return ids;
+	}
+
+
+	@Test
+	void readsTheProviderWithItsContributions() throws Exception {
+		Provider provider = saveProvider();
+		String vault = vaultOf(provider);
+
+		Provider upserted = contributionStore.upsert(vault, general(0));
+		assertEquals(provider.getVersion() + 1, upserted.getVersion());
+		upserted = contributionStore.upsert(vault, detail(1));
+		assertEquals(provider.getVersion() + 2, upserted.getVersion());
+
+		Set<String> ids = Set.of(id(0), id(1));
+		String cuil = String.valueOf(provider.getCuil());
+		assertEquals(ids, contributions(service.findById(provider.getId())));
+		assertEquals(ids, contributions(service.findByCuit(cuil)));
+		assertEquals(ids, contributions(service.findById(provider.getId(),
+				SparseFields.parse("sucursal"))));
+		assertEquals(ids, contributions(service.findByCuit(cuil,
+				SparseFields.parse("sucursal"))));
+
+		RequestLookupData request = new RequestLookupData();
+		request.setIds(List.of(provider.getId()));
+		request.setCuils(List.of(cuil));
+		ResponseLookupData lookup = service.lookup(request);
+		assertEquals(ids,
+				contributions(lookup.getIds().get(provider.getId())));
+		assertEquals(ids, contributions(lookup.getCuils().get(cuil)));
+	}
+
+
+	private static Set<String> contributions(IUser user) {
+		return ((Provider) user).getSucursal().stream()
+				.flatMap(d -> d.getContribution().stream())
+				.map(IContribution::getId).collect(Collectors.toSet());
+	}
+
+
+	private Provider saveProvider() {
+		Vault vault = new Vault();
+		vault.setId(new ObjectId().toHexString());
+		vault.setContact("Maria Gomez");
+		vault.setAddress(new Address());
+
+		List<IVault> sucursal = new ArrayList<>();
+		sucursal.add(vault);
+		return providerRepository.save(new Provider("Distribuidora del Sur",
+				"contacto@distribuidoradelsur.com", null, "98765",
+				"601-5554433", true, 301234567890L, "Maria Gomez", sucursal));
+	}
+
+
+	private static String vaultOf(Provider provider) {
+		return provider.getSucursal().iterator().next().getId();
+	}
+
+
+	private GeneralContributionData general(int index) throws Exception {
+		GeneralContributionData general = objectMapper.readValue(
+				"{\"volume\":" + VOLUME + "}", GeneralContributionData.class);
+		general.setId(id(index));
+		general.setDescription("Arroz, frijol y aceite");
+		return general;
+	}
+
+
+	private DetailContributionData detail(int index) {
+		DetailContributionData detail = new DetailContributionData();
+		detail.setId(id(index));
+		detail.setDescription("Mercado del mes");
+		return detail;
+	}
+
+
+	private static String id(int index) {
+		return String.format("60a0c0d1e2f3a4b5c6d7%04x", index);
+	}
+
+}
@@ -0,0 +1,14 @@
+package co.com.foodbank.user.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import co.com.foodbank.user.UserApplication;
+
+/**
+ * The contributions embedded in the provider, the cursor of the pages is the
+ * position of the contribution in the vault.
+ */
+@SpringBootTest(classes = UserApplication.class,
+		properties = "user.contribution.storage=embedded")
+class EmbeddedContributionStoreTest extends ContributionStoreTest {
+
+}
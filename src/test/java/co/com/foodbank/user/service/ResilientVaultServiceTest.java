@@ -0,0 +1,149 @@
+package co.com.foodbank.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.net.httpserver.HttpServer;
+import co.com.foodbank.user.config.VaultClientProperties;
+import co.com.foodbank.vault.dto.VaultDTO;
+import co.com.foodbank.vault.sdk.exception.SDKVaultServiceNotAvailableException;
+import co.com.foodbank.vault.sdk.model.ResponseVaultData;
+import co.com.foodbank.vault.sdk.service.SDKVaultService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Calls to a stub vault server that answers late or with errors.
+ */
+class ResilientVaultServiceTest {
+
+	private HttpServer server;
+
+	private final AtomicInteger hits = new AtomicInteger();
+
+	private volatile long latency;
+
+	private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+
+	private final ResponseVaultData vault = mock(ResponseVaultData.class);
+
+	private ResilientVaultService service;
+
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/vault", exchange -> {
+			hits.incrementAndGet();
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			Integer status = statuses.poll();
+			exchange.sendResponseHeaders(status == null ? 200 : status, -1);
+			exchange.close();
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+
+		SDKVaultService sdk = mock(SDKVaultService.class);
+		when(sdk.create(any())).thenAnswer(d -> {
+			callVault();
+			return vault;
+		});
+
+		VaultClientProperties properties = new VaultClientProperties();
+		properties.setTimeout(Duration.ofMillis(300));
+		properties.setRetryInitialInterval(Duration.ofMillis(10));
+		properties.setSlidingWindowSize(4);
+		properties.setMinimumNumberOfCalls(4);
+		properties.setWaitDurationInOpenState(Duration.ofMinutes(1));
+
+		service = new ResilientVaultService(sdk, properties,
+				new SimpleMeterRegistry());
+	}
+
+
+	@AfterEach
+	void tearDown() throws Exception {
+		service.close();
+		server.stop(0);
+	}
+
+
+	@Test
+	void createReturnsTheVault() throws Exception {
+		assertSame(vault, service.create(mock(VaultDTO.class)));
+		assertEquals(1, hits.get());
+	}
+
+
+	@Test
+	void createOnSlowVaultIsNotAvailable() {
+		latency = 2000;
+
+		long start = System.nanoTime();
+		assertThrows(SDKVaultServiceNotAvailableException.class,
+				() -> service.create(mock(VaultDTO.class)));
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(elapsed < 1000, "waited " + elapsed + "ms");
+		assertEquals(1, hits.get(), "create is not retried");
+	}
+
+
+	@Test
+	void idempotentCallIsRetried() throws Exception {
+		statuses.add(503);
+		statuses.add(503);
+
+		assertEquals(200, service.execute(this::callVault, true));
+		assertEquals(3, hits.get());
+	}
+
+
+	@Test
+	void circuitOpensWhenTheVaultFails() {
+		for (int i = 0; i < 4; i++) {
+			statuses.add(503);
+			assertThrows(SDKVaultServiceNotAvailableException.class,
+					() -> service.create(mock(VaultDTO.class)));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, service.getState());
+
+		assertThrows(SDKVaultServiceNotAvailableException.class,
+				() -> service.create(mock(VaultDTO.class)));
+		assertEquals(4, hits.get(), "open circuit does not call the vault");
+	}
+
+
+	private int callVault() throws IOException {
+		URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort()
+				+ "/vault");
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		try (InputStream body = connection.getInputStream()) {
+			return connection.getResponseCode();
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+}
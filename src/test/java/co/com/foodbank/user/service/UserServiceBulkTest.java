@@ -0,0 +1,134 @@
+package co.com.foodbank.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.foodbank.user.MongoTestServer;
+import co.com.foodbank.user.UserApplication;
+import co.com.foodbank.user.dto.VolunterDTO;
+import co.com.foodbank.user.repository.UserIndexManager;
+import co.com.foodbank.user.repository.UserRepository;
+import co.com.foodbank.user.v1.dto.BulkItemData;
+import co.com.foodbank.user.v1.dto.ResponseBulkData;
+
+/**
+ * The bulk create reports each element in its position, the errors of the
+ * unordered insert are given by the position in the written users and are
+ * moved back to the position in the request, past the invalid elements that
+ * were not written. The duplicates are rejected by the unique indexes, so
+ * they are built before.
+ */
+@SpringBootTest(classes = UserApplication.class)
+class UserServiceBulkTest {
+
+	private static final String VOLUNTER = "{\"name\":\"Federico Pelaez\","
+			+ "\"email\":\"federico.pelaez@gmail.com\","
+			+ "\"password\":\"6546546\",\"phones\":\"98798-696\","
+			+ "\"dni\":\"%s\","
+			+ "\"address\":{\"district\":\"Bogota\",\"postalCode\":\"DC-96\","
+			+ "\"streetName\":\"Marcelo T alvear\",\"streetNumber\":65,"
+			+ "\"country\":{\"name\":\"Colombia\"}},"
+			+ "\"vehicule\":{\"brand\":\"Renault\",\"capacity\":50,"
+			+ "\"carPLate\":\"REK487\",\"volume\":{\"height\":\"12\","
+			+ "\"width\":\"12\",\"weight\":6}}}";
+
+	@Autowired
+	private UserService service;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserIndexManager indexManager;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+
+	@DynamicPropertySource
+	static void mongo(DynamicPropertyRegistry registry) {
+		MongoTestServer.register(registry);
+	}
+
+
+	/**
+	 * The test server does not filter the partial indexes, the volunteers
+	 * have no cuil and would all be duplicates of the cuil index.
+	 */
+	@BeforeEach
+	void indexes() {
+		userRepository.deleteAll();
+		indexManager.ensureIndexes();
+		mongoTemplate.getCollection(UserIndexManager.USER_COLLECTION)
+				.dropIndex(new Document("cuil", 1));
+	}
+
+
+	@Test
+	void rejectsOnlyTheInvalidAndDuplicatedElements() throws Exception {
+		service.createVolunters(List.of(volunter("75094000")));
+
+		List<VolunterDTO> request = new ArrayList<>(Arrays.asList(
+				volunter("75094001"), null, volunter("75094002"),
+				volunter("75094a"), volunter("75094000"),
+				volunter("75094003"), volunter("75094002"),
+				volunter("75094004")));
+
+		ResponseBulkData response = service.createVolunters(request);
+
+		List<BulkItemData> items = response.getItems();
+		assertEquals(request.size(), items.size());
+		for (int i = 0; i < items.size(); i++) {
+			assertEquals(i, items.get(i).getIndex());
+		}
+
+		/** THE INVALID ELEMENTS ARE NOT WRITTEN */
+		assertRejected(items.get(1));
+		assertRejected(items.get(3));
+
+		/** THE ONE STORED BEFORE AND THE SECOND OF THE SAME BATCH */
+		assertRejected(items.get(4));
+		assertRejected(items.get(6));
+
+		for (int i : new int[] {0, 2, 5, 7}) {
+			assertTrue(items.get(i).isCreated(), items.get(i).getError());
+			assertNotNull(items.get(i).getId());
+			assertNull(items.get(i).getError());
+			assertTrue(userRepository.existsById(items.get(i).getId()));
+		}
+		assertEquals(4, response.getCreated());
+		assertEquals(4, response.getRejected());
+		assertEquals(5, userRepository.count());
+	}
+
+
+	private static void assertRejected(BulkItemData item) {
+		assertFalse(item.isCreated(), "item " + item.getIndex());
+		assertNull(item.getId());
+		assertNotNull(item.getError());
+	}
+
+
+	private VolunterDTO volunter(String dni) throws Exception {
+		return objectMapper.readValue(String.format(VOLUNTER, dni),
+				VolunterDTO.class);
+	}
+
+}
@@ -0,0 +1,111 @@
+package co.com.foodbank.user.v1.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import co.com.foodbank.contribution.dto.interfaces.IContribution;
+import co.com.foodbank.contribution.dto.response.DetailContributionData;
+import co.com.foodbank.vault.dto.interfaces.IVault;
+import co.com.foodbank.vault.v1.model.Vault;
+
+class ProviderAggregateTest {
+
+	@Test
+	void replaceKeepsThePlaceOfTheContribution() {
+		Vault vault = vault("v1", contribution("c1", "a"),
+				contribution("c2", "a"), contribution("c3", "a"));
+		ProviderAggregate aggregate = ProviderAggregate.of(provider(vault));
+
+		DetailContributionData replaced = contribution("c2", "b");
+		assertTrue(aggregate.putContribution("v1", replaced));
+		assertTrue(aggregate.putContribution("v1", contribution("c4", "a")));
+
+		assertEquals(List.of("c1", "c2", "c3", "c4"), ids(vault));
+		assertSame(replaced, new ArrayList<>(vault.getContribution()).get(1));
+		assertSame(replaced, aggregate.findContribution("v1", "c2").get());
+	}
+
+
+	@Test
+	void vaultWithoutContributionsGetsAList() {
+		Vault vault = vault("v1");
+		ProviderAggregate aggregate = ProviderAggregate.of(provider(vault));
+
+		assertTrue(aggregate.putContribution("v1", contribution("c1", "a")));
+		assertTrue(aggregate.putContribution("v1", contribution("c2", "a")));
+
+		assertEquals(List.of("c1", "c2"), ids(vault));
+	}
+
+
+	@Test
+	void vaultOfAnotherTypeWithoutContributionsIsNotChanged() {
+		IVault vault = mock(IVault.class);
+		when(vault.getId()).thenReturn("v1");
+		when(vault.getContribution()).thenReturn(null);
+		Provider provider = provider(vault);
+		ProviderAggregate aggregate = ProviderAggregate.of(provider);
+
+		assertFalse(aggregate.putContribution("v1", contribution("c1", "a")));
+		assertFalse(aggregate.putContribution("v2", contribution("c1", "a")));
+		assertTrue(aggregate.findContribution("v1", "c1").isEmpty());
+	}
+
+
+	@Test
+	void findsBeforeAndAfterThePuts() {
+		Vault first = vault("v1", contribution("c1", "a"));
+		Vault second = vault("v2");
+		ProviderAggregate aggregate =
+				ProviderAggregate.of(provider(first, second));
+
+		assertSame(second, aggregate.findVault("v2").get());
+		assertEquals("c1", aggregate.findContribution("v1", "c1").get().getId());
+		assertTrue(aggregate.findVault("v3").isEmpty());
+
+		aggregate.putContribution("v2", contribution("c2", "a"));
+		assertSame(second, aggregate.findVault("v2").get());
+		assertEquals("c2", aggregate.findContribution("v2", "c2").get().getId());
+		assertTrue(aggregate.findContribution("v2", "c1").isEmpty());
+	}
+
+
+	private static Provider provider(IVault... vaults) {
+		Provider provider = new Provider();
+		provider.setSucursal(new ArrayList<>(List.of(vaults)));
+		return provider;
+	}
+
+
+	private static Vault vault(String id, IContribution... contributions) {
+		Vault vault = new Vault();
+		vault.setId(id);
+		if (contributions.length > 0) {
+			vault.setContribution(new ArrayList<>(List.of(contributions)));
+		}
+		return vault;
+	}
+
+
+	private static DetailContributionData contribution(String id,
+			String description) {
+		DetailContributionData contribution = new DetailContributionData();
+		contribution.setId(id);
+		contribution.setDescription(description);
+		return contribution;
+	}
+
+
+	private static List<String> ids(IVault vault) {
+		return vault.getContribution().stream().map(IContribution::getId)
+				.collect(Collectors.toList());
+	}
+
+}